@@ -34,6 +34,10 @@ mkdir -p src/main/resources/static
 echo "📋 Copying built files to src/main/resources/static/..."
 cp -r ui/dist/* src/main/resources/static/
 
+# Brotli and gzip variants, served instead of the originals to clients that accept them
+echo "🗜️  Precompressing static files..."
+node scripts/compress-static.mjs src/main/resources/static
+
 echo "✅ Frontend built and copied successfully!"
 echo ""
 echo "📍 Static files are now in: src/main/resources/static/"
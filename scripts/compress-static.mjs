@@ -0,0 +1,47 @@
+// Writes .br and .gz siblings next to every compressible file under the given directory, so the backend
+// can serve them as is instead of compressing on each request. Variants that would not be smaller are skipped.
+// Usage: node scripts/compress-static.mjs <directory>
+
+import { readdirSync, readFileSync, statSync, writeFileSync } from "node:fs";
+import { extname, join } from "node:path";
+import { brotliCompressSync, constants, gzipSync } from "node:zlib";
+
+const COMPRESSIBLE = new Set([".html", ".js", ".mjs", ".css", ".svg", ".json", ".txt", ".xml", ".map", ".webmanifest", ".ico", ".wasm"]);
+const MIN_SIZE = 1024;
+
+const root = process.argv[2];
+if (!root) {
+  console.error("Usage: node scripts/compress-static.mjs <directory>");
+  process.exit(1);
+}
+
+let written = 0;
+function walk(directory) {
+  for (const name of readdirSync(directory)) {
+    const path = join(directory, name);
+    const stats = statSync(path);
+    if (stats.isDirectory()) {
+      walk(path);
+    } else if (COMPRESSIBLE.has(extname(name)) && stats.size >= MIN_SIZE) {
+      const content = readFileSync(path);
+      const brotli = brotliCompressSync(content, {
+        params: {
+          [constants.BROTLI_PARAM_QUALITY]: constants.BROTLI_MAX_QUALITY,
+          [constants.BROTLI_PARAM_SIZE_HINT]: content.length,
+        },
+      });
+      const gzip = gzipSync(content, { level: 9 });
+      for (const [extension, compressed] of [[".br", brotli], [".gz", gzip]]) {
+        if (compressed.length < content.length) {
+          writeFileSync(path + extension, compressed);
+          written++;
+        }
+      }
+    }
+  }
+}
+
+if (statSync(root, { throwIfNoEntry: false })?.isDirectory()) {
+  walk(root);
+}
+console.log(`Precompressed ${written} static file variants in ${root}`);
@@ -0,0 +1,59 @@
+package com.personal.tickets.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Entities.TicketType;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+import com.personal.tickets.dtos.CreateEventRequestDto;
+import com.personal.tickets.dtos.CreateTicketTypeRequestDto;
+
+/**
+ * Shared inputs, sized like a large real event rather than a unit-test fixture.
+ */
+final class BenchmarkFixtures {
+
+	private static final LocalDateTime START = LocalDateTime.of(2026, 9, 1, 19, 0);
+
+	private BenchmarkFixtures() {}
+
+	static Event event(int ticketTypes) {
+		Event event = new Event();
+		event.setId(UUID.randomUUID());
+		event.setName("Benchmark festival");
+		event.setVenue("Main arena");
+		event.setStartDate(START);
+		event.setEndDate(START.plusHours(6));
+		event.setSalesStartDate(START.minusMonths(2));
+		event.setSalesEndDate(START);
+		event.setStatus(EventStatusEnum.PUBLISHED);
+		event.setCreatedAt(START.minusMonths(3));
+		event.setUpdatedAt(START.minusMonths(3));
+		for (int i = 0; i < ticketTypes; i++) {
+			TicketType ticketType = new TicketType();
+			ticketType.setId(UUID.randomUUID());
+			ticketType.setName("Tier " + i);
+			ticketType.setPrice(10.0 + i);
+			ticketType.setDescription("Ticket tier number " + i);
+			ticketType.setTotalAvailable(1000);
+			ticketType.setEvent(event);
+			ticketType.setCreatedAt(event.getCreatedAt());
+			ticketType.setUpdatedAt(event.getUpdatedAt());
+			event.getTicketTypes().add(ticketType);
+		}
+		return event;
+	}
+
+	static CreateEventRequestDto createEventRequest(int ticketTypes) {
+		List<CreateTicketTypeRequestDto> ticketTypeRequests = new ArrayList<>(ticketTypes);
+		for (int i = 0; i < ticketTypes; i++) {
+			ticketTypeRequests.add(new CreateTicketTypeRequestDto("Tier " + i, 10.0 + i, "Ticket tier number " + i, 1000));
+		}
+		return new CreateEventRequestDto(
+				"Benchmark festival", START, START.plusHours(6), "Main arena",
+				START.minusMonths(2), START, EventStatusEnum.PUBLISHED, ticketTypeRequests);
+	}
+}
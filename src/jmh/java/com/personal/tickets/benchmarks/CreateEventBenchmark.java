@@ -0,0 +1,68 @@
+package com.personal.tickets.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.personal.tickets.TicketsApplication;
+import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Entities.User;
+import com.personal.tickets.domain.Requests.CreateEventRequest;
+import com.personal.tickets.mappers.EventMapper;
+import com.personal.tickets.repositories.UserRepository;
+import com.personal.tickets.services.EventService;
+
+/**
+ * {@code EventService.createEvent} against the full application context on in-memory H2 (the test
+ * classpath configuration), so the numbers include Hibernate flushing and JDBC batching of ticket types.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreateEventBenchmark {
+
+	@Param({"5", "200"})
+	private int ticketTypes;
+
+	private ConfigurableApplicationContext context;
+	private EventService eventService;
+	private UUID organizerId;
+	private CreateEventRequest createEventRequest;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplication(TicketsApplication.class).run("--spring.main.banner-mode=off", "--logging.level.root=WARN");
+		eventService = context.getBean(EventService.class);
+		organizerId = context.getBean(UserRepository.class)
+				.save(User.builder().id(UUID.randomUUID()).name("organizer").email("organizer@example.com").build())
+				.getId();
+		createEventRequest = context.getBean(EventMapper.class).fromDto(BenchmarkFixtures.createEventRequest(ticketTypes));
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Event createEvent() {
+		return eventService.createEvent(organizerId, createEventRequest);
+	}
+}
@@ -0,0 +1,64 @@
+package com.personal.tickets.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Requests.CreateEventRequest;
+import com.personal.tickets.dtos.CreateEventRequestDto;
+import com.personal.tickets.dtos.CreateEventResponseDto;
+import com.personal.tickets.dtos.GetPublishedEventDetailsResponseDto;
+import com.personal.tickets.mappers.EventMapper;
+import com.personal.tickets.mappers.EventMapperImpl;
+
+/**
+ * MapStruct conversions on the event create and read paths.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventMapperBenchmark {
+
+	@Param({"5", "200"})
+	private int ticketTypes;
+
+	private EventMapper eventMapper;
+	private Event event;
+	private CreateEventRequestDto createEventRequestDto;
+
+	@Setup
+	public void setUp() {
+		eventMapper = new EventMapperImpl();
+		event = BenchmarkFixtures.event(ticketTypes);
+		createEventRequestDto = BenchmarkFixtures.createEventRequest(ticketTypes);
+	}
+
+	@Benchmark
+	public CreateEventRequest fromCreateEventRequestDto() {
+		return eventMapper.fromDto(createEventRequestDto);
+	}
+
+	@Benchmark
+	public CreateEventResponseDto toCreateEventResponseDto() {
+		return eventMapper.toDto(event);
+	}
+
+	@Benchmark
+	public GetPublishedEventDetailsResponseDto toPublishedEventDetails() {
+		return eventMapper.toGetPublishedEventDetailsResponseDto(event);
+	}
+}
@@ -0,0 +1,50 @@
+package com.personal.tickets.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.personal.tickets.dtos.CreateEventResponseDto;
+import com.personal.tickets.mappers.EventMapperImpl;
+
+/**
+ * Response serialization of a created event, with an ObjectMapper configured the way Spring Boot builds it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonSerializationBenchmark {
+
+	@Param({"5", "200"})
+	private int ticketTypes;
+
+	private ObjectWriter writer;
+	private CreateEventResponseDto response;
+
+	@Setup
+	public void setUp() {
+		writer = Jackson2ObjectMapperBuilder.json().build().writerFor(CreateEventResponseDto.class);
+		response = new EventMapperImpl().toDto(BenchmarkFixtures.event(ticketTypes));
+	}
+
+	@Benchmark
+	public byte[] serializeCreateEventResponse() throws JsonProcessingException {
+		return writer.writeValueAsBytes(response);
+	}
+}
@@ -0,0 +1,126 @@
+package com.personal.tickets.benchmarks;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.personal.tickets.config.UserProvisioningProperties;
+import com.personal.tickets.filters.ProvisionedUserCache;
+import com.personal.tickets.filters.UserProvisioningFilter;
+import com.personal.tickets.repositories.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * Per-request authentication cost: RS256 signature check and claim validation, then the provisioning
+ * filter for a user that is already known.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtProvisioningBenchmark {
+
+	private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+	private JwtDecoder jwtDecoder;
+	private String token;
+	private Jwt jwt;
+	private UserProvisioningFilter filter;
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+
+	@Setup
+	public void setUp() throws NoSuchAlgorithmException, JOSEException {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		KeyPair keyPair = generator.generateKeyPair();
+		UUID userId = UUID.randomUUID();
+
+		SignedJWT signedJwt = new SignedJWT(
+				new JWSHeader(JWSAlgorithm.RS256),
+				new JWTClaimsSet.Builder()
+						.subject(userId.toString())
+						.claim("name", "Bench Mark")
+						.claim("email", "bench@example.com")
+						.issueTime(new Date())
+						.expirationTime(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)))
+						.build());
+		signedJwt.sign(new RSASSASigner(keyPair.getPrivate()));
+		token = signedJwt.serialize();
+		jwtDecoder = NimbusJwtDecoder.withPublicKey((RSAPublicKey) keyPair.getPublic()).build();
+		jwt = jwtDecoder.decode(token);
+
+		// Only insertIfAbsent is reachable from the filter; the benchmark measures the provisioned fast path
+		UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+				UserRepository.class.getClassLoader(),
+				new Class<?>[] {UserRepository.class},
+				(proxy, method, args) -> {
+					if (method.getName().equals("insertIfAbsent")) {
+						return 1;
+					}
+					throw new UnsupportedOperationException(method.getName());
+				});
+		ProvisionedUserCache provisionedUserCache = new ProvisionedUserCache(new UserProvisioningProperties(), new SimpleMeterRegistry());
+		provisionedUserCache.markProvisioned(userId);
+		filter = new UserProvisioningFilter(userRepository, provisionedUserCache);
+		request = new MockHttpServletRequest("GET", "/api/v1/events");
+		response = new MockHttpServletResponse();
+		SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt, List.of()));
+	}
+
+	@TearDown
+	public void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Benchmark
+	public Jwt decodeJwt() {
+		return jwtDecoder.decode(token);
+	}
+
+	@Benchmark
+	public Jwt decodeJwtAndProvisionUser() throws ServletException, IOException {
+		Jwt decoded = jwtDecoder.decode(token);
+		filter.doFilter(request, response, NO_OP_CHAIN);
+		return decoded;
+	}
+}
@@ -0,0 +1,40 @@
+package com.personal.tickets.admission;
+
+import java.util.UUID;
+
+/**
+ * Queue counters and token buckets of the waiting rooms. {@link InMemoryAdmissionStore} keeps them per node;
+ * a shared implementation (e.g. on Redis) declared as a {@code @Primary} bean lets several nodes admit from
+ * one queue per event. Callers only pass ids of published events, so the number of rooms stays bounded.
+ */
+public interface AdmissionStore {
+
+    /**
+     * Admits the caller straight away if nobody is waiting and the bucket has a token to spare.
+     */
+    boolean tryAdmitDirectly(UUID eventId);
+
+    /**
+     * Appends a buyer to the event's queue and returns the 1-based position, or -1 if the queue already holds
+     * {@code maxQueueLength} buyers.
+     */
+    long enqueue(UUID eventId, long maxQueueLength);
+
+    /**
+     * Admits waiting buyers in queue order as far as the bucket allows and returns the highest admitted
+     * position.
+     */
+    long admittedThrough(UUID eventId);
+
+    /**
+     * Uses up the admission of an admitted position, so one queue token buys once.
+     *
+     * @return true only the first time for each position
+     */
+    boolean redeem(UUID eventId, long position);
+
+    /**
+     * Buyers per second admitted for the event.
+     */
+    double admissionRate(UUID eventId);
+}
@@ -0,0 +1,140 @@
+package com.personal.tickets.admission;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.personal.tickets.config.WaitingRoomProperties;
+
+/**
+ * Waiting rooms of this node: per event a token bucket refilled at the event's admission rate, a counter of
+ * positions handed out, a counter of positions admitted and a bitset of admitted positions already used for a
+ * purchase. All operations are a few arithmetic steps under the event's monitor.
+ */
+@Component
+public class InMemoryAdmissionStore implements AdmissionStore {
+
+    private final WaitingRoomProperties properties;
+    private final LongSupplier nanoTime;
+    private final Map<UUID, EventQueue> queues = new ConcurrentHashMap<>();
+
+    @Autowired
+    public InMemoryAdmissionStore(WaitingRoomProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    InMemoryAdmissionStore(WaitingRoomProperties properties, LongSupplier nanoTime) {
+        this.properties = properties;
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public boolean tryAdmitDirectly(UUID eventId) {
+        return queue(eventId).tryAdmitDirectly(nanoTime.getAsLong());
+    }
+
+    @Override
+    public long enqueue(UUID eventId, long maxQueueLength) {
+        return queue(eventId).enqueue(nanoTime.getAsLong(), maxQueueLength);
+    }
+
+    @Override
+    public long admittedThrough(UUID eventId) {
+        return queue(eventId).admittedThrough(nanoTime.getAsLong());
+    }
+
+    @Override
+    public boolean redeem(UUID eventId, long position) {
+        return queue(eventId).redeem(position);
+    }
+
+    @Override
+    public double admissionRate(UUID eventId) {
+        return properties.getEventAdmissionRates().getOrDefault(eventId, properties.getAdmissionRate());
+    }
+
+    // Drained rooms idle for a token lifetime have no valid tokens left and are dropped
+    @Scheduled(fixedDelayString = "${tickets.waiting-room.token-ttl:PT30M}")
+    public void evictIdle() {
+        long now = nanoTime.getAsLong();
+        long idleNanos = properties.getTokenTtl().toNanos();
+        queues.values().removeIf(queue -> queue.isIdleSince(now, idleNanos));
+    }
+
+    private EventQueue queue(UUID eventId) {
+        EventQueue queue = queues.get(eventId);
+        if (queue == null) {
+            queue = queues.computeIfAbsent(eventId,
+                    id -> new EventQueue(admissionRate(id), properties.getBurst(), nanoTime.getAsLong()));
+        }
+        return queue;
+    }
+
+    private static final class EventQueue {
+
+        private final double tokensPerNano;
+        private final double burst;
+        private double tokens;
+        private long refilledAt;
+        private long issued;
+        private long admitted;
+        // Bit p - 1 is set once position p has purchased; at most one bit per position handed out
+        private final BitSet redeemed = new BitSet();
+
+        EventQueue(double admissionRate, int burst, long now) {
+            this.tokensPerNano = admissionRate / 1_000_000_000d;
+            this.burst = burst;
+            this.tokens = burst;
+            this.refilledAt = now;
+        }
+
+        synchronized boolean tryAdmitDirectly(long now) {
+            advance(now);
+            if (issued == admitted && tokens >= 1) {
+                tokens--;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized long enqueue(long now, long maxQueueLength) {
+            advance(now);
+            if (issued - admitted >= maxQueueLength) {
+                return -1;
+            }
+            return ++issued;
+        }
+
+        synchronized long admittedThrough(long now) {
+            advance(now);
+            return admitted;
+        }
+
+        synchronized boolean redeem(long position) {
+            if (position < 1 || position > admitted || position > Integer.MAX_VALUE || redeemed.get((int) position - 1)) {
+                return false;
+            }
+            redeemed.set((int) position - 1);
+            return true;
+        }
+
+        synchronized boolean isIdleSince(long now, long idleNanos) {
+            return issued == admitted && now - refilledAt > idleNanos;
+        }
+
+        // Refills the bucket, then spends whole tokens on waiting buyers in queue order
+        private void advance(long now) {
+            tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+            long grant = Math.min((long) tokens, issued - admitted);
+            admitted += grant;
+            tokens -= grant;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.personal.tickets.admission;
+
+import java.time.Clock;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.personal.tickets.admission.QueueTokenCodec.QueueToken;
+import com.personal.tickets.catalog.PublishedEventCatalog;
+import com.personal.tickets.config.WaitingRoomProperties;
+import com.personal.tickets.domain.Enums.AdmissionDecision;
+import com.personal.tickets.domain.Results.AdmissionResult;
+import com.personal.tickets.exceptions.EventNotFoundException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Admission control for ticket purchases. While an event's demand stays below its admission rate, buyers go
+ * straight through; once it exceeds it, they receive a signed queue token with their position and are
+ * admitted first come, first served at the configured rate. An admitted token is good for one purchase.
+ * Every decision is made in memory, before the purchase reaches JPA, and rooms exist only for events in the
+ * published catalog. Decisions are counted as {@code tickets.admission{decision}}.
+ */
+@Component
+public class WaitingRoom {
+
+    private final WaitingRoomProperties properties;
+    private final AdmissionStore admissionStore;
+    private final PublishedEventCatalog publishedEventCatalog;
+    private final QueueTokenCodec tokenCodec;
+    private final Clock clock;
+    private final Counter[] decisions;
+
+    @Autowired
+    public WaitingRoom(
+            WaitingRoomProperties properties,
+            AdmissionStore admissionStore,
+            PublishedEventCatalog publishedEventCatalog,
+            MeterRegistry meterRegistry) {
+        this(properties, admissionStore, publishedEventCatalog, meterRegistry, Clock.systemUTC());
+    }
+
+    WaitingRoom(
+            WaitingRoomProperties properties,
+            AdmissionStore admissionStore,
+            PublishedEventCatalog publishedEventCatalog,
+            MeterRegistry meterRegistry,
+            Clock clock) {
+        this.properties = properties;
+        this.admissionStore = admissionStore;
+        this.publishedEventCatalog = publishedEventCatalog;
+        this.tokenCodec = new QueueTokenCodec(properties.getTokenSecret());
+        this.clock = clock;
+        AdmissionDecision[] values = AdmissionDecision.values();
+        this.decisions = new Counter[values.length];
+        for (AdmissionDecision decision : values) {
+            decisions[decision.ordinal()] = Counter.builder("tickets.admission")
+                    .description("Purchase admission decisions of the waiting room")
+                    .tag("decision", decision.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Decides whether the buyer may purchase now, and uses up the admission if so. A valid token is honoured
+     * once its position is admitted, for one purchase; a missing, expired, foreign or used token is treated as
+     * a new arrival. Unpublished events are let through, as the purchase itself rejects them.
+     */
+    public AdmissionResult admit(UUID eventId, UUID userId, String queueToken) {
+        if (!properties.isEnabled() || !publishedEventCatalog.isPublished(eventId)) {
+            return AdmissionResult.ADMITTED;
+        }
+        QueueToken token = tokenCodec.decode(queueToken, eventId, userId, clock.instant().getEpochSecond());
+        if (token != null) {
+            AdmissionResult result = position(token, queueToken);
+            if (!result.admitted()) {
+                return count(result);
+            }
+            if (admissionStore.redeem(eventId, token.position())) {
+                return count(AdmissionResult.ADMITTED);
+            }
+        }
+        if (admissionStore.tryAdmitDirectly(eventId)) {
+            return count(AdmissionResult.ADMITTED);
+        }
+        return count(join(eventId, userId));
+    }
+
+    /**
+     * Takes a place in the event's queue without attempting a purchase, e.g. when the sale page opens.
+     */
+    public AdmissionResult enqueue(UUID eventId, UUID userId) {
+        if (!properties.isEnabled()) {
+            return AdmissionResult.ADMITTED;
+        }
+        requirePublished(eventId);
+        return count(join(eventId, userId));
+    }
+
+    /**
+     * Current position of a token holder. Does not queue callers without a valid token.
+     *
+     * @throws IllegalArgumentException if the token is malformed, forged, expired or not the caller's
+     */
+    public AdmissionResult status(UUID eventId, UUID userId, String queueToken) {
+        if (!properties.isEnabled()) {
+            return AdmissionResult.ADMITTED;
+        }
+        requirePublished(eventId);
+        QueueToken token = tokenCodec.decode(queueToken, eventId, userId, clock.instant().getEpochSecond());
+        if (token == null) {
+            throw new IllegalArgumentException("Invalid or expired queue token");
+        }
+        return position(token, queueToken);
+    }
+
+    private void requirePublished(UUID eventId) {
+        if (!publishedEventCatalog.isPublished(eventId)) {
+            throw new EventNotFoundException("Event with ID '" + eventId + "' not found");
+        }
+    }
+
+    private AdmissionResult join(UUID eventId, UUID userId) {
+        long position = admissionStore.enqueue(eventId, properties.getMaxQueueLength());
+        if (position < 0) {
+            return new AdmissionResult(AdmissionDecision.QUEUE_FULL, null, 0, properties.getMaxQueueLength(),
+                    estimatedWaitSeconds(eventId, properties.getMaxQueueLength()));
+        }
+        long expiresAt = clock.instant().plus(properties.getTokenTtl()).getEpochSecond();
+        QueueToken token = new QueueToken(eventId, userId, position, expiresAt);
+        return position(token, tokenCodec.encode(token));
+    }
+
+    private AdmissionResult position(QueueToken token, String encoded) {
+        long admittedThrough = admissionStore.admittedThrough(token.eventId());
+        if (token.position() <= admittedThrough) {
+            return new AdmissionResult(AdmissionDecision.ADMITTED, encoded, token.position(), 0, 0);
+        }
+        long waitingAhead = token.position() - admittedThrough - 1;
+        return new AdmissionResult(AdmissionDecision.QUEUED, encoded, token.position(), waitingAhead,
+                estimatedWaitSeconds(token.eventId(), waitingAhead + 1));
+    }
+
+    private long estimatedWaitSeconds(UUID eventId, long buyers) {
+        return (long) Math.ceil(buyers / admissionStore.admissionRate(eventId));
+    }
+
+    private AdmissionResult count(AdmissionResult result) {
+        decisions[result.decision().ordinal()].increment();
+        return result;
+    }
+}
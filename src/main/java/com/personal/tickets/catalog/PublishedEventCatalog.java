@@ -0,0 +1,152 @@
+package com.personal.tickets.catalog;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.personal.tickets.domain.Messages.EventChangedMessage;
+import com.personal.tickets.domain.Projections.PublishedEventSummary;
+import com.personal.tickets.repositories.EventRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read side of the public event catalog. Holds a summary of every PUBLISHED event in memory and serves
+ * listing and search from an immutable {@link PublishedEventIndex}, so catalog reads never touch the database.
+ *
+ * <p>Writes only enqueue the changed event id. A single indexer thread reloads the queued summaries in one
+ * query and applies them to the index per event, coalescing bursts of writes into one pass; the rest of the
+ * catalog is neither re-read nor re-indexed. A periodic full reload on the same thread repairs anything a lost
+ * change notification left behind.
+ */
+@Component
+@Slf4j
+public class PublishedEventCatalog implements DisposableBean {
+
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 1_000;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private final EventRepository eventRepository;
+    private final Map<UUID, PublishedEventSummary> summaries = new ConcurrentHashMap<>();
+    private final Set<UUID> pendingRefreshes = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    // Bumped with every index swap, so anything derived from an older index can tell it is outdated
+    private final AtomicLong generation = new AtomicLong();
+    private final ExecutorService indexer;
+    private volatile PublishedEventIndex index = PublishedEventIndex.EMPTY;
+    // Only touched by the indexer thread
+    private long retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+
+    public PublishedEventCatalog(EventRepository eventRepository, ThreadFactory workerThreadFactory) {
+        this.eventRepository = eventRepository;
+        this.indexer = Executors.newSingleThreadExecutor(workerThreadFactory);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (PublishedEventSummary summary : eventRepository.findPublishedEventSummaries()) {
+            summaries.put(summary.id(), summary);
+        }
+        index = PublishedEventIndex.build(summaries.values());
+        generation.incrementAndGet();
+        log.info("📚 Published event catalog loaded with {} events", index.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedMessage message) {
+        pendingRefreshes.add(message.eventId());
+        if (refreshScheduled.compareAndSet(false, true)) {
+            indexer.execute(this::applyPendingRefreshes);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${tickets.catalog.reload-interval:PT5M}",
+            fixedDelayString = "${tickets.catalog.reload-interval:PT5M}")
+    public void scheduleReload() {
+        indexer.execute(this::reload);
+    }
+
+    public Page<PublishedEventSummary> search(String query, Pageable pageable) {
+        PublishedEventIndex.SearchResult result = index.search(query, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(result.content(), pageable, result.total());
+    }
+
+    public boolean isPublished(UUID eventId) {
+        return summaries.containsKey(eventId);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    private void applyPendingRefreshes() {
+        // Cleared before draining so that ids arriving during the pass schedule another one
+        refreshScheduled.set(false);
+        Set<UUID> eventIds = new HashSet<>(pendingRefreshes);
+        pendingRefreshes.removeAll(eventIds);
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        try {
+            List<PublishedEventSummary> refreshed = eventRepository.findPublishedEventSummariesByIdIn(eventIds);
+            eventIds.forEach(summaries::remove);
+            refreshed.forEach(summary -> summaries.put(summary.id(), summary));
+            index = index.withChanges(eventIds, refreshed);
+            generation.incrementAndGet();
+            retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+        } catch (RuntimeException e) {
+            // Kept pending and retried with a growing delay instead of spinning against a failing database
+            long delay = retryDelayMillis;
+            retryDelayMillis = Math.min(delay * 2, MAX_RETRY_DELAY_MILLIS);
+            log.error("❌ Failed to refresh published event catalog, retrying in {} ms: {}", delay, e.getMessage(), e);
+            pendingRefreshes.addAll(eventIds);
+            // A change arriving meanwhile joins the retry rather than scheduling its own pass
+            if (refreshScheduled.compareAndSet(false, true)) {
+                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, indexer).execute(this::applyPendingRefreshes);
+            }
+        }
+    }
+
+    private void reload() {
+        try {
+            Map<UUID, PublishedEventSummary> published = new HashMap<>();
+            for (PublishedEventSummary summary : eventRepository.findPublishedEventSummaries()) {
+                published.put(summary.id(), summary);
+            }
+            summaries.keySet().retainAll(published.keySet());
+            summaries.putAll(published);
+            index = PublishedEventIndex.build(summaries.values());
+            generation.incrementAndGet();
+        } catch (RuntimeException e) {
+            // The index stays as it is and incremental refreshes keep working until the next reload
+            log.error("❌ Failed to reload published event catalog: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        indexer.shutdownNow();
+    }
+}
@@ -0,0 +1,321 @@
+package com.personal.tickets.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.personal.tickets.domain.Projections.PublishedEventSummary;
+
+/**
+ * Immutable inverted index over the name and venue of published events. Events are kept in catalog order
+ * and every posting list holds ascending positions into that order, so a search is a merge of sorted int
+ * arrays and a page is a slice of the result, without any sorting at query time.
+ *
+ * <p>Changes are applied per event without rebuilding: a changed or removed event is masked out of the built
+ * arrays and its current summary, if still published, goes to a small overlay that searches merge in catalog
+ * order. Once the overlay and the masked events pass {@link #MAX_PENDING_CHANGES}, the next change rebuilds
+ * the index from the live events.
+ */
+final class PublishedEventIndex {
+
+    static final PublishedEventIndex EMPTY = build(List.of());
+
+    static final int MAX_PENDING_CHANGES = 1024;
+
+    private static final Comparator<PublishedEventSummary> CATALOG_ORDER = Comparator
+            .comparing(PublishedEventSummary::startDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(PublishedEventSummary::name, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(PublishedEventSummary::id);
+
+    private final PublishedEventSummary[] events;
+    private final String[] terms;
+    private final int[][] postings;
+    private final Map<UUID, Integer> positionsById;
+    // Positions of built events that were changed or removed since the build
+    private final BitSet superseded;
+    // Events changed or published since the build, in catalog order, with their tokens
+    private final PublishedEventSummary[] overlay;
+    private final String[][] overlayTokens;
+    private final int size;
+
+    private PublishedEventIndex(
+            PublishedEventSummary[] events,
+            String[] terms,
+            int[][] postings,
+            Map<UUID, Integer> positionsById,
+            BitSet superseded,
+            PublishedEventSummary[] overlay,
+            String[][] overlayTokens) {
+        this.events = events;
+        this.terms = terms;
+        this.postings = postings;
+        this.positionsById = positionsById;
+        this.superseded = superseded;
+        this.overlay = overlay;
+        this.overlayTokens = overlayTokens;
+        this.size = events.length - superseded.cardinality() + overlay.length;
+    }
+
+    static PublishedEventIndex build(Collection<PublishedEventSummary> summaries) {
+        PublishedEventSummary[] events = summaries.toArray(new PublishedEventSummary[0]);
+        Arrays.sort(events, CATALOG_ORDER);
+
+        Map<UUID, Integer> positionsById = new HashMap<>();
+        Map<String, IntArray> postingsByTerm = new HashMap<>();
+        for (int position = 0; position < events.length; position++) {
+            positionsById.put(events[position].id(), position);
+            for (String term : tokenize(events[position].name() + " " + events[position].venue())) {
+                // Positions are visited in ascending order, so only the last entry can be a duplicate
+                IntArray posting = postingsByTerm.computeIfAbsent(term, t -> new IntArray());
+                if (posting.size == 0 || posting.values[posting.size - 1] != position) {
+                    posting.add(position);
+                }
+            }
+        }
+
+        String[] terms = postingsByTerm.keySet().toArray(new String[0]);
+        Arrays.sort(terms);
+        int[][] postings = new int[terms.length][];
+        for (int i = 0; i < terms.length; i++) {
+            postings[i] = postingsByTerm.get(terms[i]).toArray();
+        }
+        return new PublishedEventIndex(events, terms, postings, positionsById, new BitSet(),
+                new PublishedEventSummary[0], new String[0][]);
+    }
+
+    /**
+     * Returns an index in which the given events are replaced by their current summaries; a changed id
+     * without a summary is no longer published. Costs the number of pending changes, not the catalog size.
+     */
+    PublishedEventIndex withChanges(Set<UUID> changedIds, Collection<PublishedEventSummary> published) {
+        BitSet nextSuperseded = (BitSet) superseded.clone();
+        for (UUID eventId : changedIds) {
+            Integer position = positionsById.get(eventId);
+            if (position != null) {
+                nextSuperseded.set(position);
+            }
+        }
+        List<PublishedEventSummary> nextOverlay = new ArrayList<>(overlay.length + published.size());
+        for (PublishedEventSummary summary : overlay) {
+            if (!changedIds.contains(summary.id())) {
+                nextOverlay.add(summary);
+            }
+        }
+        nextOverlay.addAll(published);
+
+        if (nextOverlay.size() + nextSuperseded.cardinality() > MAX_PENDING_CHANGES) {
+            List<PublishedEventSummary> live = new ArrayList<>(events.length + nextOverlay.size());
+            for (int position = nextSuperseded.nextClearBit(0); position < events.length; position = nextSuperseded.nextClearBit(position + 1)) {
+                live.add(events[position]);
+            }
+            live.addAll(nextOverlay);
+            return build(live);
+        }
+
+        nextOverlay.sort(CATALOG_ORDER);
+        PublishedEventSummary[] overlaySummaries = nextOverlay.toArray(new PublishedEventSummary[0]);
+        String[][] tokens = new String[overlaySummaries.length][];
+        for (int i = 0; i < overlaySummaries.length; i++) {
+            tokens[i] = tokenize(overlaySummaries[i].name() + " " + overlaySummaries[i].venue()).toArray(new String[0]);
+        }
+        return new PublishedEventIndex(events, terms, postings, positionsById, nextSuperseded, overlaySummaries, tokens);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the requested page of events matching every query token. Each token matches as a prefix,
+     * so partially typed words already find results.
+     */
+    SearchResult search(String query, long offset, int limit) {
+        List<String> tokens = tokenize(query);
+        int[] matches = null;
+        for (String token : tokens) {
+            int[] tokenMatches = prefixMatches(token);
+            matches = matches == null ? tokenMatches : intersect(matches, tokenMatches);
+            if (matches.length == 0) {
+                break;
+            }
+        }
+        if (superseded.isEmpty() && overlay.length == 0) {
+            int total = matches == null ? events.length : matches.length;
+            return new SearchResult(slice(matches, total, offset, limit), total);
+        }
+        return mergeWithOverlay(matches, overlayMatches(tokens), offset, limit);
+    }
+
+    private List<PublishedEventSummary> overlayMatches(List<String> tokens) {
+        List<PublishedEventSummary> matches = new ArrayList<>();
+        for (int i = 0; i < overlay.length; i++) {
+            if (matchesEveryToken(overlayTokens[i], tokens)) {
+                matches.add(overlay[i]);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean matchesEveryToken(String[] eventTokens, List<String> queryTokens) {
+        for (String queryToken : queryTokens) {
+            boolean found = false;
+            for (String eventToken : eventTokens) {
+                if (eventToken.startsWith(queryToken)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Walks the live built matches and the overlay matches in catalog order; positions == null means every built event
+    private SearchResult mergeWithOverlay(int[] positions, List<PublishedEventSummary> overlayMatches, long offset, int limit) {
+        int builtCount = positions == null ? events.length : positions.length;
+        int liveBuilt = 0;
+        for (int i = 0; i < builtCount; i++) {
+            if (!superseded.get(positions == null ? i : positions[i])) {
+                liveBuilt++;
+            }
+        }
+        long total = liveBuilt + overlayMatches.size();
+        List<PublishedEventSummary> page = new ArrayList<>((int) Math.max(0, Math.min(limit, total - offset)));
+        long seen = 0;
+        int i = 0;
+        int o = 0;
+        while (page.size() < limit) {
+            while (i < builtCount && superseded.get(positions == null ? i : positions[i])) {
+                i++;
+            }
+            PublishedEventSummary next;
+            if (i < builtCount && (o == overlayMatches.size()
+                    || CATALOG_ORDER.compare(events[positions == null ? i : positions[i]], overlayMatches.get(o)) < 0)) {
+                next = events[positions == null ? i : positions[i]];
+                i++;
+            } else if (o < overlayMatches.size()) {
+                next = overlayMatches.get(o++);
+            } else {
+                break;
+            }
+            if (seen++ >= offset) {
+                page.add(next);
+            }
+        }
+        return new SearchResult(page, total);
+    }
+
+    private List<PublishedEventSummary> slice(int[] positions, int total, long offset, int limit) {
+        if (offset >= total) {
+            return List.of();
+        }
+        int from = (int) offset;
+        int to = (int) Math.min(total, offset + limit);
+        List<PublishedEventSummary> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            page.add(events[positions == null ? i : positions[i]]);
+        }
+        return page;
+    }
+
+    private int[] prefixMatches(String prefix) {
+        int first = lowerBound(prefix);
+        int last = first;
+        while (last < terms.length && terms[last].startsWith(prefix)) {
+            last++;
+        }
+        if (last - first == 0) {
+            return new int[0];
+        }
+        if (last - first == 1) {
+            return postings[first];
+        }
+        BitSet union = new BitSet(events.length);
+        for (int i = first; i < last; i++) {
+            for (int position : postings[i]) {
+                union.set(position);
+            }
+        }
+        return union.stream().toArray();
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (terms[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lowerCased = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lowerCased.length(); i++) {
+            boolean wordChar = i < lowerCased.length() && Character.isLetterOrDigit(lowerCased.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lowerCased.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    record SearchResult(List<PublishedEventSummary> content, long total) {}
+
+    private static final class IntArray {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.personal.tickets.catalog;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.personal.tickets.config.CatalogResponseCacheProperties;
+import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Entities.TicketType;
+import com.personal.tickets.domain.Messages.EventChangedMessage;
+import com.personal.tickets.domain.Projections.PublishedEventSummary;
+import com.personal.tickets.dtos.GetPublishedEventDetailsResponseDto;
+import com.personal.tickets.dtos.ListPublishedEventResponseDto;
+import com.personal.tickets.dtos.PageResponseDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Short-lived cache of public catalog responses together with their validators, so repeated anonymous
+ * browsing neither reads the database nor maps entities, and revalidations are answered with a 304 before
+ * anything is serialized.
+ * <p>
+ * Event details are dropped when the event changes. Listing pages are keyed by the catalog generation, so a
+ * rebuilt index is never hidden behind a page cached from the one before. The TTL bounds staleness on nodes
+ * that do not see the change notification. Hits and misses are exported as
+ * {@code cache.gets{cache="published-event-details"}} and {@code cache.gets{cache="published-event-pages"}}.
+ */
+@Component
+public class PublishedEventResponseCache {
+
+    private final PublishedEventCatalog publishedEventCatalog;
+    private final Cache<UUID, CachedResponse<GetPublishedEventDetailsResponseDto>> details;
+    private final Cache<PageKey, CachedResponse<PageResponseDto<ListPublishedEventResponseDto>>> pages;
+
+    public PublishedEventResponseCache(
+            PublishedEventCatalog publishedEventCatalog,
+            CatalogResponseCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this.publishedEventCatalog = publishedEventCatalog;
+        this.details = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaximumSize())
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaximumSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, details, "published-event-details");
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "published-event-pages");
+    }
+
+    /**
+     * Returns the cached details of a published event, loading and mapping them on a miss. Concurrent misses
+     * for the same event wait for a single load; unknown events are not cached.
+     */
+    public Optional<CachedResponse<GetPublishedEventDetailsResponseDto>> getDetails(
+            UUID eventId,
+            Supplier<Optional<Event>> loader,
+            Function<Event, GetPublishedEventDetailsResponseDto> mapper) {
+        return Optional.ofNullable(details.get(eventId, id -> loader.get()
+                .map(event -> new CachedResponse<>(mapper.apply(event), detailsEtag(event), lastModified(event)))
+                .orElse(null)));
+    }
+
+    /**
+     * Returns a cached page of the catalog listing. Queries that tokenize alike share an entry.
+     */
+    public CachedResponse<PageResponseDto<ListPublishedEventResponseDto>> getPage(
+            String query,
+            Pageable pageable,
+            Supplier<Page<PublishedEventSummary>> search,
+            Function<PublishedEventSummary, ListPublishedEventResponseDto> mapper) {
+        PageKey key = new PageKey(
+                publishedEventCatalog.generation(),
+                String.join(" ", PublishedEventIndex.tokenize(query)),
+                pageable.getOffset(),
+                pageable.getPageSize());
+        return pages.get(key, k -> {
+            Page<PublishedEventSummary> page = search.get();
+            return new CachedResponse<>(PageResponseDto.of(page.map(mapper)), pageEtag(page), null);
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedMessage message) {
+        details.invalidate(message.eventId());
+    }
+
+    /**
+     * Weak validator over the timestamps of the event and its ticket types, which the auditing listener moves
+     * on every write. Inventory counters are updated without touching them, which is fine because public
+     * details do not show availability. Derived from data only, so every node computes the same tag.
+     */
+    static String detailsEtag(Event event) {
+        long hash = hash(17, event.getId(), event.getUpdatedAt());
+        for (TicketType ticketType : event.getTicketTypes()) {
+            hash = hash(hash, ticketType.getId(), ticketType.getUpdatedAt());
+        }
+        return "W/\"event-" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Weak validator over what the page shows: its events, their last change and the total count.
+     */
+    static String pageEtag(Page<PublishedEventSummary> page) {
+        long hash = 31 * 17 + page.getTotalElements();
+        for (PublishedEventSummary summary : page.getContent()) {
+            hash = hash(hash, summary.id(), summary.updatedAt());
+        }
+        return "W/\"events-" + Long.toHexString(hash) + "\"";
+    }
+
+    private static Instant lastModified(Event event) {
+        LocalDateTime latest = event.getUpdatedAt();
+        for (TicketType ticketType : event.getTicketTypes()) {
+            if (latest == null || (ticketType.getUpdatedAt() != null && ticketType.getUpdatedAt().isAfter(latest))) {
+                latest = ticketType.getUpdatedAt();
+            }
+        }
+        return latest != null ? latest.atZone(ZoneId.systemDefault()).toInstant() : null;
+    }
+
+    private static long hash(long hash, UUID id, LocalDateTime updatedAt) {
+        hash = 31 * hash + id.getMostSignificantBits();
+        hash = 31 * hash + id.getLeastSignificantBits();
+        return 31 * hash + (updatedAt != null ? updatedAt.hashCode() : 0);
+    }
+
+    /**
+     * A response body with its validators; {@code lastModified} is null where no single timestamp describes it.
+     */
+    public record CachedResponse<T>(T body, String etag, Instant lastModified) {}
+
+    private record PageKey(long generation, String query, long offset, int size) {}
+}
@@ -0,0 +1,14 @@
+package com.personal.tickets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tickets.bulk-import")
+public class BulkImportProperties {
+    // Most events accepted by one bulk create request
+    private int maxEvents = 1000;
+    // Events persisted per transaction; their ticket types and outbox entries go into the same JDBC batches
+    private int chunkSize = 50;
+}
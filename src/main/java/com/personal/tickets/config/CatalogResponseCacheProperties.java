@@ -0,0 +1,16 @@
+package com.personal.tickets.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tickets.catalog-cache")
+public class CatalogResponseCacheProperties {
+    // Upper bound on how stale a cached response can be on a node that missed the change notification
+    private Duration ttl = Duration.ofSeconds(5);
+    // Event details and listing pages kept per node, each
+    private long maximumSize = 10000;
+}
@@ -0,0 +1,18 @@
+package com.personal.tickets.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tickets.db-concurrency")
+public class DatabaseConcurrencyProperties {
+    // Wrap the DataSource in a semaphore so callers queue cheaply instead of timing out inside the pool
+    private boolean enabled = false;
+    // Connections handed out at once, keep it equal to spring.datasource.hikari.maximum-pool-size
+    private int maxConcurrent = 10;
+    // How long a caller may queue for a permit before the request fails
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+}
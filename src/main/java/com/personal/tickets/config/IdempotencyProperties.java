@@ -0,0 +1,34 @@
+package com.personal.tickets.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tickets.idempotency")
+public class IdempotencyProperties {
+    // POST paths that honour the Idempotency-Key header
+    private List<String> paths = new ArrayList<>(List.of(
+            "/api/v1/events",
+            "/api/v1/events/bulk",
+            "/api/v1/events/{eventId}/ticket-types/{ticketTypeId}/tickets",
+            "/api/v1/events/{eventId}/ticket-types/{ticketTypeId}/holds",
+            "/api/v1/ticket-holds/{holdId}/tickets"));
+    // How long a response is replayed for its key
+    private Duration ttl = Duration.ofHours(24);
+    // Total response body bytes kept in memory before least recently used keys are evicted
+    private long cacheMaximumWeight = 64L * 1024 * 1024;
+    // Largest request body buffered for fingerprinting; bigger requests with a key are rejected with 413
+    private DataSize maxBodySize = DataSize.ofMegabytes(4);
+    // How long a retry waits for the original request with the same key before it is answered with 409
+    private Duration inFlightTimeout = Duration.ofSeconds(10);
+    // Also keep responses in the idempotency_keys table, so retries that land on another node are replayed too
+    private boolean databaseEnabled = false;
+    // Expired rows are deleted at this interval when the table is used
+    private Duration sweepInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,20 @@
+package com.personal.tickets.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tickets.jwt")
+public class JwtDecoderProperties {
+    // Number of already verified bearer tokens remembered until they expire
+    private long tokenCacheMaximumSize = 10_000;
+    // How often the JWK set is re-fetched in the background to pick up rotated keys
+    private Duration jwkRefreshInterval = Duration.ofMinutes(5);
+    // Minimum gap between on-demand re-fetches triggered by tokens signed with an unknown key
+    private Duration jwkMinRefreshInterval = Duration.ofSeconds(30);
+    // Connect and read timeout for discovery and JWK set requests
+    private Duration jwkFetchTimeout = Duration.ofSeconds(2);
+}
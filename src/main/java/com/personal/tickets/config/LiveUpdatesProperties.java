@@ -0,0 +1,20 @@
+package com.personal.tickets.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tickets.live")
+public class LiveUpdatesProperties {
+    // Changes are coalesced over this interval, so a subscriber gets at most one update per interval
+    private Duration publishInterval = Duration.ofMillis(250);
+    // Watched events are re-read at least this often, which picks up sales and scans made on other nodes
+    private Duration refreshInterval = Duration.ofSeconds(2);
+    // Idle streams get a comment line this often, so proxies keep them open and dead clients are noticed
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    // Streams are closed after this long; EventSource clients reconnect on their own
+    private Duration subscriptionTimeout = Duration.ofMinutes(30);
+}
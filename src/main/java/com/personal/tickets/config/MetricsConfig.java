@@ -0,0 +1,43 @@
+package com.personal.tickets.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.personal.tickets.persistence.ConcurrencyLimitedDataSource;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Metrics beyond what actuator binds on its own. HTTP requests ({@code http.server.requests}) and the Hikari
+ * pool ({@code hikaricp.connections.*}) are auto-instrumented; histograms for them and for our
+ * {@code tickets.*} meters are switched on in application.properties and scraped from /actuator/prometheus.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Backs @Timed on the service implementations: tickets.service{class,method,exception}
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    // Hikari only sees borrowers that got past the limiter, so the queue in front of it is exported too
+    @Bean
+    public MeterBinder databaseConcurrencyLimiterMetrics(DataSource dataSource) {
+        return meterRegistry -> {
+            if (dataSource instanceof ConcurrencyLimitedDataSource limited) {
+                Gauge.builder("tickets.db.permits.available", limited, ConcurrencyLimitedDataSource::availablePermits)
+                        .description("Database connection permits currently free")
+                        .register(meterRegistry);
+                Gauge.builder("tickets.db.permits.waiting", limited, ConcurrencyLimitedDataSource::queueLength)
+                        .description("Threads waiting for a database connection permit")
+                        .register(meterRegistry);
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.personal.tickets.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tickets.outbox")
+public class OutboxProperties {
+    // Safety net for entries whose commit-time wake-up was missed, e.g. written by another node or left by a failed dispatch
+    private Duration pollInterval = Duration.ofSeconds(1);
+    // Entries read and published per dispatcher transaction
+    private int batchSize = 500;
+    // How far behind its high-water mark each node re-reads; covers commit lag and clock skew between nodes
+    private Duration settleWindow = Duration.ofSeconds(10);
+    // How long entries stay readable by every node before they are pruned; must exceed the settle window
+    private Duration retention = Duration.ofHours(1);
+    private Duration pruneInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,24 @@
+package com.personal.tickets.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tickets.qr-images")
+public class QrCodeImageProperties {
+    // Total bytes of rendered images kept in memory before least recently used ones are evicted
+    private long cacheMaximumWeight = 64L * 1024 * 1024;
+    // Edge length of rendered PNGs in pixels
+    private int size = 300;
+    // Quiet zone around the code, in modules
+    private int margin = 2;
+    // How long browsers may reuse an image before revalidating it with its ETag
+    private Duration browserMaxAge = Duration.ofMinutes(5);
+    // Upper bound on images rendered ahead of time per event and scan
+    private int prerenderLimit = 20000;
+    // How often the codes of newly purchased tickets of events on sale are rendered ahead of time
+    private Duration prerenderInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,20 @@
+package com.personal.tickets.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tickets.scan-index")
+public class ScanIndexProperties {
+    // Events starting within this window are preloaded before doors open
+    private Duration preloadWindow = Duration.ofHours(6);
+    // Indexes nobody scanned against for this long are dropped
+    private Duration idleEviction = Duration.ofHours(6);
+    // How often preloading and eviction run
+    private Duration refreshInterval = Duration.ofMinutes(1);
+    // Largest offline scanner upload accepted in one batch validation request
+    private int batchMaxSize = 10000;
+}
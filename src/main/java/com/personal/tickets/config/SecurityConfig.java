@@ -1,24 +1,46 @@
 package com.personal.tickets.config;
 
 import com.personal.tickets.filters.UserProvisioningFilter;
+import com.personal.tickets.idempotency.IdempotencyFilter;
+import com.personal.tickets.metrics.TimedJwtDecoder;
+import com.personal.tickets.security.CachingJwtDecoder;
+import com.personal.tickets.security.JwkSetCache;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.config.Customizer;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Configuration
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, UserProvisioningFilter userProvisioningFilter) throws Exception {
+    public SecurityFilterChain filterChain(
+            HttpSecurity http,
+            UserProvisioningFilter userProvisioningFilter,
+            IdempotencyFilter idempotencyFilter,
+            JwtDecoder jwtDecoder,
+            MeterRegistry meterRegistry) throws Exception {
 
         http
             .csrf(csrf -> csrf.disable())
@@ -27,6 +49,8 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/actuator/health").permitAll()
                 .requestMatchers("/public/**").permitAll()
+                // Public event catalog is browsable without logging in
+                .requestMatchers(HttpMethod.GET, "/api/v1/published-events/**").permitAll()
                 // Allow all static resources (frontend build)
                 .requestMatchers("/", "/index.html", "/assets/**", "/css/**", "/js/**", "/images/**", "/favicon.ico", "/vite.svg", "/*.js", "/*.css", "/*.png", "/*.jpg", "/*.webp").permitAll()
                 // API endpoints require authentication
@@ -34,12 +58,39 @@ public class SecurityConfig {
                 // Everything else (SPA routes) is public - React Router will handle auth
                 .anyRequest().permitAll()
             )
-            .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()))
-            .addFilterAfter(userProvisioningFilter, BearerTokenAuthenticationFilter.class);
+            .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.decoder(new TimedJwtDecoder(jwtDecoder, meterRegistry))))
+            .addFilterAfter(userProvisioningFilter, BearerTokenAuthenticationFilter.class)
+            // Same position, added later, so it runs after the user is provisioned
+            .addFilterAfter(idempotencyFilter, BearerTokenAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * Verifies tokens against the in-memory {@link JwkSetCache} instead of fetching keys from Keycloak on
+     * first use, and skips verification for tokens already seen.
+     */
+    @Bean
+    public JwtDecoder jwtDecoder(
+            JwkSetCache jwkSetCache,
+            OAuth2ResourceServerProperties resourceServerProperties,
+            JwtDecoderProperties jwtDecoderProperties,
+            MeterRegistry meterRegistry) {
+        OAuth2ResourceServerProperties.Jwt jwtProperties = resourceServerProperties.getJwt();
+        Set<JWSAlgorithm> algorithms = new HashSet<>();
+        for (String algorithm : jwtProperties.getJwsAlgorithms()) {
+            algorithms.add(JWSAlgorithm.parse(algorithm));
+        }
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, jwkSetCache));
+        // Claims are checked by Spring's validators below
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {});
+
+        NimbusJwtDecoder nimbusJwtDecoder = new NimbusJwtDecoder(jwtProcessor);
+        nimbusJwtDecoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(jwtProperties.getIssuerUri()));
+        return new CachingJwtDecoder(nimbusJwtDecoder, jwtDecoderProperties, meterRegistry);
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
@@ -0,0 +1,145 @@
+package com.personal.tickets.config;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Answers every non-API path that is not a file with the SPA's index.html, so React Router can handle it.
+ * The page and its precompressed variants are read once and served from memory, and paths found not to be
+ * files are remembered, so client-side routes skip the classpath lookup after the first visit. Only those
+ * misses are kept here; resolved files are cached by the resolvers further down the chain.
+ */
+final class SpaIndexResolver extends AbstractResourceResolver {
+
+    private final IndexHtml identity;
+    private final IndexHtml gzip;
+    private final IndexHtml brotli;
+    private final Cache<String, Boolean> routes;
+
+    SpaIndexResolver(Resource indexHtml, long routeCacheSize) throws IOException {
+        long lastModified = indexHtml.exists() ? indexHtml.lastModified() : 0;
+        this.identity = IndexHtml.load(indexHtml, null, lastModified);
+        this.gzip = IndexHtml.load(indexHtml.createRelative("index.html.gz"), "gzip", lastModified);
+        this.brotli = IndexHtml.load(indexHtml.createRelative("index.html.br"), "br", lastModified);
+        this.routes = Caffeine.newBuilder().maximumSize(routeCacheSize).build();
+    }
+
+    @Override
+    @Nullable
+    protected Resource resolveResourceInternal(
+            @Nullable HttpServletRequest request,
+            @NonNull String requestPath,
+            @NonNull List<? extends Resource> locations,
+            @NonNull ResourceResolverChain chain) {
+        // API routes are left to the controllers, so a missing endpoint is a JSON 404 rather than the SPA
+        if (requestPath.startsWith("api/") || requestPath.startsWith("/api/")) {
+            return null;
+        }
+        // No frontend build on the classpath
+        if (identity == null) {
+            return chain.resolveResource(request, requestPath, locations);
+        }
+        if (requestPath.isEmpty() || requestPath.equals("index.html") || routes.getIfPresent(requestPath) != null) {
+            return index(request);
+        }
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource != null) {
+            return resource;
+        }
+        routes.put(requestPath, Boolean.TRUE);
+        return index(request);
+    }
+
+    @Override
+    @Nullable
+    protected String resolveUrlPathInternal(
+            @NonNull String resourceUrlPath,
+            @NonNull List<? extends Resource> locations,
+            @NonNull ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    private Resource index(@Nullable HttpServletRequest request) {
+        String acceptEncoding = request != null ? request.getHeader(HttpHeaders.ACCEPT_ENCODING) : null;
+        if (acceptEncoding != null) {
+            acceptEncoding = acceptEncoding.toLowerCase(Locale.ROOT);
+            if (brotli != null && acceptEncoding.contains("br")) {
+                return brotli;
+            }
+            if (gzip != null && acceptEncoding.contains("gzip")) {
+                return gzip;
+            }
+        }
+        return identity;
+    }
+
+    /**
+     * One encoding of index.html held in memory. Keeps the original file name, so the content type is still
+     * text/html, and reports the encoding through the response headers like Spring's own encoded resources.
+     */
+    private static final class IndexHtml extends ByteArrayResource implements HttpResource {
+
+        private final String coding;
+        private final long lastModified;
+
+        private IndexHtml(byte[] content, String coding, long lastModified) {
+            super(content, "index.html" + (coding != null ? " (" + coding + ")" : "") + " in memory");
+            this.coding = coding;
+            this.lastModified = lastModified;
+        }
+
+        @Nullable
+        static IndexHtml load(Resource resource, @Nullable String coding, long lastModified) throws IOException {
+            if (!resource.exists()) {
+                return null;
+            }
+            return new IndexHtml(resource.getContentAsByteArray(), coding, lastModified);
+        }
+
+        @Override
+        public String getFilename() {
+            return "index.html";
+        }
+
+        @Override
+        public long lastModified() {
+            return lastModified;
+        }
+
+        @Override
+        @NonNull
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            if (coding != null) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, coding);
+            }
+            headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            return headers;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
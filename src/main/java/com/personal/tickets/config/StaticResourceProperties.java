@@ -0,0 +1,16 @@
+package com.personal.tickets.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tickets.static-resources")
+public class StaticResourceProperties {
+    // Browser and CDN lifetime of the content-hashed files under /assets; a new build gets new file names
+    private Duration assetsMaxAge = Duration.ofDays(365);
+    // Client-side routes remembered as not being files, so repeated visits skip the classpath lookup
+    private long spaRouteCacheSize = 10000;
+}
@@ -0,0 +1,54 @@
+package com.personal.tickets.config;
+
+import java.util.concurrent.ThreadFactory;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.personal.tickets.persistence.ConcurrencyLimitedDataSource;
+
+/**
+ * Threading model shared by the web layer, @Async methods, @Scheduled jobs and our own background workers.
+ * With {@code spring.threads.virtual.enabled=true} (see application-virtual-threads.properties) Spring Boot
+ * runs Tomcat, the task executor and the task scheduler on virtual threads, and {@link #workerThreadFactory}
+ * makes the write-behind flushers and other background workers follow suit.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class ThreadingConfig {
+
+    @Bean
+    public ThreadFactory workerThreadFactory(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Thread.ofVirtual().name("worker-", 0).factory();
+        }
+        return Thread.ofPlatform().name("worker-", 0).daemon().factory();
+    }
+
+    @Bean
+    public static BeanPostProcessor databaseConcurrencyLimiter(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource
+                        || !environment.getProperty("tickets.db-concurrency.enabled", Boolean.class, false)) {
+                    return bean;
+                }
+                DatabaseConcurrencyProperties properties = Binder.get(environment)
+                        .bind("tickets.db-concurrency", DatabaseConcurrencyProperties.class)
+                        .orElseGet(DatabaseConcurrencyProperties::new);
+                return new ConcurrencyLimitedDataSource(dataSource, properties.getMaxConcurrent(), properties.getAcquireTimeout());
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.personal.tickets.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tickets.holds")
+public class TicketHoldProperties {
+    // Time a buyer has to complete checkout before the held units return to the pool
+    private Duration ttl = Duration.ofMinutes(10);
+    // Most units a single hold may reserve
+    private int maxQuantity = 10;
+    // Expired holds are released at most this long after they expire
+    private Duration sweepInterval = Duration.ofMillis(500);
+    // Holds released per sweeper transaction
+    private int sweepBatchSize = 1000;
+}
@@ -0,0 +1,16 @@
+package com.personal.tickets.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tickets.user-provisioning")
+public class UserProvisioningProperties {
+    // Number of already provisioned user ids remembered by the filter
+    private long cacheMaximumSize = 100_000;
+    // After this long an id is confirmed against the database again
+    private Duration cacheTtl = Duration.ofHours(1);
+}
@@ -0,0 +1,29 @@
+package com.personal.tickets.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tickets.waiting-room")
+public class WaitingRoomProperties {
+    // Gate ticket purchases through the per-event waiting room
+    private boolean enabled = false;
+    // Buyers admitted per second and event
+    private double admissionRate = 50;
+    // Buyers admitted at once after a quiet period
+    private int burst = 50;
+    // Admission rates for individual high-demand events, by event id
+    private Map<UUID, Double> eventAdmissionRates = new HashMap<>();
+    // Buyers allowed to wait per event; beyond that purchases are turned away with 503
+    private long maxQueueLength = 1_000_000;
+    // HMAC key for queue tokens, shared by all nodes; a random key per start is used when blank
+    private String tokenSecret = "";
+    // How long a queue token stays valid; once admitted it is good for one purchase
+    private Duration tokenTtl = Duration.ofMinutes(30);
+}
@@ -1,49 +1,58 @@
 package com.personal.tickets.config;
 
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.lang.NonNull;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.CachingResourceResolver;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
 import org.springframework.web.servlet.resource.PathResourceResolver;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import lombok.RequiredArgsConstructor;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final StaticResourceProperties staticResourceProperties;
+
     @Override
     public void addResourceHandlers(@NonNull ResourceHandlerRegistry registry) {
         // Serve static assets from the frontend build
-        // This handler has lower priority than controller mappings (controllers are matched first)
-        // Only handles requests that don't match API routes
+        // These handlers have lower priority than controller mappings (controllers are matched first)
+        // Both prefer the .br / .gz files written at build time (scripts/compress-static.mjs) when the client accepts them
+
+        // Vite puts a content hash in every file name under /assets, so a file never changes once published
+        registry.addResourceHandler("/assets/**")
+                .addResourceLocations("classpath:/static/assets/")
+                .setCacheControl(CacheControl.maxAge(staticResourceProperties.getAssetsMaxAge()).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+
+        // Everything else is index.html or an unhashed file next to it: cached, but revalidated on every use
+        SpaIndexResolver spaIndexResolver;
+        try {
+            spaIndexResolver = new SpaIndexResolver(
+                    new ClassPathResource("static/index.html"), staticResourceProperties.getSpaRouteCacheSize());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load static/index.html", e);
+        }
+        // The SPA resolver runs before the cache, so client-side routes do not each add an entry to it
         registry.addResourceHandler("/**")
                 .addResourceLocations("classpath:/static/")
-                .resourceChain(true)
-                .addResolver(new PathResourceResolver() {
-                    @Override
-                    protected Resource getResource(@NonNull String resourcePath, @NonNull Resource location) throws IOException {
-                        // Explicitly exclude API routes - these should be handled by controllers
-                        // If controller doesn't exist, NoHandlerFoundException will be thrown
-                        if (resourcePath.startsWith("api/") || resourcePath.startsWith("/api/")) {
-                            return null;
-                        }
-                        
-                        Resource requestedResource = location.createRelative(resourcePath);
-                        
-                        // If the requested static resource exists, serve it
-                        if (requestedResource.exists() && requestedResource.isReadable()) {
-                            return requestedResource;
-                        }
-                        
-                        // For SPA routes (all non-API routes), serve index.html
-                        // This allows React Router to handle client-side routing
-                        return new ClassPathResource("/static/index.html");
-                    }
-                });
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(false)
+                .addResolver(spaIndexResolver)
+                .addResolver(new CachingResourceResolver(new ConcurrentMapCache("static-resources")))
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new PathResourceResolver());
         // Note: Controllers have higher priority by default in Spring MVC
         // Resource handlers are matched after controller mappings fail
     }
 }
-
@@ -0,0 +1,22 @@
+package com.personal.tickets.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "tickets.write-behind")
+public class WriteBehindProperties {
+    // Upper bound on queued writes before producers are pushed back
+    private int capacity = 10_000;
+    // Flush as soon as this many writes are queued, keep it a multiple of hibernate.jdbc.batch_size
+    private int batchSize = 100;
+    // Flush a partial batch this long after its first write arrived
+    private Duration maxDelay = Duration.ofMillis(5);
+    // How long a producer waits for queue space before being rejected
+    private Duration offerTimeout = Duration.ofMillis(500);
+    // Concurrent flush transactions, each holding one pooled connection while it runs
+    private int flushers = 2;
+}
@@ -1,17 +1,47 @@
 package com.personal.tickets.controllers;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.personal.tickets.live.EventActivityHub;
 import com.personal.tickets.mappers.EventMapper;
 import com.personal.tickets.services.EventService;
+import com.personal.tickets.services.EventStatsService;
+import com.personal.tickets.services.TicketExportService;
+import com.personal.tickets.dtos.BulkCreateEventResultDto;
+import com.personal.tickets.dtos.BulkCreateEventsRequestDto;
+import com.personal.tickets.dtos.BulkCreateEventsResponseDto;
 import com.personal.tickets.dtos.CreateEventRequestDto;
 import com.personal.tickets.dtos.CreateEventResponseDto;
+import com.personal.tickets.dtos.CursorPageResponseDto;
+import com.personal.tickets.dtos.EventStatsResponseDto;
+import com.personal.tickets.dtos.GetEventDetailsResponseDto;
+import com.personal.tickets.dtos.ListEventResponseDto;
+import com.personal.tickets.dtos.PageResponseDto;
 import com.personal.tickets.domain.Requests.CreateEventRequest;
 import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Enums.BulkItemStatus;
+import com.personal.tickets.pagination.CursorPage;
+import com.personal.tickets.pagination.KeysetCursor;
+import com.personal.tickets.domain.Enums.TicketExportFormat;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -26,6 +56,9 @@ import lombok.RequiredArgsConstructor;
 public class EventController {
     private final EventMapper eventMapper;
     private final EventService eventService;
+    private final TicketExportService ticketExportService;
+    private final EventStatsService eventStatsService;
+    private final EventActivityHub eventActivityHub;
 
 
     @PostMapping
@@ -39,4 +72,145 @@ public class EventController {
         CreateEventResponseDto createEventResponseDto = eventMapper.toDto(event);
         return new ResponseEntity<>(createEventResponseDto, HttpStatus.CREATED);
     }
+
+    // The whole payload is validated before anything is stored; storage failures are then reported per event
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateEventsResponseDto> createEvents(
+        @AuthenticationPrincipal Jwt jwt,
+        @Valid @RequestBody BulkCreateEventsRequestDto bulkCreateEventsRequestDto
+    ) {
+        UUID organizerId = UUID.fromString(jwt.getSubject());
+        List<BulkCreateEventResultDto> results = eventService
+            .createEvents(organizerId, eventMapper.fromDtos(bulkCreateEventsRequestDto.getEvents()))
+            .stream()
+            .map(eventMapper::toBulkCreateEventResultDto)
+            .toList();
+        int created = (int) results.stream().filter(result -> result.getStatus() == BulkItemStatus.CREATED).count();
+        int failed = results.size() - created;
+        // 207 tells the client to read the per-event results instead of assuming everything was created
+        HttpStatus status = failed == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return new ResponseEntity<>(new BulkCreateEventsResponseDto(created, failed, results), status);
+    }
+
+    @GetMapping
+    public ResponseEntity<PageResponseDto<ListEventResponseDto>> listEvents(
+        @AuthenticationPrincipal Jwt jwt,
+        Pageable pageable
+    ) {
+        UUID organizerId = UUID.fromString(jwt.getSubject());
+        Page<ListEventResponseDto> events = eventService.listEventsForOrganizer(organizerId, pageable)
+            .map(eventMapper::toListEventResponseDto);
+        return ResponseEntity.ok(PageResponseDto.of(events));
+    }
+
+    // Keyset variant, selected by the cursor parameter; send an empty cursor for the first page
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<ListEventResponseDto>> listEventsByCursor(
+        @AuthenticationPrincipal Jwt jwt,
+        @RequestParam String cursor,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        UUID organizerId = UUID.fromString(jwt.getSubject());
+        CursorPage<ListEventResponseDto> events = eventService
+            .listEventsForOrganizer(organizerId, KeysetCursor.decode(cursor), size, includeTotal)
+            .map(eventMapper::toListEventResponseDto);
+        return ResponseEntity.ok(new CursorPageResponseDto<>(events.content(), events.nextCursor(), events.totalElements()));
+    }
+
+    @GetMapping("/{eventId}")
+    public ResponseEntity<GetEventDetailsResponseDto> getEvent(
+        @AuthenticationPrincipal Jwt jwt,
+        @PathVariable UUID eventId
+    ) {
+        UUID organizerId = UUID.fromString(jwt.getSubject());
+        return eventService.getEventForOrganizer(organizerId, eventId)
+            .map(eventMapper::toGetEventDetailsResponseDto)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Served from counters, so dashboards can poll it for every event they show
+    @GetMapping("/{eventId}/stats")
+    public ResponseEntity<EventStatsResponseDto> getEventStats(
+        @AuthenticationPrincipal Jwt jwt,
+        @PathVariable UUID eventId
+    ) {
+        UUID organizerId = UUID.fromString(jwt.getSubject());
+        return ResponseEntity.ok(eventMapper.toEventStatsResponseDto(eventStatsService.getEventStatsForOrganizer(organizerId, eventId)));
+    }
+
+    // Server-Sent Events: the current totals, then at most one update per publish interval while anything changes
+    @GetMapping("/{eventId}/stats/stream")
+    public SseEmitter streamEventStats(
+        @AuthenticationPrincipal Jwt jwt,
+        @PathVariable UUID eventId
+    ) {
+        UUID organizerId = UUID.fromString(jwt.getSubject());
+        return eventActivityHub.subscribe(organizerId, eventId);
+    }
+
+    @GetMapping("/{eventId}/tickets/export")
+    public ResponseEntity<StreamingResponseBody> exportTickets(
+        @AuthenticationPrincipal Jwt jwt,
+        @PathVariable UUID eventId,
+        @RequestParam(defaultValue = "CSV") TicketExportFormat format,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        // Checked up front so a missing event is still a JSON 404 rather than a broken download
+        ticketExportService.verifyExportAccess(UUID.fromString(jwt.getSubject()), eventId);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = responseStream -> {
+            OutputStream out = gzip ? new GZIPOutputStream(responseStream, 64 * 1024) : responseStream;
+            ticketExportService.exportTickets(eventId, format, out);
+            if (out instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+        };
+
+        String extension = format == TicketExportFormat.NDJSON ? "ndjson" : "csv";
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(format == TicketExportFormat.NDJSON ? MediaType.APPLICATION_NDJSON : new MediaType("text", "csv", StandardCharsets.UTF_8))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tickets-" + eventId + "." + extension + "\"")
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Whether the Accept-Encoding header allows gzip: listed as gzip or x-gzip, or covered by *, with a
+     * q-value above zero. An explicit gzip entry takes precedence over *.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
 }
@@ -0,0 +1,71 @@
+package com.personal.tickets.controllers;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.personal.tickets.catalog.PublishedEventResponseCache;
+import com.personal.tickets.catalog.PublishedEventResponseCache.CachedResponse;
+import com.personal.tickets.mappers.EventMapper;
+import com.personal.tickets.services.EventService;
+import com.personal.tickets.dtos.GetPublishedEventDetailsResponseDto;
+import com.personal.tickets.dtos.ListPublishedEventResponseDto;
+import com.personal.tickets.dtos.PageResponseDto;
+import java.util.UUID;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/published-events")
+@RequiredArgsConstructor
+public class PublishedEventController {
+    // Public, so browsers and shared caches may keep it, but they revalidate on every use
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
+    private final EventMapper eventMapper;
+    private final EventService eventService;
+    private final PublishedEventResponseCache publishedEventResponseCache;
+
+
+    @GetMapping
+    public ResponseEntity<PageResponseDto<ListPublishedEventResponseDto>> listPublishedEvents(
+        @RequestParam(required = false) String q,
+        Pageable pageable,
+        WebRequest webRequest
+    ) {
+        CachedResponse<PageResponseDto<ListPublishedEventResponseDto>> publishedEvents = publishedEventResponseCache.getPage(
+            q, pageable, () -> eventService.searchPublishedEvents(q, pageable), eventMapper::toListPublishedEventResponseDto);
+        return conditional(publishedEvents, webRequest);
+    }
+
+    @GetMapping("/{eventId}")
+    public ResponseEntity<GetPublishedEventDetailsResponseDto> getPublishedEventDetails(
+        @PathVariable UUID eventId,
+        WebRequest webRequest
+    ) {
+        return publishedEventResponseCache
+            .getDetails(eventId, () -> eventService.getPublishedEvent(eventId), eventMapper::toGetPublishedEventDetailsResponseDto)
+            .map(publishedEvent -> conditional(publishedEvent, webRequest))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Revalidations are answered from the validators alone, without serializing the body
+    private static <T> ResponseEntity<T> conditional(CachedResponse<T> response, WebRequest webRequest) {
+        long lastModified = response.lastModified() != null ? response.lastModified().toEpochMilli() : -1;
+        if (webRequest.checkNotModified(response.etag(), lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(response.etag()).cacheControl(CACHE_CONTROL).build();
+        }
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok().eTag(response.etag()).cacheControl(CACHE_CONTROL);
+        if (response.lastModified() != null) {
+            ok.lastModified(response.lastModified());
+        }
+        return ok.body(response.body());
+    }
+}
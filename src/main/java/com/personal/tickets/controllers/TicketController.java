@@ -0,0 +1,104 @@
+package com.personal.tickets.controllers;
+
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.personal.tickets.config.QrCodeImageProperties;
+import com.personal.tickets.domain.Enums.QrCodeImageFormat;
+import com.personal.tickets.domain.Projections.QrCodeImageSource;
+import com.personal.tickets.dtos.CursorPageResponseDto;
+import com.personal.tickets.dtos.GetTicketResponseDto;
+import com.personal.tickets.dtos.ListTicketResponseDto;
+import com.personal.tickets.dtos.PageResponseDto;
+import com.personal.tickets.mappers.TicketMapper;
+import com.personal.tickets.pagination.CursorPage;
+import com.personal.tickets.pagination.KeysetCursor;
+import com.personal.tickets.services.QrCodeService;
+import com.personal.tickets.services.TicketService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/tickets")
+@RequiredArgsConstructor
+public class TicketController {
+    private static final MediaType IMAGE_SVG = MediaType.parseMediaType("image/svg+xml");
+
+    private final TicketMapper ticketMapper;
+    private final TicketService ticketService;
+    private final QrCodeService qrCodeService;
+    private final QrCodeImageProperties qrCodeImageProperties;
+
+
+    @GetMapping
+    public ResponseEntity<PageResponseDto<ListTicketResponseDto>> listTickets(
+        @AuthenticationPrincipal Jwt jwt,
+        Pageable pageable
+    ) {
+        Page<ListTicketResponseDto> tickets = ticketService.listTicketsForUser(UUID.fromString(jwt.getSubject()), pageable)
+            .map(ticketMapper::toListTicketResponseDto);
+        return ResponseEntity.ok(PageResponseDto.of(tickets));
+    }
+
+    // Keyset variant, selected by the cursor parameter; send an empty cursor for the first page
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<ListTicketResponseDto>> listTicketsByCursor(
+        @AuthenticationPrincipal Jwt jwt,
+        @RequestParam String cursor,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        CursorPage<ListTicketResponseDto> tickets = ticketService
+            .listTicketsForUser(UUID.fromString(jwt.getSubject()), KeysetCursor.decode(cursor), size, includeTotal)
+            .map(ticketMapper::toListTicketResponseDto);
+        return ResponseEntity.ok(new CursorPageResponseDto<>(tickets.content(), tickets.nextCursor(), tickets.totalElements()));
+    }
+
+    @GetMapping("/{ticketId}")
+    public ResponseEntity<GetTicketResponseDto> getTicket(
+        @AuthenticationPrincipal Jwt jwt,
+        @PathVariable UUID ticketId
+    ) {
+        return ticketService.getTicketForUser(UUID.fromString(jwt.getSubject()), ticketId)
+            .map(ticketMapper::toGetTicketResponseDto)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{ticketId}/qr-codes")
+    public ResponseEntity<byte[]> getQrCode(
+        @AuthenticationPrincipal Jwt jwt,
+        @PathVariable UUID ticketId,
+        @RequestParam(defaultValue = "PNG") QrCodeImageFormat format,
+        WebRequest webRequest
+    ) {
+        QrCodeImageSource qrCode = qrCodeService.getQrCodeForPurchaser(UUID.fromString(jwt.getSubject()), ticketId);
+        String etag = qrCodeService.getQrCodeImageEtag(qrCode, format);
+        // Private: the image is the ticket, so shared caches must never keep it
+        CacheControl cacheControl = CacheControl.maxAge(qrCodeImageProperties.getBrowserMaxAge()).cachePrivate();
+
+        // Revalidations are answered before anything is rendered
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(cacheControl)
+            .contentType(format == QrCodeImageFormat.SVG ? IMAGE_SVG : MediaType.IMAGE_PNG)
+            .body(qrCodeService.getQrCodeImage(qrCode, format));
+    }
+}
@@ -0,0 +1,43 @@
+package com.personal.tickets.controllers;
+
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.personal.tickets.services.TicketTypeService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/ticket-holds")
+@RequiredArgsConstructor
+public class TicketHoldController {
+    private final TicketTypeService ticketTypeService;
+
+
+    @PostMapping("/{holdId}/tickets")
+    public ResponseEntity<Void> purchaseHeldTickets(
+        @AuthenticationPrincipal Jwt jwt,
+        @PathVariable UUID holdId
+    ) {
+        ticketTypeService.purchaseHeldTickets(UUID.fromString(jwt.getSubject()), holdId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @DeleteMapping("/{holdId}")
+    public ResponseEntity<Void> releaseHold(
+        @AuthenticationPrincipal Jwt jwt,
+        @PathVariable UUID holdId
+    ) {
+        ticketTypeService.releaseHold(UUID.fromString(jwt.getSubject()), holdId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
@@ -0,0 +1,77 @@
+package com.personal.tickets.controllers;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.personal.tickets.admission.WaitingRoom;
+import com.personal.tickets.domain.Enums.AdmissionDecision;
+import com.personal.tickets.domain.Entities.TicketHold;
+import com.personal.tickets.domain.Results.AdmissionResult;
+import com.personal.tickets.mappers.TicketMapper;
+import com.personal.tickets.services.TicketTypeService;
+import java.util.UUID;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/events/{eventId}/ticket-types")
+@RequiredArgsConstructor
+public class TicketTypeController {
+    private final TicketTypeService ticketTypeService;
+    private final WaitingRoom waitingRoom;
+    private final TicketMapper ticketMapper;
+
+
+    @PostMapping("/{ticketTypeId}/tickets")
+    public ResponseEntity<?> purchaseTicket(
+        @AuthenticationPrincipal Jwt jwt,
+        @PathVariable UUID eventId,
+        @PathVariable UUID ticketTypeId,
+        @RequestHeader(value = WaitingRoomController.QUEUE_TOKEN_HEADER, required = false) String queueToken
+    ) {
+        UUID purchaserId = UUID.fromString(jwt.getSubject());
+        // Excess demand is turned away here, before the purchase touches the database
+        AdmissionResult admission = waitingRoom.admit(eventId, purchaserId, queueToken);
+        if (!admission.admitted()) {
+            return notAdmitted(admission);
+        }
+        ticketTypeService.purchaseTicket(purchaserId, eventId, ticketTypeId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    // Reserves the units for checkout; purchase or release them through /api/v1/ticket-holds/{holdId}
+    @PostMapping("/{ticketTypeId}/holds")
+    public ResponseEntity<?> holdTickets(
+        @AuthenticationPrincipal Jwt jwt,
+        @PathVariable UUID eventId,
+        @PathVariable UUID ticketTypeId,
+        @RequestParam(defaultValue = "1") int quantity,
+        @RequestHeader(value = WaitingRoomController.QUEUE_TOKEN_HEADER, required = false) String queueToken
+    ) {
+        UUID purchaserId = UUID.fromString(jwt.getSubject());
+        AdmissionResult admission = waitingRoom.admit(eventId, purchaserId, queueToken);
+        if (!admission.admitted()) {
+            return notAdmitted(admission);
+        }
+        TicketHold hold = ticketTypeService.holdTickets(purchaserId, eventId, ticketTypeId, quantity);
+        return new ResponseEntity<>(ticketMapper.toTicketHoldResponseDto(hold), HttpStatus.CREATED);
+    }
+
+    private ResponseEntity<?> notAdmitted(AdmissionResult admission) {
+        HttpStatus status = admission.decision() == AdmissionDecision.QUEUE_FULL
+                ? HttpStatus.SERVICE_UNAVAILABLE
+                : HttpStatus.TOO_MANY_REQUESTS;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, admission.estimatedWaitSeconds())))
+                .body(WaitingRoomController.toDto(admission));
+    }
+}
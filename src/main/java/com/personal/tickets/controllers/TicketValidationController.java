@@ -0,0 +1,65 @@
+package com.personal.tickets.controllers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.personal.tickets.mappers.TicketValidationMapper;
+import com.personal.tickets.services.TicketValidationService;
+import com.personal.tickets.dtos.BatchTicketValidationRequestDto;
+import com.personal.tickets.dtos.BatchTicketValidationResponseDto;
+import com.personal.tickets.dtos.TicketValidationRequestDto;
+import com.personal.tickets.dtos.TicketValidationResponseDto;
+import com.personal.tickets.domain.Requests.TicketScanRequest;
+import com.personal.tickets.domain.Results.TicketValidationResult;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import jakarta.validation.Valid;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/ticket-validations")
+@RequiredArgsConstructor
+public class TicketValidationController {
+    private final TicketValidationMapper ticketValidationMapper;
+    private final TicketValidationService ticketValidationService;
+
+
+    @PostMapping
+    public ResponseEntity<TicketValidationResponseDto> validateTicket(
+        @AuthenticationPrincipal Jwt jwt,
+        @Valid @RequestBody TicketValidationRequestDto ticketValidationRequestDto
+    ) {
+        TicketValidationResult result = ticketValidationService.validateTicket(
+            UUID.fromString(jwt.getSubject()),
+            ticketValidationRequestDto.getId(),
+            ticketValidationRequestDto.getMethod()
+        );
+        return ResponseEntity.ok(ticketValidationMapper.toTicketValidationResponseDto(result));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchTicketValidationResponseDto>> validateTickets(
+        @AuthenticationPrincipal Jwt jwt,
+        @Valid @RequestBody BatchTicketValidationRequestDto batchTicketValidationRequestDto
+    ) {
+        List<TicketScanRequest> scans = batchTicketValidationRequestDto.getScans().stream()
+            .map(ticketValidationMapper::fromTicketScanRequestDto)
+            .toList();
+        List<TicketValidationResult> results = ticketValidationService.validateTickets(UUID.fromString(jwt.getSubject()), scans);
+
+        List<BatchTicketValidationResponseDto> response = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            TicketValidationResult result = results.get(i);
+            response.add(new BatchTicketValidationResponseDto(scans.get(i).getId(), result.ticketId(), result.status()));
+        }
+        return ResponseEntity.ok(response);
+    }
+}
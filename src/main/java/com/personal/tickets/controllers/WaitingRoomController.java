@@ -0,0 +1,51 @@
+package com.personal.tickets.controllers;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.personal.tickets.admission.WaitingRoom;
+import com.personal.tickets.domain.Results.AdmissionResult;
+import com.personal.tickets.dtos.QueuePositionResponseDto;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/events/{eventId}/queue")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    public static final String QUEUE_TOKEN_HEADER = "X-Queue-Token";
+
+    private final WaitingRoom waitingRoom;
+
+    @PostMapping
+    public ResponseEntity<QueuePositionResponseDto> joinQueue(
+        @AuthenticationPrincipal Jwt jwt,
+        @PathVariable UUID eventId
+    ) {
+        return ResponseEntity.ok(toDto(waitingRoom.enqueue(eventId, UUID.fromString(jwt.getSubject()))));
+    }
+
+    @GetMapping
+    public ResponseEntity<QueuePositionResponseDto> getQueuePosition(
+        @AuthenticationPrincipal Jwt jwt,
+        @PathVariable UUID eventId,
+        @RequestHeader(QUEUE_TOKEN_HEADER) String queueToken
+    ) {
+        return ResponseEntity.ok(toDto(waitingRoom.status(eventId, UUID.fromString(jwt.getSubject()), queueToken)));
+    }
+
+    static QueuePositionResponseDto toDto(AdmissionResult result) {
+        return new QueuePositionResponseDto(
+                result.decision(), result.queueToken(), result.position(), result.waitingAhead(), result.estimatedWaitSeconds());
+    }
+}
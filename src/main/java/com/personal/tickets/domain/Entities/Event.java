@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -77,11 +78,13 @@ public class Event {
     private User organizer;
 
     @ManyToMany(mappedBy = "attendingEvents")
+    @BatchSize(size = 100)
     // @JoinTable(name = "event_attendees", joinColumns = @JoinColumn(name = "event_id"), inverseJoinColumns = @JoinColumn(name = "attendee_id"))
     private List<User> attendees = new ArrayList<>();
 
 
     @ManyToMany(mappedBy = "staffingEvents")
+    @BatchSize(size = 100)
     // @JoinTable(name = "event_staff", joinColumns = @JoinColumn(name = "event_id"), inverseJoinColumns = @JoinColumn(name = "staff_id"))
     private List<User> staff = new ArrayList<>();
 
@@ -98,6 +101,7 @@ public class Event {
     }
 
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
     private List<TicketType> ticketTypes = new ArrayList<>();
 
     @CreatedDate
@@ -0,0 +1,54 @@
+package com.personal.tickets.domain.Entities;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Summary row of an event's gate scans. Only ever moved by the additive UPDATEs in
+ * EventCheckInStatsRepository, so flushes from several nodes never overwrite each other.
+ */
+@Entity
+@Table(name = "event_check_in_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventCheckInStats {
+
+    @Id
+    @Column(name = "event_id", nullable = false, updatable = false, columnDefinition = "UUID")
+    private UUID eventId;
+
+    @Column(name = "tickets_checked_in", nullable = false)
+    private Long ticketsCheckedIn;
+
+    @Column(name = "scans_rejected", nullable = false)
+    private Long scansRejected;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        EventCheckInStats that = (EventCheckInStats) o;
+        return Objects.equals(eventId, that.eventId) && Objects.equals(ticketsCheckedIn, that.ticketsCheckedIn) && Objects.equals(scansRejected, that.scansRejected) && Objects.equals(updatedAt, that.updatedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventId, ticketsCheckedIn, scansRejected, updatedAt);
+    }
+}
@@ -0,0 +1,68 @@
+package com.personal.tickets.domain.Entities;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.personal.tickets.domain.Enums.OutboxChangeType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A change to be published, written in the same transaction as the change itself. Every node reads it;
+ * rows are pruned once they are older than {@code tickets.outbox.retention}.
+ */
+@Entity
+@Table(name = "outbox_entries")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", nullable = false, updatable = false, unique = true, columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "change_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutboxChangeType changeType;
+
+    @Column(name = "aggregate_id", nullable = false, columnDefinition = "UUID")
+    private UUID aggregateId;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        OutboxEntry that = (OutboxEntry) o;
+        return Objects.equals(id, that.id) && Objects.equals(changeType, that.changeType) && Objects.equals(aggregateId, that.aggregateId) && Objects.equals(createdAt, that.createdAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, changeType, aggregateId, createdAt);
+    }
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -61,9 +62,11 @@ public class Ticket {
     private User purchaser;
     
     @OneToMany(mappedBy = "ticket", cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
     private List<TicketValidation> validations = new ArrayList<>();
 
     @OneToMany(mappedBy = "ticket", cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
     private List<QrCode> qrCodes = new ArrayList<>();
 
     @CreatedDate
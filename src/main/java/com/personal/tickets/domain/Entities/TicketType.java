@@ -6,6 +6,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -56,11 +58,24 @@ public class TicketType {
     @Column(name = "total_available", nullable = true)
     private Integer totalAvailable;
 
+    // Inventory counter, only ever moved by conditional UPDATEs in TicketTypeRepository
+    @Column(name = "total_sold", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer totalSold = 0;
+
+    // Units reserved by unexpired ticket holds; they count against totalAvailable until purchased or released
+    @Column(name = "total_held", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer totalHeld = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
 
     @OneToMany(mappedBy = "ticketType", cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
     private List<Ticket> tickets = new ArrayList<>();
 
     @CreatedDate
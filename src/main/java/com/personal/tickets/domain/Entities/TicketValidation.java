@@ -57,6 +57,10 @@ public class TicketValidation {
     @JoinColumn(name = "ticket_id", nullable = false)
     private Ticket ticket;
 
+    // When the scanner saw the ticket, which for offline scanners can be long before the row is created
+    @Column(name = "scanned_at")
+    private LocalDateTime scannedAt;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
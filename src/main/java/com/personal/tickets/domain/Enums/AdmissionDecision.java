@@ -0,0 +1,10 @@
+package com.personal.tickets.domain.Enums;
+
+public enum AdmissionDecision {
+    // may purchase now
+    ADMITTED,
+    // holds a place in the event's waiting room
+    QUEUED,
+    // the waiting room is at capacity; try again later
+    QUEUE_FULL
+}
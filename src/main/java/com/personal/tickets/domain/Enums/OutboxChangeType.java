@@ -0,0 +1,10 @@
+package com.personal.tickets.domain.Enums;
+
+public enum OutboxChangeType {
+    // aggregate id is the event id
+    EVENT_CREATED;
+
+    public boolean changesEvent() {
+        return this == EVENT_CREATED;
+    }
+}
@@ -0,0 +1,5 @@
+package com.personal.tickets.domain.Enums;
+
+public enum QrCodeImageFormat {
+    PNG, SVG
+}
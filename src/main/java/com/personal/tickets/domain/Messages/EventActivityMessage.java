@@ -0,0 +1,36 @@
+package com.personal.tickets.domain.Messages;
+
+import java.util.UUID;
+
+import com.personal.tickets.domain.Results.EventStats;
+
+/**
+ * Pushed to live dashboard subscribers: the event's current totals plus what changed since the previous
+ * message that subscriber received, so coalesced updates still add up.
+ */
+public record EventActivityMessage(
+        UUID eventId,
+        long ticketsSold,
+        long ticketsHeld,
+        double revenue,
+        long ticketsCheckedIn,
+        long scansRejected,
+        long ticketsSoldChange,
+        long ticketsHeldChange,
+        long ticketsCheckedInChange,
+        long scansRejectedChange) {
+
+    public static EventActivityMessage of(EventStats current, EventStats previous) {
+        return new EventActivityMessage(
+                current.eventId(),
+                current.ticketsSold(),
+                current.ticketsHeld(),
+                current.revenue(),
+                current.ticketsCheckedIn(),
+                current.scansRejected(),
+                previous != null ? current.ticketsSold() - previous.ticketsSold() : 0,
+                previous != null ? current.ticketsHeld() - previous.ticketsHeld() : 0,
+                previous != null ? current.ticketsCheckedIn() - previous.ticketsCheckedIn() : 0,
+                previous != null ? current.scansRejected() - previous.scansRejected() : 0);
+    }
+}
@@ -0,0 +1,8 @@
+package com.personal.tickets.domain.Messages;
+
+import java.util.UUID;
+
+/**
+ * Published whenever an event or one of its ticket types was written, so read models can refresh it.
+ */
+public record EventChangedMessage(UUID eventId) {}
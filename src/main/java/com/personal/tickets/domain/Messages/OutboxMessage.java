@@ -0,0 +1,12 @@
+package com.personal.tickets.domain.Messages;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.personal.tickets.domain.Enums.OutboxChangeType;
+
+/**
+ * A committed change as handed to outbox transports. Delivery is at least once, so consumers must tolerate
+ * duplicates; {@code id} identifies redeliveries.
+ */
+public record OutboxMessage(UUID id, OutboxChangeType changeType, UUID aggregateId, LocalDateTime createdAt) {}
@@ -0,0 +1,15 @@
+package com.personal.tickets.domain.Projections;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Denormalized, join-free read model of a PUBLISHED event as shown in the public catalog.
+ */
+public record PublishedEventSummary(
+        UUID id,
+        String name,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        String venue,
+        LocalDateTime updatedAt) {}
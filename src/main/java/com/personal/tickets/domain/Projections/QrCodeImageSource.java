@@ -0,0 +1,10 @@
+package com.personal.tickets.domain.Projections;
+
+import java.util.UUID;
+
+import com.personal.tickets.domain.Enums.QrCodeStatusEnum;
+
+/**
+ * The columns needed to render a QR code image, without loading the ticket graph.
+ */
+public record QrCodeImageSource(UUID qrCodeId, String value, QrCodeStatusEnum status) {}
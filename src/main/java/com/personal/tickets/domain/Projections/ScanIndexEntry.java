@@ -0,0 +1,8 @@
+package com.personal.tickets.domain.Projections;
+
+import java.util.UUID;
+
+/**
+ * An ACTIVE QR code of a PURCHASED ticket, as preloaded into the gate scan index.
+ */
+public record ScanIndexEntry(String qrValue, UUID ticketId) {}
@@ -0,0 +1,12 @@
+package com.personal.tickets.domain.Projections;
+
+import java.util.UUID;
+
+import com.personal.tickets.domain.Enums.QrCodeStatusEnum;
+import com.personal.tickets.domain.Enums.TicketStatusEnum;
+
+/**
+ * What a scanned id resolves to when it is not found in a loaded scan index. {@code qrValue} and
+ * {@code qrCodeStatus} are null for manual validations by ticket id.
+ */
+public record ScanTarget(String qrValue, UUID ticketId, UUID eventId, TicketStatusEnum ticketStatus, QrCodeStatusEnum qrCodeStatus) {}
@@ -0,0 +1,19 @@
+package com.personal.tickets.domain.Projections;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.personal.tickets.domain.Enums.TicketStatusEnum;
+
+/**
+ * A single ticket with the ticket type and event columns its page shows.
+ */
+public record TicketDetails(
+        UUID id,
+        TicketStatusEnum status,
+        Double price,
+        String description,
+        String eventName,
+        String eventVenue,
+        LocalDateTime eventStart,
+        LocalDateTime eventEnd) {}
@@ -0,0 +1,25 @@
+package com.personal.tickets.domain.Projections;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.personal.tickets.domain.Enums.TicketStatusEnum;
+import com.personal.tickets.domain.Enums.TicketValidationMethod;
+import com.personal.tickets.domain.Enums.TicketValidationStatusEnum;
+
+/**
+ * One line of an attendee export: a ticket with its type, purchaser and latest validation, if any.
+ */
+public record TicketExportRow(
+        UUID ticketId,
+        TicketStatusEnum ticketStatus,
+        LocalDateTime purchasedAt,
+        UUID ticketTypeId,
+        String ticketTypeName,
+        Double ticketTypePrice,
+        UUID purchaserId,
+        String purchaserName,
+        String purchaserEmail,
+        TicketValidationStatusEnum validationStatus,
+        TicketValidationMethod validationMethod,
+        LocalDateTime validatedAt) {}
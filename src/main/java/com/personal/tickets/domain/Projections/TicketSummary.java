@@ -0,0 +1,17 @@
+package com.personal.tickets.domain.Projections;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.personal.tickets.domain.Enums.TicketStatusEnum;
+
+/**
+ * A row of the attendee's ticket list, read together with its ticket type in one select.
+ */
+public record TicketSummary(
+        UUID id,
+        TicketStatusEnum status,
+        UUID ticketTypeId,
+        String ticketTypeName,
+        Double ticketTypePrice,
+        LocalDateTime createdAt) {}
@@ -0,0 +1,16 @@
+package com.personal.tickets.domain.Projections;
+
+import java.util.UUID;
+
+/**
+ * Sales state of one ticket type, read from its inventory counters. Revenue is sold units times the
+ * ticket type's price, which cannot change once the type is created.
+ */
+public record TicketTypeSales(
+        UUID id,
+        String name,
+        Double price,
+        Integer totalAvailable,
+        Integer totalSold,
+        Integer totalHeld,
+        Double revenue) {}
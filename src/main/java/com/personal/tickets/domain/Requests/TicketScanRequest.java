@@ -0,0 +1,19 @@
+package com.personal.tickets.domain.Requests;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.personal.tickets.domain.Enums.TicketValidationMethod;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketScanRequest {
+    private UUID id;
+    private TicketValidationMethod method;
+    private LocalDateTime scannedAt;
+}
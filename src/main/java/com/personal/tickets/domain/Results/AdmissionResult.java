@@ -0,0 +1,21 @@
+package com.personal.tickets.domain.Results;
+
+import com.personal.tickets.domain.Enums.AdmissionDecision;
+
+/**
+ * Outcome of an admission check. {@code queueToken} is the token to present on the next attempt, null when
+ * admitted without queueing or when the waiting room is full.
+ */
+public record AdmissionResult(
+        AdmissionDecision decision,
+        String queueToken,
+        long position,
+        long waitingAhead,
+        long estimatedWaitSeconds) {
+
+    public static final AdmissionResult ADMITTED = new AdmissionResult(AdmissionDecision.ADMITTED, null, 0, 0, 0);
+
+    public boolean admitted() {
+        return decision == AdmissionDecision.ADMITTED;
+    }
+}
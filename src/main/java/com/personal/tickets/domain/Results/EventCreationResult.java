@@ -0,0 +1,19 @@
+package com.personal.tickets.domain.Results;
+
+import java.util.UUID;
+
+import com.personal.tickets.domain.Enums.BulkItemStatus;
+
+/**
+ * Outcome of one event of a bulk create, identified by its position in the request.
+ */
+public record EventCreationResult(int index, BulkItemStatus status, UUID eventId, String error) {
+
+    public static EventCreationResult created(int index, UUID eventId) {
+        return new EventCreationResult(index, BulkItemStatus.CREATED, eventId, null);
+    }
+
+    public static EventCreationResult failed(int index, String error) {
+        return new EventCreationResult(index, BulkItemStatus.FAILED, null, error);
+    }
+}
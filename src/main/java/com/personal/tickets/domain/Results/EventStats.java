@@ -0,0 +1,18 @@
+package com.personal.tickets.domain.Results;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.personal.tickets.domain.Projections.TicketTypeSales;
+
+/**
+ * Dashboard figures of one event, assembled from counters rather than from its tickets and validations.
+ */
+public record EventStats(
+        UUID eventId,
+        long ticketsSold,
+        long ticketsHeld,
+        double revenue,
+        long ticketsCheckedIn,
+        long scansRejected,
+        List<TicketTypeSales> ticketTypes) {}
@@ -0,0 +1,10 @@
+package com.personal.tickets.domain.Results;
+
+import java.util.UUID;
+
+import com.personal.tickets.domain.Enums.TicketValidationStatusEnum;
+
+/**
+ * Outcome of a single scan. {@code ticketId} is null when the scanned id matched no ticket at all.
+ */
+public record TicketValidationResult(UUID ticketId, TicketValidationStatusEnum status) {}
@@ -0,0 +1,18 @@
+package com.personal.tickets.dtos;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchTicketValidationRequestDto {
+    @NotEmpty(message = "at least one scan is required")
+    @Valid
+    private List<TicketScanRequestDto> scans;
+}
@@ -0,0 +1,18 @@
+package com.personal.tickets.dtos;
+
+import java.util.UUID;
+
+import com.personal.tickets.domain.Enums.TicketValidationStatusEnum;
+
+import lombok.Data;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchTicketValidationResponseDto {
+    private UUID id;
+    private UUID ticketId;
+    private TicketValidationStatusEnum status;
+}
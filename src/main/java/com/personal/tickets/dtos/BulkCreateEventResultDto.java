@@ -0,0 +1,19 @@
+package com.personal.tickets.dtos;
+
+import java.util.UUID;
+
+import com.personal.tickets.domain.Enums.BulkItemStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkCreateEventResultDto {
+    private int index;
+    private BulkItemStatus status;
+    private UUID eventId;
+    private String error;
+}
@@ -0,0 +1,16 @@
+package com.personal.tickets.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkCreateEventsResponseDto {
+    private int created;
+    private int failed;
+    private List<BulkCreateEventResultDto> results;
+}
@@ -11,6 +11,7 @@ import java.util.List;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.EnumType;
 import jakarta.validation.Valid;
@@ -27,7 +28,7 @@ public class CreateEventRequestDto {
     private String venue;
     private LocalDateTime salesStartDate;
     private LocalDateTime salesEndDate;
-    @NotBlank(message = "Event status is required")
+    @NotNull(message = "Event status is required")
     @Enumerated(EnumType.STRING)
     private EventStatusEnum status;
     @NotEmpty(message = "at least one ticket type is required")
@@ -1,6 +1,7 @@
 package com.personal.tickets.dtos;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Data;
 import lombok.AllArgsConstructor;
@@ -13,7 +14,7 @@ public class CreateTicketTypeRequestDto {
     @NotBlank(message = "Ticket type name is required")
     private String name;
 
-    @NotBlank(message = "Price is required")
+    @NotNull(message = "Price is required")
     @PositiveOrZero(message = "Price most be zero or greater")
     private Double price;
 
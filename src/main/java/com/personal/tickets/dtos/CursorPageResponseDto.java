@@ -0,0 +1,17 @@
+package com.personal.tickets.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponseDto<T> {
+    private List<T> content;
+    private String nextCursor;
+    private Long totalElements;
+}
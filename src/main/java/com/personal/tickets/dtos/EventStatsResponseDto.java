@@ -0,0 +1,21 @@
+package com.personal.tickets.dtos;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventStatsResponseDto {
+    private UUID eventId;
+    private long ticketsSold;
+    private long ticketsHeld;
+    private double revenue;
+    private long ticketsCheckedIn;
+    private long scansRejected;
+    private List<TicketTypeSalesResponseDto> ticketTypes;
+}
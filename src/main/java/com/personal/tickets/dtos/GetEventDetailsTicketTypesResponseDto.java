@@ -0,0 +1,22 @@
+package com.personal.tickets.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+import java.time.LocalDateTime;
+
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetEventDetailsTicketTypesResponseDto {
+    private UUID id;
+    private String name;
+    private Double price;
+    private String description;
+    private Integer totalAvailable;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
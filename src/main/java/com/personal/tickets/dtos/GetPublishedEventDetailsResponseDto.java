@@ -0,0 +1,22 @@
+package com.personal.tickets.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetPublishedEventDetailsResponseDto {
+    private UUID id;
+    private String name;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private String venue;
+    private List<GetPublishedEventTicketTypesResponseDto> ticketTypes;
+}
@@ -0,0 +1,17 @@
+package com.personal.tickets.dtos;
+
+import java.util.UUID;
+
+import lombok.Data;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetPublishedEventTicketTypesResponseDto {
+    private UUID id;
+    private String name;
+    private Double price;
+    private String description;
+}
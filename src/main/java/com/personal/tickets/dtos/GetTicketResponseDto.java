@@ -0,0 +1,24 @@
+package com.personal.tickets.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+import java.time.LocalDateTime;
+import com.personal.tickets.domain.Enums.TicketStatusEnum;
+
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetTicketResponseDto {
+    private UUID id;
+    private TicketStatusEnum status;
+    private Double price;
+    private String description;
+    private String eventName;
+    private String eventVenue;
+    private LocalDateTime eventStart;
+    private LocalDateTime eventEnd;
+}
@@ -0,0 +1,26 @@
+package com.personal.tickets.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.List;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ListEventResponseDto {
+    private UUID id;
+    private String name;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private String venue;
+    private LocalDateTime salesStartDate;
+    private LocalDateTime salesEndDate;
+    private EventStatusEnum status;
+    private List<ListEventTicketTypeResponseDto> ticketTypes;
+}
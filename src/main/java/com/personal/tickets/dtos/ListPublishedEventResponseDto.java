@@ -0,0 +1,20 @@
+package com.personal.tickets.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+import java.time.LocalDateTime;
+
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ListPublishedEventResponseDto {
+    private UUID id;
+    private String name;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private String venue;
+}
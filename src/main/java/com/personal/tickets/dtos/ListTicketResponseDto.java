@@ -0,0 +1,18 @@
+package com.personal.tickets.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+import com.personal.tickets.domain.Enums.TicketStatusEnum;
+
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ListTicketResponseDto {
+    private UUID id;
+    private TicketStatusEnum status;
+    private ListTicketTicketTypeResponseDto ticketType;
+}
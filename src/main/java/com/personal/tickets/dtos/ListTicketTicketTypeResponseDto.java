@@ -0,0 +1,17 @@
+package com.personal.tickets.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ListTicketTicketTypeResponseDto {
+    private UUID id;
+    private String name;
+    private Double price;
+}
@@ -0,0 +1,18 @@
+package com.personal.tickets.dtos;
+
+import com.personal.tickets.domain.Enums.AdmissionDecision;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QueuePositionResponseDto {
+    private AdmissionDecision decision;
+    private String queueToken;
+    private long position;
+    private long waitingAhead;
+    private long estimatedWaitSeconds;
+}
@@ -0,0 +1,18 @@
+package com.personal.tickets.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketHoldResponseDto {
+    private UUID id;
+    private UUID ticketTypeId;
+    private Integer quantity;
+    private LocalDateTime expiresAt;
+}
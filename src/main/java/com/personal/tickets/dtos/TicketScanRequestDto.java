@@ -0,0 +1,24 @@
+package com.personal.tickets.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.personal.tickets.domain.Enums.TicketValidationMethod;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketScanRequestDto {
+    @NotNull(message = "Id to validate is required")
+    private UUID id;
+
+    @NotNull(message = "Validation method is required")
+    private TicketValidationMethod method;
+
+    private LocalDateTime scannedAt;
+}
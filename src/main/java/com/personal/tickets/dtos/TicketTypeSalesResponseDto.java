@@ -0,0 +1,20 @@
+package com.personal.tickets.dtos;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketTypeSalesResponseDto {
+    private UUID id;
+    private String name;
+    private Double price;
+    private Integer totalAvailable;
+    private Integer totalSold;
+    private Integer totalHeld;
+    private Double revenue;
+}
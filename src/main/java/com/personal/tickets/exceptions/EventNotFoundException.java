@@ -0,0 +1,21 @@
+package com.personal.tickets.exceptions;
+
+public class EventNotFoundException extends EventTicketException {
+    public EventNotFoundException() {}
+
+    public EventNotFoundException(String message) {
+        super(message);
+    }
+
+    public EventNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public EventNotFoundException(Throwable cause) {
+        super(cause);
+    }
+
+    public EventNotFoundException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
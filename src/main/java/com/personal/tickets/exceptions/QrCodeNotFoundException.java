@@ -0,0 +1,21 @@
+package com.personal.tickets.exceptions;
+
+public class QrCodeNotFoundException extends EventTicketException {
+    public QrCodeNotFoundException() {}
+
+    public QrCodeNotFoundException(String message) {
+        super(message);
+    }
+
+    public QrCodeNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public QrCodeNotFoundException(Throwable cause) {
+        super(cause);
+    }
+
+    public QrCodeNotFoundException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
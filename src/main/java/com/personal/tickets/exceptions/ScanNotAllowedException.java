@@ -0,0 +1,21 @@
+package com.personal.tickets.exceptions;
+
+public class ScanNotAllowedException extends EventTicketException {
+    public ScanNotAllowedException() {}
+
+    public ScanNotAllowedException(String message) {
+        super(message);
+    }
+
+    public ScanNotAllowedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public ScanNotAllowedException(Throwable cause) {
+        super(cause);
+    }
+
+    public ScanNotAllowedException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,21 @@
+package com.personal.tickets.exceptions;
+
+public class TicketTypeNotFoundException extends EventTicketException {
+    public TicketTypeNotFoundException() {}
+
+    public TicketTypeNotFoundException(String message) {
+        super(message);
+    }
+
+    public TicketTypeNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public TicketTypeNotFoundException(Throwable cause) {
+        super(cause);
+    }
+
+    public TicketTypeNotFoundException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,21 @@
+package com.personal.tickets.exceptions;
+
+public class WriteBufferFullException extends EventTicketException {
+    public WriteBufferFullException() {}
+
+    public WriteBufferFullException(String message) {
+        super(message);
+    }
+
+    public WriteBufferFullException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public WriteBufferFullException(Throwable cause) {
+        super(cause);
+    }
+
+    public WriteBufferFullException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
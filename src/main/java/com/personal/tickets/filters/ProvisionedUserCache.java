@@ -0,0 +1,39 @@
+package com.personal.tickets.filters;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.personal.tickets.config.UserProvisioningProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded, TTL-evicting set of user ids known to exist in the users table. Hits and misses are exported
+ * as {@code cache.gets{cache="provisioned-users"}} through actuator.
+ */
+@Component
+public class ProvisionedUserCache {
+
+    private final Cache<UUID, Boolean> provisionedUsers;
+
+    public ProvisionedUserCache(UserProvisioningProperties properties, MeterRegistry meterRegistry) {
+        this.provisionedUsers = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaximumSize())
+                .expireAfterWrite(properties.getCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, provisionedUsers, "provisioned-users");
+    }
+
+    public boolean isProvisioned(UUID userId) {
+        return provisionedUsers.getIfPresent(userId) != null;
+    }
+
+    public void markProvisioned(UUID userId) {
+        provisionedUsers.put(userId, Boolean.TRUE);
+    }
+}
@@ -1,8 +1,9 @@
 package com.personal.tickets.filters;
 
 import java.io.IOException;
-import java.util.Optional;
+import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -10,22 +11,31 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.personal.tickets.domain.Entities.User;
 import com.personal.tickets.repositories.UserRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class UserProvisioningFilter extends OncePerRequestFilter {
 
     private final UserRepository userRepository;
+    private final ProvisionedUserCache provisionedUserCache;
+    private final Timer provisioningTimer;
+
+    public UserProvisioningFilter(UserRepository userRepository, ProvisionedUserCache provisionedUserCache, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.provisionedUserCache = provisionedUserCache;
+        this.provisioningTimer = Timer.builder("tickets.user.provisioning")
+                .description("Time spent upserting users not yet known to the provisioning cache")
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -49,17 +59,17 @@ public class UserProvisioningFilter extends OncePerRequestFilter {
                     return;
                 }
 
-                Optional<User> existingUser = userRepository.findById(keycloakId);
-
-                if (existingUser.isEmpty()) {
-                    User newUser = User.builder()
-                            .id(keycloakId)
-                            .name(getClaim(jwt, "name"))
-                            .email(getClaim(jwt, "email"))
-                            .build();
-
-                    userRepository.save(newUser);
-                    log.info("✅ New user provisioned: {} ({})", newUser.getName(), newUser.getEmail());
+                // Known users cost no database round trip at all
+                if (!provisionedUserCache.isProvisioned(keycloakId)) {
+                    String name = getClaim(jwt, "name");
+                    String email = getClaim(jwt, "email");
+                    long start = System.nanoTime();
+                    int inserted = userRepository.insertIfAbsent(keycloakId, name, email, LocalDateTime.now());
+                    provisioningTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    if (inserted > 0) {
+                        log.info("✅ New user provisioned: {} ({})", name, email);
+                    }
+                    provisionedUserCache.markProvisioned(keycloakId);
                 }
             }
         } catch (Exception e) {
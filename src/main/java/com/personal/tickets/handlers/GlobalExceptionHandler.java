@@ -2,14 +2,24 @@ package com.personal.tickets.handlers;
 
 import com.personal.tickets.dtos.ErrorReponseDto;
 import com.personal.tickets.exceptions.ResourceNotFoundException;
+import com.personal.tickets.exceptions.EventNotFoundException;
+import com.personal.tickets.exceptions.QrCodeNotFoundException;
+import com.personal.tickets.exceptions.ScanNotAllowedException;
+import com.personal.tickets.exceptions.TicketHoldNotFoundException;
+import com.personal.tickets.exceptions.TicketTypeNotFoundException;
+import com.personal.tickets.exceptions.TicketsSoldOutException;
+import com.personal.tickets.exceptions.WriteBufferFullException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.NoHandlerFoundException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Date;
+import java.util.stream.Collectors;
 
 @RestControllerAdvice
 @Slf4j
@@ -43,6 +53,23 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    // ✅ Request body failed bean validation - every violation is listed, e.g. "events[3].name: Event name is required"
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorReponseDto> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, HttpServletRequest request) {
+        String message = ex.getBindingResult().getFieldErrors().stream()
+                .map(fieldError -> fieldError.getField() + ": " + fieldError.getDefaultMessage())
+                .collect(Collectors.joining("; "));
+        log.warn("⚠️ Invalid request body: {}", message);
+        ErrorReponseDto error = new ErrorReponseDto(
+                message,
+                new Date().toString(),
+                request.getRequestURI(),
+                ex.getClass().getSimpleName(),
+                HttpStatus.BAD_REQUEST
+        );
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
     // ✅ Catch resource not found or custom exceptions
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorReponseDto> handleResourceNotFound(ResourceNotFoundException ex, HttpServletRequest request) {
@@ -57,6 +84,104 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
+    // ✅ Event does not exist or is not visible to the caller
+    @ExceptionHandler(EventNotFoundException.class)
+    public ResponseEntity<ErrorReponseDto> handleEventNotFound(EventNotFoundException ex, HttpServletRequest request) {
+        log.warn("🚫 Event not found: {}", ex.getMessage());
+        ErrorReponseDto error = new ErrorReponseDto(
+                ex.getMessage(),
+                new Date().toString(),
+                request.getRequestURI(),
+                ex.getClass().getSimpleName(),
+                HttpStatus.NOT_FOUND
+        );
+        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+    }
+
+    // ✅ Ticket has no QR code, or belongs to someone else
+    @ExceptionHandler(QrCodeNotFoundException.class)
+    public ResponseEntity<ErrorReponseDto> handleQrCodeNotFound(QrCodeNotFoundException ex, HttpServletRequest request) {
+        log.warn("🚫 QR code not found: {}", ex.getMessage());
+        ErrorReponseDto error = new ErrorReponseDto(
+                ex.getMessage(),
+                new Date().toString(),
+                request.getRequestURI(),
+                ex.getClass().getSimpleName(),
+                HttpStatus.NOT_FOUND
+        );
+        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+    }
+
+    // ✅ Ticket type does not exist or its event is not on sale
+    @ExceptionHandler(TicketTypeNotFoundException.class)
+    public ResponseEntity<ErrorReponseDto> handleTicketTypeNotFound(TicketTypeNotFoundException ex, HttpServletRequest request) {
+        log.warn("🚫 Ticket type not found: {}", ex.getMessage());
+        ErrorReponseDto error = new ErrorReponseDto(
+                ex.getMessage(),
+                new Date().toString(),
+                request.getRequestURI(),
+                ex.getClass().getSimpleName(),
+                HttpStatus.NOT_FOUND
+        );
+        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+    }
+
+    // ✅ Ticket hold does not exist, belongs to someone else, or has expired
+    @ExceptionHandler(TicketHoldNotFoundException.class)
+    public ResponseEntity<ErrorReponseDto> handleTicketHoldNotFound(TicketHoldNotFoundException ex, HttpServletRequest request) {
+        log.warn("🚫 Ticket hold not found: {}", ex.getMessage());
+        ErrorReponseDto error = new ErrorReponseDto(
+                ex.getMessage(),
+                new Date().toString(),
+                request.getRequestURI(),
+                ex.getClass().getSimpleName(),
+                HttpStatus.NOT_FOUND
+        );
+        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+    }
+
+    // ✅ Ticket belongs to an event the caller neither organizes nor staffs
+    @ExceptionHandler(ScanNotAllowedException.class)
+    public ResponseEntity<ErrorReponseDto> handleScanNotAllowed(ScanNotAllowedException ex, HttpServletRequest request) {
+        log.warn("🔒 Scan not allowed: {}", ex.getMessage());
+        ErrorReponseDto error = new ErrorReponseDto(
+                ex.getMessage(),
+                new Date().toString(),
+                request.getRequestURI(),
+                ex.getClass().getSimpleName(),
+                HttpStatus.FORBIDDEN
+        );
+        return new ResponseEntity<>(error, HttpStatus.FORBIDDEN);
+    }
+
+    // ✅ Inventory exhausted - expected during on-sales, so no stack trace
+    @ExceptionHandler(TicketsSoldOutException.class)
+    public ResponseEntity<ErrorReponseDto> handleTicketsSoldOut(TicketsSoldOutException ex, HttpServletRequest request) {
+        log.debug("Tickets sold out: {}", ex.getMessage());
+        ErrorReponseDto error = new ErrorReponseDto(
+                ex.getMessage(),
+                new Date().toString(),
+                request.getRequestURI(),
+                ex.getClass().getSimpleName(),
+                HttpStatus.CONFLICT
+        );
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
+    // ✅ Write-behind queue is saturated - ask the client to back off instead of queueing unbounded work
+    @ExceptionHandler(WriteBufferFullException.class)
+    public ResponseEntity<ErrorReponseDto> handleWriteBufferFull(WriteBufferFullException ex, HttpServletRequest request) {
+        log.warn("⏳ Write buffer full: {}", ex.getMessage());
+        ErrorReponseDto error = new ErrorReponseDto(
+                ex.getMessage(),
+                new Date().toString(),
+                request.getRequestURI(),
+                ex.getClass().getSimpleName(),
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").body(error);
+    }
+
     // ✅ Handle 404 for missing endpoints (API routes)
     @ExceptionHandler(NoHandlerFoundException.class)
     public ResponseEntity<ErrorReponseDto> handleNoHandlerFound(NoHandlerFoundException ex, HttpServletRequest request) {
@@ -85,4 +210,18 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
+    // ✅ Handle 404 for static paths without a file (missing hashed assets, unknown API routes)
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<ErrorReponseDto> handleNoResourceFound(NoResourceFoundException ex, HttpServletRequest request) {
+        log.warn("🚫 Resource not found: {}", request.getRequestURI());
+        ErrorReponseDto error = new ErrorReponseDto(
+                "Resource not found: " + request.getRequestURI(),
+                new Date().toString(),
+                request.getRequestURI(),
+                "NoResourceFoundException",
+                HttpStatus.NOT_FOUND
+        );
+        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.personal.tickets.holds;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.personal.tickets.config.TicketHoldProperties;
+import com.personal.tickets.domain.Entities.TicketHold;
+import com.personal.tickets.live.EventActivityHub;
+import com.personal.tickets.metrics.TicketMetrics;
+import com.personal.tickets.repositories.TicketHoldRepository;
+import com.personal.tickets.repositories.TicketTypeRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Returns the units of expired ticket holds to the pool with a batched sweep on a single background worker.
+ * Each pass reads only the expired end of the expires_at index, and a batch is deleted and released with one
+ * UPDATE per ticket type, so the cost follows the number of expiring holds, not the number of live ones.
+ */
+@Component
+@Slf4j
+public class TicketHoldSweeper implements DisposableBean {
+
+    private final TicketHoldRepository ticketHoldRepository;
+    private final TicketTypeRepository ticketTypeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TicketMetrics ticketMetrics;
+    private final EventActivityHub eventActivityHub;
+    private final int batchSize;
+    private final AtomicBoolean sweepScheduled = new AtomicBoolean();
+    private final ExecutorService sweeper;
+
+    public TicketHoldSweeper(
+            TicketHoldRepository ticketHoldRepository,
+            TicketTypeRepository ticketTypeRepository,
+            TransactionTemplate transactionTemplate,
+            TicketMetrics ticketMetrics,
+            EventActivityHub eventActivityHub,
+            TicketHoldProperties properties,
+            ThreadFactory workerThreadFactory) {
+        this.ticketHoldRepository = ticketHoldRepository;
+        this.ticketTypeRepository = ticketTypeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ticketMetrics = ticketMetrics;
+        this.eventActivityHub = eventActivityHub;
+        this.batchSize = properties.getSweepBatchSize();
+        this.sweeper = Executors.newSingleThreadExecutor(workerThreadFactory);
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.holds.sweep-interval:PT0.5S}")
+    public void poll() {
+        // Skipped while a long sweep is still running rather than queueing another behind it
+        if (sweepScheduled.compareAndSet(false, true)) {
+            sweeper.execute(this::sweep);
+        }
+    }
+
+    private void sweep() {
+        try {
+            // A full batch suggests more holds have expired
+            int released;
+            do {
+                released = releaseExpiredBatch(LocalDateTime.now());
+            } while (released == batchSize);
+        } catch (RuntimeException e) {
+            // Still expired on the next poll, so nothing is lost by giving up on this pass
+            log.error("❌ Ticket hold sweep failed: {}", e.getMessage(), e);
+        } finally {
+            sweepScheduled.set(false);
+        }
+    }
+
+    int releaseExpiredBatch(LocalDateTime now) {
+        ReleasedBatch batch = transactionTemplate.execute(status -> {
+            List<TicketHold> holds = ticketHoldRepository.findExpiredBatch(now, Limit.of(batchSize));
+            if (holds.isEmpty()) {
+                return null;
+            }
+            List<UUID> ids = new ArrayList<>(holds.size());
+            Map<UUID, Integer> heldByTicketType = new LinkedHashMap<>();
+            for (TicketHold hold : holds) {
+                ids.add(hold.getId());
+                heldByTicketType.merge(hold.getTicketType().getId(), hold.getQuantity(), Integer::sum);
+            }
+            ticketHoldRepository.deleteAllByIdInBatch(ids);
+            heldByTicketType.forEach(ticketTypeRepository::decrementHeld);
+            return new ReleasedBatch(holds.size(), ticketTypeRepository.findEventIdsByIdIn(heldByTicketType.keySet()));
+        });
+        if (batch == null) {
+            return 0;
+        }
+        ticketMetrics.holdsExpired(batch.released());
+        batch.eventIds().forEach(eventActivityHub::changed);
+        return batch.released();
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.shutdownNow();
+    }
+
+    private record ReleasedBatch(int released, List<UUID> eventIds) {}
+}
@@ -0,0 +1,88 @@
+package com.personal.tickets.idempotency;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.personal.tickets.config.IdempotencyProperties;
+import com.personal.tickets.repositories.IdempotencyRecordRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps responses in the idempotency_keys table as well as in memory, so a retry is replayed whichever node
+ * it reaches. Reads go to this node's {@link InMemoryIdempotencyStore} first and only fall through to the
+ * primary key lookup on a miss; rows found there are copied into memory for the next retry.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(prefix = "tickets.idempotency", name = "database-enabled", havingValue = "true")
+@Slf4j
+public class DatabaseIdempotencyStore implements IdempotencyStore {
+
+    private final InMemoryIdempotencyStore local;
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final Duration ttl;
+
+    public DatabaseIdempotencyStore(
+            InMemoryIdempotencyStore local,
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            IdempotencyProperties properties) {
+        this.local = local;
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.ttl = properties.getTtl();
+    }
+
+    @Override
+    public Optional<IdempotentResponse> find(String key) {
+        Optional<IdempotentResponse> cached = local.find(key);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<IdempotentResponse> stored = idempotencyRecordRepository.findLive(key, LocalDateTime.now())
+                .map(record -> new IdempotentResponse(
+                        record.getFingerprint(),
+                        record.getStatus(),
+                        record.getContentType(),
+                        record.getLocation(),
+                        record.getBody()));
+        stored.ifPresent(response -> local.save(key, response));
+        return stored;
+    }
+
+    @Override
+    public void save(String key, IdempotentResponse response) {
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = idempotencyRecordRepository.insertIfAbsent(
+                key,
+                response.fingerprint(),
+                response.status(),
+                response.contentType(),
+                response.location(),
+                response.body(),
+                now.plus(ttl),
+                now);
+        // Another node stored the key first; its row is what later retries must see
+        if (inserted > 0) {
+            local.save(key, response);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.idempotency.sweep-interval:PT10M}")
+    public void deleteExpired() {
+        try {
+            int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                log.debug("Deleted {} expired idempotency keys", deleted);
+            }
+        } catch (RuntimeException e) {
+            // Expired rows are never replayed, so they can wait for the next sweep
+            log.error("❌ Idempotency key sweep failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.personal.tickets.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tickets.config.IdempotencyProperties;
+import com.personal.tickets.dtos.ErrorReponseDto;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Makes purchases and event creation safe to retry. A POST to one of the configured paths that carries an
+ * {@code Idempotency-Key} header runs once per user and key; retries get the stored response back, marked
+ * with {@code Idempotent-Replayed: true}, and a key reused for a different request is rejected with 422.
+ * <p>
+ * Retries that arrive while the first request is still running wait for it instead of running alongside it,
+ * so double-clicks and client timeouts never buy twice. The lookup is a single keyed read of the
+ * {@link IdempotencyStore}; requests without the header only pay for the header check. Server errors and
+ * 429s are not stored, so the client can retry them with the same key.
+ */
+@Component
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final List<PathPattern> paths;
+    private final long inFlightTimeoutMillis;
+    private final long maxBodyBytes;
+    private final ConcurrentMap<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore, ObjectMapper objectMapper, IdempotencyProperties properties) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.paths = properties.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.inFlightTimeoutMillis = properties.getInFlightTimeout().toMillis();
+        this.maxBodyBytes = properties.getMaxBodySize().toBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (request.getHeader(IDEMPOTENCY_KEY_HEADER) == null || !HttpMethod.POST.matches(request.getMethod())) {
+            return true;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        return paths.stream().noneMatch(pattern -> pattern.matches(path));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        // Anonymous requests are turned away by authorization further down the chain
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof Jwt jwt)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST, "InvalidIdempotencyKey",
+                    IDEMPOTENCY_KEY_HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        // Keys are scoped to the user, so two clients picking the same key never see each other's responses
+        String key = jwt.getSubject() + ":" + idempotencyKey;
+        // The body is held in memory while it is fingerprinted, so its size is checked before and while reading it
+        byte[] body = request.getContentLengthLong() <= maxBodyBytes ? CachedBodyRequest.readBody(request, maxBodyBytes) : null;
+        if (body == null) {
+            writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "IdempotentRequestTooLarge",
+                    "Requests with an " + IDEMPOTENCY_KEY_HEADER + " may have at most " + maxBodyBytes + " bytes of body");
+            return;
+        }
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+        String fingerprint = fingerprint(cachedRequest);
+
+        while (true) {
+            CompletableFuture<IdempotentResponse> execution = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponse> running = inFlight.putIfAbsent(key, execution);
+            if (running == null) {
+                try {
+                    // Looked up only once the key is ours, so a request finishing in between is not run again
+                    Optional<IdempotentResponse> stored = idempotencyStore.find(key);
+                    if (stored.isPresent()) {
+                        execution.complete(stored.get());
+                        replay(request, response, stored.get(), fingerprint);
+                    } else {
+                        execution.complete(execute(cachedRequest, response, filterChain, key, fingerprint));
+                    }
+                } finally {
+                    inFlight.remove(key, execution);
+                    // Released without a result when the chain threw, so waiting retries run it themselves
+                    execution.complete(null);
+                }
+                return;
+            }
+
+            IdempotentResponse result;
+            try {
+                result = running.get(inFlightTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, inFlightTimeoutMillis / 1000)));
+                writeError(request, response, HttpStatus.CONFLICT, "IdempotencyKeyInUse",
+                        "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException("Interrupted while waiting for a request with the same idempotency key", e);
+            } catch (ExecutionException e) {
+                result = null;
+            }
+            if (result != null) {
+                replay(request, response, result, fingerprint);
+                return;
+            }
+            // The first request ended without a response worth replaying; the next loop runs this one
+        }
+    }
+
+    private IdempotentResponse execute(
+            CachedBodyRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain,
+            String key,
+            String fingerprint)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, cachingResponse);
+
+        int status = cachingResponse.getStatus();
+        IdempotentResponse result = null;
+        if (status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value()) {
+            result = new IdempotentResponse(
+                    fingerprint,
+                    status,
+                    cachingResponse.getContentType(),
+                    cachingResponse.getHeader(HttpHeaders.LOCATION),
+                    cachingResponse.getContentAsByteArray());
+            try {
+                idempotencyStore.save(key, result);
+            } catch (RuntimeException e) {
+                // The request itself succeeded; a retry just runs it again as if it had no key
+                log.error("❌ Failed to store idempotent response for {}: {}", request.getRequestURI(), e.getMessage(), e);
+            }
+        }
+        cachingResponse.copyBodyToResponse();
+        return result;
+    }
+
+    private void replay(HttpServletRequest request, HttpServletResponse response, IdempotentResponse stored, String fingerprint)
+            throws IOException {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY, "IdempotencyKeyReused",
+                    IDEMPOTENCY_KEY_HEADER + " was already used for a different request");
+            return;
+        }
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String exception, String message)
+            throws IOException {
+        log.warn("⚠️ {}: {}", exception, message);
+        ErrorReponseDto error = new ErrorReponseDto(message, new Date().toString(), request.getRequestURI(), exception, status);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    /**
+     * SHA-256 over what identifies the request, so a key sent again with other path variables or another body
+     * is recognised as reused rather than replayed.
+     */
+    static String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            if (request.getQueryString() != null) {
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) 0);
+            digest.update(request.body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Reads the body up front, so it can be fingerprinted before the controller consumes it.
+     */
+    static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        /**
+         * Reads at most one byte past the limit, so an oversize body without a Content-Length is not buffered
+         * either; returns null when the body is larger than maxBytes.
+         */
+        static byte[] readBody(HttpServletRequest request, long maxBytes) throws IOException {
+            byte[] body = request.getInputStream().readNBytes((int) Math.min(maxBytes + 1, Integer.MAX_VALUE - 8));
+            return body.length > maxBytes ? null : body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // The whole body is already in memory, so it is available at once and never blocks
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(@NonNull byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), charset));
+        }
+    }
+}
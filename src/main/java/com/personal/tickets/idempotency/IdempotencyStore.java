@@ -0,0 +1,22 @@
+package com.personal.tickets.idempotency;
+
+import java.util.Optional;
+
+/**
+ * Completed responses by idempotency key. {@link InMemoryIdempotencyStore} keeps them per node;
+ * {@link DatabaseIdempotencyStore}, enabled with {@code tickets.idempotency.database-enabled}, is declared as
+ * the {@code @Primary} bean and shares them between nodes.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * The response stored under the key, unless it has expired. Must stay a single keyed lookup, it runs on
+     * every request that carries a key.
+     */
+    Optional<IdempotentResponse> find(String key);
+
+    /**
+     * Keeps the response for the configured TTL. The first response stored under a key wins.
+     */
+    void save(String key, IdempotentResponse response);
+}
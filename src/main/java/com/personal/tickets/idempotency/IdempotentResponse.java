@@ -0,0 +1,7 @@
+package com.personal.tickets.idempotency;
+
+/**
+ * A completed response kept for replay, with the fingerprint of the request that produced it so a key reused
+ * for a different request can be told apart.
+ */
+public record IdempotentResponse(String fingerprint, int status, String contentType, String location, byte[] body) {}
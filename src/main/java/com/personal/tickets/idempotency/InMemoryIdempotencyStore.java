@@ -0,0 +1,45 @@
+package com.personal.tickets.idempotency;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.personal.tickets.config.IdempotencyProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Responses of this node, expired after the TTL and bounded by total body bytes. Hits and misses are exported
+ * as {@code cache.gets{cache="idempotency-keys"}}.
+ */
+@Component
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    // Key, status, headers and entry overhead, so empty bodies still count against the bound
+    private static final int ENTRY_OVERHEAD = 512;
+
+    private final Cache<String, IdempotentResponse> responses;
+
+    public InMemoryIdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.responses = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumWeight(properties.getCacheMaximumWeight())
+                .weigher((String key, IdempotentResponse response) -> ENTRY_OVERHEAD + response.body().length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "idempotency-keys");
+    }
+
+    @Override
+    public Optional<IdempotentResponse> find(String key) {
+        return Optional.ofNullable(responses.getIfPresent(key));
+    }
+
+    @Override
+    public void save(String key, IdempotentResponse response) {
+        responses.asMap().putIfAbsent(key, response);
+    }
+}
@@ -0,0 +1,229 @@
+package com.personal.tickets.live;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.personal.tickets.config.LiveUpdatesProperties;
+import com.personal.tickets.domain.Messages.EventActivityMessage;
+import com.personal.tickets.domain.Results.EventStats;
+import com.personal.tickets.exceptions.EventNotFoundException;
+import com.personal.tickets.services.EventStatsService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans sales and check-in changes out to the Server-Sent Events streams of organizer dashboards. Changes only
+ * mark an event as dirty; once per publish interval the hub reads the stats of each dirty or due event once,
+ * however many dashboards watch it, and hands the result to every subscriber. A subscriber that has not taken
+ * the previous update yet has it replaced, so nobody gets more than one message per interval and a slow
+ * client never builds up a backlog.
+ * <p>
+ * Streams are async requests, so an idle subscriber holds no thread. Writes run on virtual threads, one per
+ * subscriber with something to send, so a client that stops reading parks a virtual thread instead of
+ * stalling the fan-out.
+ */
+@Component
+@Slf4j
+public class EventActivityHub implements DisposableBean {
+
+    private final EventStatsService eventStatsService;
+    private final long refreshIntervalNanos;
+    private final long heartbeatIntervalNanos;
+    private final long subscriptionTimeoutMillis;
+    private final ConcurrentMap<UUID, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicBoolean publishScheduled = new AtomicBoolean();
+    private final ExecutorService publisher;
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("live-", 0).factory());
+
+    public EventActivityHub(EventStatsService eventStatsService, LiveUpdatesProperties properties, ThreadFactory workerThreadFactory) {
+        this.eventStatsService = eventStatsService;
+        this.refreshIntervalNanos = properties.getRefreshInterval().toNanos();
+        this.heartbeatIntervalNanos = properties.getHeartbeatInterval().toNanos();
+        this.subscriptionTimeoutMillis = properties.getSubscriptionTimeout().toMillis();
+        this.publisher = Executors.newSingleThreadExecutor(workerThreadFactory);
+    }
+
+    /**
+     * Opens a stream for an organizer's event, starting with the current totals. Throws
+     * {@link EventNotFoundException} before anything is streamed when the event is not theirs.
+     */
+    public SseEmitter subscribe(UUID organizerId, UUID eventId) {
+        EventStats current = eventStatsService.getEventStatsForOrganizer(organizerId, eventId);
+        Subscriber subscriber = new Subscriber(eventId, new SseEmitter(subscriptionTimeoutMillis));
+        // Queued before the subscriber is visible, so a newer update from a concurrent publish replaces it
+        subscriber.pending.set(current);
+        channels.compute(eventId, (id, channel) -> {
+            Channel joined = channel != null ? channel : new Channel(organizerId, current);
+            joined.subscribers.add(subscriber);
+            return joined;
+        });
+        subscriber.emitter.onCompletion(() -> unsubscribe(eventId, subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(eventId, subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(eventId, subscriber));
+        startSending(subscriber);
+        return subscriber.emitter;
+    }
+
+    /**
+     * Marks an event as changed; it is read and pushed with the next publish. A map lookup when nobody
+     * watches the event, so it is safe to call on every purchase and scan.
+     */
+    public void changed(UUID eventId) {
+        Channel channel = channels.get(eventId);
+        if (channel != null) {
+            channel.dirty = true;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.live.publish-interval:PT0.25S}")
+    public void poll() {
+        // Skipped while a slow publish is still running rather than queueing another behind it
+        if (publishScheduled.compareAndSet(false, true)) {
+            publisher.execute(this::publish);
+        }
+    }
+
+    void publish() {
+        try {
+            channels.forEach(this::publish);
+        } finally {
+            publishScheduled.set(false);
+        }
+    }
+
+    private void publish(UUID eventId, Channel channel) {
+        long now = System.nanoTime();
+        if (channel.dirty || now - channel.refreshedAt >= refreshIntervalNanos) {
+            // Cleared before reading, so a change made during the read is picked up by the next publish
+            channel.dirty = false;
+            channel.refreshedAt = now;
+            EventStats current;
+            try {
+                current = eventStatsService.getEventStatsForOrganizer(channel.organizerId, eventId);
+            } catch (EventNotFoundException e) {
+                // Deleted while being watched
+                channel.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+                channels.remove(eventId, channel);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("❌ Failed to read stats for live event {}: {}", eventId, e.getMessage());
+                return;
+            }
+            if (!current.equals(channel.latest)) {
+                channel.latest = current;
+                channel.heartbeatAt = now;
+                channel.subscribers.forEach(subscriber -> offer(subscriber, current));
+                return;
+            }
+        }
+        if (now - channel.heartbeatAt >= heartbeatIntervalNanos) {
+            channel.heartbeatAt = now;
+            channel.subscribers.forEach(subscriber -> {
+                subscriber.heartbeat = true;
+                startSending(subscriber);
+            });
+        }
+    }
+
+    private void offer(Subscriber subscriber, EventStats stats) {
+        // Replaces an update the subscriber has not taken yet; its changes are computed against what it was sent
+        subscriber.pending.set(stats);
+        startSending(subscriber);
+    }
+
+    private void startSending(Subscriber subscriber) {
+        if (subscriber.sending.compareAndSet(false, true)) {
+            senders.execute(() -> send(subscriber));
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            while (true) {
+                EventStats stats = subscriber.pending.getAndSet(null);
+                if (stats != null) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .name("stats")
+                            .data(EventActivityMessage.of(stats, subscriber.sent), MediaType.APPLICATION_JSON));
+                    subscriber.sent = stats;
+                    subscriber.heartbeat = false;
+                } else if (subscriber.heartbeat) {
+                    subscriber.heartbeat = false;
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    subscriber.sending.set(false);
+                    // An offer between the last check and the release found sending still set, so take it here
+                    if ((subscriber.pending.get() == null && !subscriber.heartbeat) || !subscriber.sending.compareAndSet(false, true)) {
+                        return;
+                    }
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the stream already completed
+            unsubscribe(subscriber.eventId, subscriber);
+        }
+    }
+
+    private void unsubscribe(UUID eventId, Subscriber subscriber) {
+        channels.computeIfPresent(eventId, (id, channel) -> {
+            channel.subscribers.remove(subscriber);
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+
+    int subscriberCount(UUID eventId) {
+        Channel channel = channels.get(eventId);
+        return channel != null ? channel.subscribers.size() : 0;
+    }
+
+    @Override
+    public void destroy() {
+        publisher.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        senders.shutdownNow();
+    }
+
+    private static final class Channel {
+        private final UUID organizerId;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private volatile boolean dirty;
+        // Only touched by the publisher thread
+        private EventStats latest;
+        private long refreshedAt = System.nanoTime();
+        private long heartbeatAt = System.nanoTime();
+
+        private Channel(UUID organizerId, EventStats latest) {
+            this.organizerId = organizerId;
+            this.latest = latest;
+        }
+    }
+
+    private static final class Subscriber {
+        private final UUID eventId;
+        private final SseEmitter emitter;
+        private final AtomicReference<EventStats> pending = new AtomicReference<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean heartbeat;
+        // Only touched by the sender currently holding the sending flag
+        private volatile EventStats sent;
+
+        private Subscriber(UUID eventId, SseEmitter emitter) {
+            this.eventId = eventId;
+            this.emitter = emitter;
+        }
+    }
+}
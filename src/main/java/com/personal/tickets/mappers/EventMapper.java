@@ -1,14 +1,27 @@
 package com.personal.tickets.mappers;
 
+import java.util.List;
+
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
 import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Entities.TicketType;
+import com.personal.tickets.domain.Projections.PublishedEventSummary;
 import com.personal.tickets.domain.Requests.CreateEventRequest;
 import com.personal.tickets.domain.Requests.CreateTicketTypeRequest;
+import com.personal.tickets.domain.Results.EventCreationResult;
+import com.personal.tickets.domain.Results.EventStats;
+import com.personal.tickets.dtos.BulkCreateEventResultDto;
 import com.personal.tickets.dtos.CreateEventRequestDto;
 import com.personal.tickets.dtos.CreateEventResponseDto;
 import com.personal.tickets.dtos.CreateTicketTypeRequestDto;
+import com.personal.tickets.dtos.EventStatsResponseDto;
+import com.personal.tickets.dtos.GetEventDetailsResponseDto;
+import com.personal.tickets.dtos.GetPublishedEventDetailsResponseDto;
+import com.personal.tickets.dtos.GetPublishedEventTicketTypesResponseDto;
+import com.personal.tickets.dtos.ListEventResponseDto;
+import com.personal.tickets.dtos.ListPublishedEventResponseDto;
 
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
@@ -17,5 +30,21 @@ public interface EventMapper {
 
     CreateEventRequest fromDto(CreateEventRequestDto dto);
 
+    List<CreateEventRequest> fromDtos(List<CreateEventRequestDto> dtos);
+
+    BulkCreateEventResultDto toBulkCreateEventResultDto(EventCreationResult result);
+
     CreateEventResponseDto toDto(Event event);
+
+    ListPublishedEventResponseDto toListPublishedEventResponseDto(PublishedEventSummary summary);
+
+    GetPublishedEventTicketTypesResponseDto toGetPublishedEventTicketTypesResponseDto(TicketType ticketType);
+
+    GetPublishedEventDetailsResponseDto toGetPublishedEventDetailsResponseDto(Event event);
+
+    ListEventResponseDto toListEventResponseDto(Event event);
+
+    GetEventDetailsResponseDto toGetEventDetailsResponseDto(Event event);
+
+    EventStatsResponseDto toEventStatsResponseDto(EventStats eventStats);
 }
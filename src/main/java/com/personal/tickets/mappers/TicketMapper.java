@@ -0,0 +1,26 @@
+package com.personal.tickets.mappers;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+import com.personal.tickets.domain.Entities.TicketHold;
+import com.personal.tickets.domain.Projections.TicketDetails;
+import com.personal.tickets.domain.Projections.TicketSummary;
+import com.personal.tickets.dtos.GetTicketResponseDto;
+import com.personal.tickets.dtos.ListTicketResponseDto;
+import com.personal.tickets.dtos.TicketHoldResponseDto;
+
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface TicketMapper {
+    @Mapping(target = "ticketType.id", source = "ticketTypeId")
+    @Mapping(target = "ticketType.name", source = "ticketTypeName")
+    @Mapping(target = "ticketType.price", source = "ticketTypePrice")
+    ListTicketResponseDto toListTicketResponseDto(TicketSummary ticketSummary);
+
+    GetTicketResponseDto toGetTicketResponseDto(TicketDetails ticketDetails);
+
+    @Mapping(target = "ticketTypeId", source = "ticketType.id")
+    TicketHoldResponseDto toTicketHoldResponseDto(TicketHold ticketHold);
+}
@@ -0,0 +1,17 @@
+package com.personal.tickets.mappers;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import com.personal.tickets.domain.Requests.TicketScanRequest;
+import com.personal.tickets.domain.Results.TicketValidationResult;
+import com.personal.tickets.dtos.TicketScanRequestDto;
+import com.personal.tickets.dtos.TicketValidationResponseDto;
+
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface TicketValidationMapper {
+    TicketValidationResponseDto toTicketValidationResponseDto(TicketValidationResult result);
+
+    TicketScanRequest fromTicketScanRequestDto(TicketScanRequestDto dto);
+}
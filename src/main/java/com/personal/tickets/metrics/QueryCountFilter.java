@@ -0,0 +1,69 @@
+package com.personal.tickets.metrics;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records how many SQL statements each request issued as {@code tickets.http.queries{method,uri}}, where
+ * {@code uri} is the matched route template like in {@code http.server.requests}. Runs ahead of the security
+ * chain so user provisioning is included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    // Keyed by route template, then method: both are small fixed sets, so after warm-up a request costs two
+    // map lookups and no allocation
+    private final ConcurrentMap<String, ConcurrentMap<String, DistributionSummary>> summaries = new ConcurrentHashMap<>();
+
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long before = QueryCounter.current();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long queries = QueryCounter.current() - before;
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            summaryFor(request.getMethod(), pattern instanceof String uri ? uri : UNKNOWN_URI).record(queries);
+        }
+    }
+
+    private DistributionSummary summaryFor(String method, String uri) {
+        ConcurrentMap<String, DistributionSummary> byMethod = summaries.get(uri);
+        if (byMethod == null) {
+            byMethod = summaries.computeIfAbsent(uri, u -> new ConcurrentHashMap<>());
+        }
+        DistributionSummary summary = byMethod.get(method);
+        if (summary == null) {
+            summary = byMethod.computeIfAbsent(method, m -> DistributionSummary.builder("tickets.http.queries")
+                    .description("SQL statements issued per HTTP request")
+                    .baseUnit("statements")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry));
+        }
+        return summary;
+    }
+}
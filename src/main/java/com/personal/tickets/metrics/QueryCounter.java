@@ -0,0 +1,24 @@
+package com.personal.tickets.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on each thread. Registered through
+ * {@code hibernate.session_factory.statement_inspector}; Hibernate allows a single inspector, so tests read
+ * the same counter. A request thread's count only grows, callers measure a unit of work by its difference.
+ */
+public class QueryCounter implements StatementInspector {
+
+    // A mutable cell instead of a boxed Long, so counting allocates nothing
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    public static long current() {
+        return COUNT.get()[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+}
@@ -0,0 +1,83 @@
+package com.personal.tickets.metrics;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.personal.tickets.domain.Enums.TicketValidationMethod;
+import com.personal.tickets.domain.Enums.TicketValidationStatusEnum;
+import com.personal.tickets.repositories.TicketTypeRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Business meters: {@code tickets.sold}, {@code tickets.holds.expired}, {@code tickets.scans{status,method}} (rate() gives scans per
+ * second) and {@code tickets.inventory.remaining}, the untagged total over limited ticket types of events on sale
+ * (held units are not remaining). Counters are registered up front, so recording on the hot path is a single increment.
+ */
+@Component
+@Slf4j
+public class TicketMetrics {
+
+    private final TicketTypeRepository ticketTypeRepository;
+    private final Counter ticketsSold;
+    private final Counter holdsExpired;
+    private final Counter[][] scans;
+    private final AtomicLong inventoryRemaining = new AtomicLong();
+
+    public TicketMetrics(TicketTypeRepository ticketTypeRepository, MeterRegistry meterRegistry) {
+        this.ticketTypeRepository = ticketTypeRepository;
+        this.ticketsSold = Counter.builder("tickets.sold")
+                .description("Tickets sold")
+                .register(meterRegistry);
+        this.holdsExpired = Counter.builder("tickets.holds.expired")
+                .description("Ticket holds released because checkout was not completed in time")
+                .register(meterRegistry);
+        TicketValidationStatusEnum[] statuses = TicketValidationStatusEnum.values();
+        TicketValidationMethod[] methods = TicketValidationMethod.values();
+        this.scans = new Counter[statuses.length][methods.length];
+        for (TicketValidationStatusEnum status : statuses) {
+            for (TicketValidationMethod method : methods) {
+                scans[status.ordinal()][method.ordinal()] = Counter.builder("tickets.scans")
+                        .description("Ticket validations at the gate")
+                        .tag("status", status.name())
+                        .tag("method", method.name())
+                        .register(meterRegistry);
+            }
+        }
+        Gauge.builder("tickets.inventory.remaining", inventoryRemaining, AtomicLong::get)
+                .description("Unsold, unheld tickets of limited ticket types of events on sale")
+                .baseUnit("tickets")
+                .register(meterRegistry);
+    }
+
+    public void ticketSold() {
+        ticketsSold.increment();
+    }
+
+    public void holdsExpired(int count) {
+        holdsExpired.increment(count);
+    }
+
+    public void ticketScanned(TicketValidationStatusEnum status, TicketValidationMethod method) {
+        scans[status.ordinal()][method.ordinal()].increment();
+    }
+
+    /**
+     * Re-reads remaining inventory with one aggregate query; the database sums it, so the cost does not grow with
+     * the number of ticket types.
+     */
+    @Scheduled(fixedDelayString = "${tickets.metrics.inventory-refresh-interval:PT30S}")
+    public void refreshInventory() {
+        try {
+            inventoryRemaining.set(ticketTypeRepository.sumRemainingOnSale(LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("❌ Failed to refresh inventory metrics: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.personal.tickets.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times bearer token decoding (signature check, claim validation and any JWK fetch) as
+ * {@code tickets.jwt.decode{outcome}}.
+ */
+public class TimedJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Timer success;
+    private final Timer failure;
+
+    public TimedJwtDecoder(JwtDecoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.success = timer(meterRegistry, "success");
+        this.failure = timer(meterRegistry, "failure");
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        long start = System.nanoTime();
+        Timer timer = failure;
+        try {
+            Jwt jwt = delegate.decode(token);
+            timer = success;
+            return jwt;
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("tickets.jwt.decode")
+                .description("Time to decode and validate a bearer token")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
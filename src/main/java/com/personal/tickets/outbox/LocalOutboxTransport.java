@@ -0,0 +1,39 @@
+package com.personal.tickets.outbox;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.personal.tickets.domain.Messages.EventChangedMessage;
+import com.personal.tickets.domain.Messages.OutboxMessage;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Delivers changes to listeners in this JVM: every {@link OutboxMessage} as is, plus one
+ * {@link EventChangedMessage} per changed event and batch for the read models. Published inside the
+ * dispatcher's transaction, so transactional listeners run once the batch has been read. Every node
+ * receives every change, so each node's caches are invalidated.
+ */
+@Component
+@RequiredArgsConstructor
+public class LocalOutboxTransport implements OutboxTransport {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        Set<UUID> changedEventIds = new LinkedHashSet<>();
+        for (OutboxMessage message : messages) {
+            applicationEventPublisher.publishEvent(message);
+            if (message.changeType().changesEvent()) {
+                changedEventIds.add(message.aggregateId());
+            }
+        }
+        changedEventIds.forEach(eventId -> applicationEventPublisher.publishEvent(new EventChangedMessage(eventId)));
+    }
+}
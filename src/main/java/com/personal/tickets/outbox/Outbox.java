@@ -0,0 +1,38 @@
+package com.personal.tickets.outbox;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.personal.tickets.domain.Entities.OutboxEntry;
+import com.personal.tickets.domain.Enums.OutboxChangeType;
+import com.personal.tickets.repositories.OutboxEntryRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records changes for asynchronous publication. Must be called inside the transaction that makes the
+ * change: the entry commits or rolls back with it, and the dispatcher is woken once it has committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class Outbox {
+
+    private final OutboxEntryRepository outboxEntryRepository;
+    private final OutboxDispatcher outboxDispatcher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OutboxChangeType changeType, UUID aggregateId) {
+        outboxEntryRepository.save(OutboxEntry.builder().changeType(changeType).aggregateId(aggregateId).build());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxDispatcher.wakeUp();
+            }
+        });
+    }
+}
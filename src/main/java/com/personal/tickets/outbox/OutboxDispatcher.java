@@ -0,0 +1,157 @@
+package com.personal.tickets.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.personal.tickets.config.OutboxProperties;
+import com.personal.tickets.domain.Entities.OutboxEntry;
+import com.personal.tickets.domain.Messages.OutboxMessage;
+import com.personal.tickets.repositories.OutboxEntryRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes outbox entries to this node's {@link OutboxTransport}s in batches on a single background worker.
+ * Every node reads every entry: each keeps its own high-water mark over the outbox instead of claiming and
+ * deleting rows, so a change reaches the caches of all nodes. Entries are pruned by age once every node has
+ * had time to read them.
+ *
+ * <p>Entries are ordered by their creation time, which is stamped before commit, so an entry can become
+ * visible behind the mark. Each pass therefore re-reads a settle window behind the mark and skips the
+ * entries it already published. A failing transport leaves the mark where it was, so the batch is offered
+ * again by the next poll; delivery is at least once.
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher implements DisposableBean {
+
+    private static final UUID LOWEST_ID = new UUID(0L, 0L);
+
+    private final OutboxEntryRepository outboxEntryRepository;
+    private final List<OutboxTransport> transports;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration settleWindow;
+    private final Duration retention;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final ExecutorService dispatcher;
+    // Only touched by the dispatcher thread. Caches load from the database at startup, so earlier entries are not replayed
+    private LocalDateTime highWaterMark = LocalDateTime.now();
+    private final Map<UUID, LocalDateTime> publishedInSettleWindow = new HashMap<>();
+
+    public OutboxDispatcher(
+            OutboxEntryRepository outboxEntryRepository,
+            List<OutboxTransport> transports,
+            TransactionTemplate transactionTemplate,
+            OutboxProperties properties,
+            ThreadFactory workerThreadFactory) {
+        this.outboxEntryRepository = outboxEntryRepository;
+        this.transports = transports;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = properties.getBatchSize();
+        this.settleWindow = properties.getSettleWindow();
+        this.retention = properties.getRetention();
+        this.dispatcher = Executors.newSingleThreadExecutor(workerThreadFactory);
+    }
+
+    /**
+     * Schedules a drain unless one is already pending; cheap enough to call after every commit.
+     */
+    public void wakeUp() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            dispatcher.execute(this::drain);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.outbox.poll-interval:PT1S}")
+    public void poll() {
+        wakeUp();
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.outbox.prune-interval:PT1M}")
+    public void prune() {
+        try {
+            int pruned = outboxEntryRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+            if (pruned > 0) {
+                log.debug("Pruned {} outbox entries", pruned);
+            }
+        } catch (RuntimeException e) {
+            // Every node prunes, and old entries are skipped anyway, so they can wait for the next run
+            log.error("❌ Outbox prune failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void drain() {
+        // Cleared before draining so that commits during the drain schedule another pass
+        drainScheduled.set(false);
+        try {
+            LocalDateTime afterCreatedAt = highWaterMark.minus(settleWindow);
+            UUID afterId = LOWEST_ID;
+            // A full batch suggests more entries are waiting
+            List<OutboxEntry> entries;
+            do {
+                entries = dispatchBatch(afterCreatedAt, afterId);
+                for (OutboxEntry entry : entries) {
+                    publishedInSettleWindow.put(entry.getId(), entry.getCreatedAt());
+                    if (entry.getCreatedAt().isAfter(highWaterMark)) {
+                        highWaterMark = entry.getCreatedAt();
+                    }
+                }
+                if (!entries.isEmpty()) {
+                    OutboxEntry last = entries.get(entries.size() - 1);
+                    afterCreatedAt = last.getCreatedAt();
+                    afterId = last.getId();
+                }
+            } while (entries.size() == batchSize);
+            LocalDateTime settledBefore = highWaterMark.minus(settleWindow);
+            publishedInSettleWindow.values().removeIf(createdAt -> createdAt.isBefore(settledBefore));
+        } catch (RuntimeException e) {
+            // Offered again by the next poll instead of spinning against a failing transport
+            log.error("❌ Outbox dispatch failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Publishes the entries of one batch that this node has not published yet.
+     *
+     * @return every entry read, published now or before
+     */
+    private List<OutboxEntry> dispatchBatch(LocalDateTime afterCreatedAt, UUID afterId) {
+        List<OutboxEntry> entries = transactionTemplate.execute(status -> {
+            List<OutboxEntry> batch = outboxEntryRepository.findAfter(afterCreatedAt, afterId, Limit.of(batchSize));
+            List<OutboxMessage> messages = new ArrayList<>(batch.size());
+            for (OutboxEntry entry : batch) {
+                if (!publishedInSettleWindow.containsKey(entry.getId())) {
+                    messages.add(new OutboxMessage(entry.getId(), entry.getChangeType(), entry.getAggregateId(), entry.getCreatedAt()));
+                }
+            }
+            if (!messages.isEmpty()) {
+                for (OutboxTransport transport : transports) {
+                    transport.publish(messages);
+                }
+            }
+            return batch;
+        });
+        return entries != null ? entries : List.of();
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.shutdownNow();
+    }
+}
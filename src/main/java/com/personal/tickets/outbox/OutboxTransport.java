@@ -0,0 +1,14 @@
+package com.personal.tickets.outbox;
+
+import java.util.List;
+
+import com.personal.tickets.domain.Messages.OutboxMessage;
+
+/**
+ * Destination for committed changes. Every transport bean receives every batch, oldest first; throwing
+ * leaves the batch in the outbox and it is offered again to all transports.
+ */
+public interface OutboxTransport {
+
+    void publish(List<OutboxMessage> messages);
+}
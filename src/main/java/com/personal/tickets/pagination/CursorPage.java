@@ -0,0 +1,27 @@
+package com.personal.tickets.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One keyset page. {@code nextCursor} is null on the last page and {@code totalElements} is null unless
+ * the caller asked for the count.
+ */
+public record CursorPage<T>(List<T> content, String nextCursor, Long totalElements) {
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}; the extra row only signals that
+     * another page exists.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, KeysetCursor> cursorOf, Long totalElements) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null, totalElements);
+        }
+        List<T> content = rows.subList(0, size);
+        return new CursorPage<>(content, cursorOf.apply(content.get(size - 1)).encode(), totalElements);
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor, totalElements);
+    }
+}
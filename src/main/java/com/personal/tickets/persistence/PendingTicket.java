@@ -0,0 +1,9 @@
+package com.personal.tickets.persistence;
+
+import java.util.UUID;
+
+/**
+ * A purchase waiting to be written. Its unit of inventory is claimed in the same batch transaction that
+ * inserts the ticket.
+ */
+public record PendingTicket(UUID purchaserId, UUID eventId, UUID ticketTypeId) {}
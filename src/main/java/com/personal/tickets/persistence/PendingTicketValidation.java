@@ -0,0 +1,16 @@
+package com.personal.tickets.persistence;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.personal.tickets.domain.Enums.TicketValidationMethod;
+import com.personal.tickets.domain.Enums.TicketValidationStatusEnum;
+
+/**
+ * A scan outcome that was already decided in memory and only needs to be recorded.
+ */
+public record PendingTicketValidation(
+        UUID ticketId,
+        TicketValidationStatusEnum status,
+        TicketValidationMethod method,
+        LocalDateTime scannedAt) {}
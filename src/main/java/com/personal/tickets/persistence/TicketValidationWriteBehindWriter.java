@@ -0,0 +1,79 @@
+package com.personal.tickets.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.personal.tickets.config.WriteBehindProperties;
+import com.personal.tickets.domain.Entities.TicketValidation;
+import com.personal.tickets.repositories.TicketRepository;
+import com.personal.tickets.repositories.TicketValidationRepository;
+
+/**
+ * Records gate scan outcomes in batches. Scans are answered from the in-memory index, so callers normally
+ * do not wait for the returned future.
+ */
+@Component
+public class TicketValidationWriteBehindWriter implements DisposableBean {
+
+    private final TicketRepository ticketRepository;
+    private final TicketValidationRepository ticketValidationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final WriteBehindBuffer<PendingTicketValidation, TicketValidation> buffer;
+
+    public TicketValidationWriteBehindWriter(
+            TicketRepository ticketRepository,
+            TicketValidationRepository ticketValidationRepository,
+            TransactionTemplate transactionTemplate,
+            WriteBehindProperties properties,
+            ThreadFactory workerThreadFactory) {
+        this.ticketRepository = ticketRepository;
+        this.ticketValidationRepository = ticketValidationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.buffer = new WriteBehindBuffer<>(
+                "ticket-validations",
+                properties.getCapacity(),
+                properties.getBatchSize(),
+                properties.getMaxDelay().toNanos(),
+                properties.getOfferTimeout().toNanos(),
+                properties.getFlushers(),
+                workerThreadFactory,
+                this::persist);
+    }
+
+    public CompletableFuture<TicketValidation> write(PendingTicketValidation pendingValidation) {
+        return buffer.submit(pendingValidation);
+    }
+
+    /**
+     * Writes the validations right away in a single batched transaction, for callers that must confirm durability.
+     */
+    public List<TicketValidation> writeAll(List<PendingTicketValidation> pendingValidations) {
+        return persist(pendingValidations);
+    }
+
+    private List<TicketValidation> persist(List<PendingTicketValidation> pendingValidations) {
+        return transactionTemplate.execute(status -> {
+            List<TicketValidation> validationsToCreate = new ArrayList<>(pendingValidations.size());
+            for (PendingTicketValidation pendingValidation : pendingValidations) {
+                TicketValidation validationToCreate = new TicketValidation();
+                validationToCreate.setStatus(pendingValidation.status());
+                validationToCreate.setValidationMethod(pendingValidation.method());
+                validationToCreate.setScannedAt(pendingValidation.scannedAt());
+                validationToCreate.setTicket(ticketRepository.getReferenceById(pendingValidation.ticketId()));
+                validationsToCreate.add(validationToCreate);
+            }
+            return ticketValidationRepository.saveAll(validationsToCreate);
+        });
+    }
+
+    @Override
+    public void destroy() {
+        buffer.close();
+    }
+}
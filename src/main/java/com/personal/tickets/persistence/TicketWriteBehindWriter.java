@@ -0,0 +1,128 @@
+package com.personal.tickets.persistence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.personal.tickets.config.WriteBehindProperties;
+import com.personal.tickets.domain.Entities.QrCode;
+import com.personal.tickets.domain.Entities.Ticket;
+import com.personal.tickets.domain.Enums.QrCodeStatusEnum;
+import com.personal.tickets.domain.Enums.TicketStatusEnum;
+import com.personal.tickets.repositories.TicketRepository;
+import com.personal.tickets.repositories.TicketTypeRepository;
+import com.personal.tickets.repositories.UserRepository;
+
+/**
+ * Persists purchased tickets and their QR codes in group-committed JDBC batches instead of one
+ * transaction per purchase. Each purchase claims its unit of inventory inside the batch, so the sold counter
+ * and the tickets always commit together.
+ */
+@Component
+public class TicketWriteBehindWriter implements DisposableBean {
+
+    private final UserRepository userRepository;
+    private final TicketTypeRepository ticketTypeRepository;
+    private final TicketRepository ticketRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final WriteBehindBuffer<PendingTicket, Ticket> buffer;
+
+    public TicketWriteBehindWriter(
+            UserRepository userRepository,
+            TicketTypeRepository ticketTypeRepository,
+            TicketRepository ticketRepository,
+            TransactionTemplate transactionTemplate,
+            WriteBehindProperties properties,
+            ThreadFactory workerThreadFactory) {
+        this.userRepository = userRepository;
+        this.ticketTypeRepository = ticketTypeRepository;
+        this.ticketRepository = ticketRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.buffer = new WriteBehindBuffer<>(
+                "tickets",
+                properties.getCapacity(),
+                properties.getBatchSize(),
+                properties.getMaxDelay().toNanos(),
+                properties.getOfferTimeout().toNanos(),
+                properties.getFlushers(),
+                workerThreadFactory,
+                this::persist);
+    }
+
+    /**
+     * Queues the purchase for the next batch. The returned future completes once the batch is committed, with
+     * the ticket, or with null when no unit could be claimed because the ticket type is sold out, unknown or
+     * not on sale.
+     */
+    public CompletableFuture<Ticket> write(PendingTicket pendingTicket) {
+        return buffer.submit(pendingTicket);
+    }
+
+    private List<Ticket> persist(List<PendingTicket> pendingTickets) {
+        return transactionTemplate.execute(status -> {
+            // Claimed in ticket type order, so two flushers never lock the same rows in opposite order
+            List<Integer> claimOrder = new ArrayList<>(pendingTickets.size());
+            for (int i = 0; i < pendingTickets.size(); i++) {
+                claimOrder.add(i);
+            }
+            claimOrder.sort(Comparator.comparing(i -> pendingTickets.get(i).ticketTypeId()));
+
+            // The claim commits with the ticket, so a crash between the two can never leave a unit sold without one
+            Ticket[] results = new Ticket[pendingTickets.size()];
+            List<Ticket> ticketsToCreate = new ArrayList<>(pendingTickets.size());
+            List<Integer> positions = new ArrayList<>(pendingTickets.size());
+            for (int i : claimOrder) {
+                PendingTicket pendingTicket = pendingTickets.get(i);
+                if (ticketTypeRepository.incrementSold(pendingTicket.eventId(), pendingTicket.ticketTypeId()) == 0) {
+                    continue;
+                }
+                ticketsToCreate.add(newTicket(pendingTicket.purchaserId(), pendingTicket.ticketTypeId()));
+                positions.add(i);
+            }
+            List<Ticket> createdTickets = ticketRepository.saveAll(ticketsToCreate);
+            for (int i = 0; i < createdTickets.size(); i++) {
+                results[positions.get(i)] = createdTickets.get(i);
+            }
+            return Arrays.asList(results);
+        });
+    }
+
+    /**
+     * Writes tickets right away in the caller's transaction, for purchases whose units are claimed in that
+     * same transaction, so the claim and the tickets commit or roll back together.
+     */
+    public List<Ticket> writeInTransaction(UUID purchaserId, UUID ticketTypeId, int quantity) {
+        List<Ticket> ticketsToCreate = new ArrayList<>(quantity);
+        for (int i = 0; i < quantity; i++) {
+            ticketsToCreate.add(newTicket(purchaserId, ticketTypeId));
+        }
+        return ticketRepository.saveAll(ticketsToCreate);
+    }
+
+    private Ticket newTicket(UUID purchaserId, UUID ticketTypeId) {
+        Ticket ticket = new Ticket();
+        ticket.setStatus(TicketStatusEnum.PURCHASED);
+        ticket.setTicketType(ticketTypeRepository.getReferenceById(ticketTypeId));
+        ticket.setPurchaser(userRepository.getReferenceById(purchaserId));
+
+        QrCode qrCode = new QrCode();
+        qrCode.setStatus(QrCodeStatusEnum.ACTIVE);
+        qrCode.setValue(UUID.randomUUID().toString());
+        qrCode.setTicket(ticket);
+        ticket.getQrCodes().add(qrCode);
+        return ticket;
+    }
+
+    @Override
+    public void destroy() {
+        buffer.close();
+    }
+}
@@ -0,0 +1,168 @@
+package com.personal.tickets.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.personal.tickets.exceptions.WriteBufferFullException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded queue that groups individual writes into batches and hands each batch to a single flush call.
+ * A batch is flushed as soon as it reaches {@code batchSize} items or {@code maxDelayNanos} after its
+ * first item arrived, whichever comes first. Producers block for at most {@code offerTimeoutNanos}
+ * when the queue is full and are then rejected, so a slow database pushes back on callers instead of
+ * growing the heap.
+ *
+ * <p>Every submitted item gets a future that completes only after the batch containing it was flushed,
+ * so callers that wait on it keep the same durability guarantee as a synchronous save.
+ */
+@Slf4j
+public class WriteBehindBuffer<T, R> implements AutoCloseable {
+
+    private final String name;
+    private final BlockingQueue<Pending<T, R>> queue;
+    private final Function<List<T>, List<R>> flusher;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final long offerTimeoutNanos;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    public WriteBehindBuffer(
+            String name,
+            int capacity,
+            int batchSize,
+            long maxDelayNanos,
+            long offerTimeoutNanos,
+            int flushers,
+            ThreadFactory threadFactory,
+            Function<List<T>, List<R>> flusher) {
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelayNanos;
+        this.offerTimeoutNanos = offerTimeoutNanos;
+        this.flusher = flusher;
+        for (int i = 0; i < flushers; i++) {
+            Thread worker = threadFactory.newThread(this::run);
+            worker.setName(name + "-flusher-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    public CompletableFuture<R> submit(T item) {
+        Pending<T, R> pending = new Pending<>(item, new CompletableFuture<>());
+        boolean accepted;
+        try {
+            accepted = running && queue.offer(pending, offerTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            throw new WriteBufferFullException(String.format("Write buffer %s is full, try again later", name));
+        }
+        return pending.result();
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private void run() {
+        List<Pending<T, R>> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending<T, R> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < batchSize) {
+                    // Take whatever is already queued without waiting, then wait for stragglers until the deadline
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    Pending<T, R> next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                // Only the wait for more items is cut short; what was already taken is still written
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+                if (!running) {
+                    break;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending<T, R>> batch) {
+        List<T> items = new ArrayList<>(batch.size());
+        for (Pending<T, R> pending : batch) {
+            items.add(pending.item());
+        }
+        try {
+            List<R> results = flusher.apply(items);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.error("❌ Write buffer {} failed to flush item: {}", name, e.getMessage(), e);
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            // One bad item must not fail its whole batch: retry one by one so only the culprit is rejected
+            log.warn("⚠️ Write buffer {} failed to flush batch of {}, retrying items individually: {}", name, batch.size(), e.getMessage());
+            for (Pending<T, R> pending : batch) {
+                flush(new ArrayList<>(List.of(pending)));
+            }
+        }
+    }
+
+    /**
+     * Stops accepting new items and drains everything already queued before returning. Items the flushers
+     * could not take in time are failed rather than left waiting forever.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            for (Thread worker : workers) {
+                worker.join(TimeUnit.SECONDS.toMillis(30));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            List<Pending<T, R>> abandoned = new ArrayList<>();
+            queue.drainTo(abandoned);
+            if (!abandoned.isEmpty()) {
+                log.error("❌ Write buffer {} closed with {} unflushed items", name, abandoned.size());
+            }
+            for (Pending<T, R> pending : abandoned) {
+                pending.result().completeExceptionally(new WriteBufferFullException(
+                        String.format("Write buffer %s was closed before the write was flushed", name)));
+            }
+        }
+    }
+
+    private record Pending<T, R>(T item, CompletableFuture<R> result) {}
+}
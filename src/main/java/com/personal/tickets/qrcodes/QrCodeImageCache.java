@@ -0,0 +1,165 @@
+package com.personal.tickets.qrcodes;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.personal.tickets.config.QrCodeImageProperties;
+import com.personal.tickets.domain.Enums.QrCodeImageFormat;
+import com.personal.tickets.domain.Enums.QrCodeStatusEnum;
+import com.personal.tickets.domain.Projections.QrCodeImageSource;
+import com.personal.tickets.repositories.EventRepository;
+import com.personal.tickets.repositories.QrCodeRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rendered QR code images, bounded by total bytes and evicted least recently used first. Entries are keyed
+ * by code, status and format, so a status change never serves a stale image and needs no invalidation.
+ * Hits and misses are exported as {@code cache.gets{cache="qr-code-images"}} through actuator.
+ *
+ * <p>While an event is on sale, a periodic scan on a single background worker renders the PNGs of its newly
+ * purchased tickets, so the ticket page views that follow purchases are served from memory without holding up
+ * the scheduler thread.
+ */
+@Component
+@Slf4j
+public class QrCodeImageCache implements DisposableBean {
+
+    // Re-read behind the last scan so codes committed late by a slow purchase are not skipped
+    private static final long PRERENDER_OVERLAP_SECONDS = 60;
+
+    private final EventRepository eventRepository;
+    private final QrCodeRepository qrCodeRepository;
+    private final QrCodeImageProperties properties;
+    private final QrCodeRenderer renderer;
+    private final Cache<Key, byte[]> images;
+    // Where the next scan of each event on sale starts reading; guarded by scanLock
+    private final Map<UUID, LocalDateTime> prerenderedUntil = new HashMap<>();
+    private final ReentrantLock scanLock = new ReentrantLock();
+    private final AtomicBoolean scanScheduled = new AtomicBoolean();
+    private final ExecutorService prerenderer;
+
+    public QrCodeImageCache(
+            EventRepository eventRepository,
+            QrCodeRepository qrCodeRepository,
+            QrCodeImageProperties properties,
+            MeterRegistry meterRegistry,
+            ThreadFactory workerThreadFactory) {
+        this.eventRepository = eventRepository;
+        this.qrCodeRepository = qrCodeRepository;
+        this.properties = properties;
+        this.renderer = new QrCodeRenderer(properties.getSize(), properties.getMargin());
+        this.images = Caffeine.newBuilder()
+                .maximumWeight(properties.getCacheMaximumWeight())
+                .weigher((Key key, byte[] bytes) -> bytes.length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, images, "qr-code-images");
+        this.prerenderer = Executors.newSingleThreadExecutor(workerThreadFactory);
+    }
+
+    /**
+     * Returns the image bytes, rendering them on the first request only. Concurrent requests for the same
+     * image wait for a single render.
+     */
+    public byte[] get(QrCodeImageSource source, QrCodeImageFormat format) {
+        return images.get(new Key(source.qrCodeId(), source.status(), format), key -> render(source.value(), format));
+    }
+
+    /**
+     * Strong validator for the image: the bytes are a pure function of the code's immutable value, its status
+     * and the format.
+     */
+    public String etag(QrCodeImageSource source, QrCodeImageFormat format) {
+        return "\"qr-" + source.qrCodeId() + "-" + source.status().name().toLowerCase() + "-" + format.name().toLowerCase() + "\"";
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.qr-images.prerender-interval:PT1M}")
+    public void poll() {
+        // Skipped while a long scan is still rendering rather than queueing another behind it
+        if (scanScheduled.compareAndSet(false, true)) {
+            prerenderer.execute(() -> {
+                try {
+                    prerenderEventsOnSale();
+                } finally {
+                    scanScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Renders the active codes of every event on sale that were created since the previous scan; the first
+     * scan after an event goes on sale renders all of them, up to the prerender limit.
+     */
+    void prerenderEventsOnSale() {
+        scanLock.lock();
+        try {
+            LocalDateTime scanStartedAt = LocalDateTime.now();
+            List<UUID> eventIds;
+            try {
+                eventIds = eventRepository.findPublishedEventIdsOnSaleAt(scanStartedAt);
+            } catch (RuntimeException e) {
+                log.warn("QR code pre-rendering could not list events on sale", e);
+                return;
+            }
+            // Events whose sales closed are forgotten
+            prerenderedUntil.keySet().retainAll(new HashSet<>(eventIds));
+            for (UUID eventId : eventIds) {
+                if (prerenderEvent(eventId, prerenderedUntil.get(eventId))) {
+                    prerenderedUntil.put(eventId, scanStartedAt.minusSeconds(PRERENDER_OVERLAP_SECONDS));
+                }
+            }
+        } finally {
+            scanLock.unlock();
+        }
+    }
+
+    private boolean prerenderEvent(UUID eventId, LocalDateTime createdAfter) {
+        try {
+            PageRequest limit = PageRequest.of(0, properties.getPrerenderLimit());
+            List<QrCodeImageSource> sources = createdAfter == null
+                    ? qrCodeRepository.findActiveImageSourcesByEventId(eventId, limit)
+                    : qrCodeRepository.findActiveImageSourcesByEventIdCreatedAfter(eventId, createdAfter, limit);
+            for (QrCodeImageSource source : sources) {
+                get(source, QrCodeImageFormat.PNG);
+            }
+            if (!sources.isEmpty()) {
+                log.debug("Pre-rendered {} QR codes for event {}", sources.size(), eventId);
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("QR code pre-rendering failed for event {}", eventId, e);
+            return false;
+        }
+    }
+
+    private byte[] render(String value, QrCodeImageFormat format) {
+        return format == QrCodeImageFormat.SVG ? renderer.renderSvg(value) : renderer.renderPng(value);
+    }
+
+    @Override
+    public void destroy() {
+        prerenderer.shutdownNow();
+    }
+
+    private record Key(UUID qrCodeId, QrCodeStatusEnum status, QrCodeImageFormat format) {}
+}
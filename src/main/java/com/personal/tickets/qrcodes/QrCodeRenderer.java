@@ -0,0 +1,93 @@
+package com.personal.tickets.qrcodes;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+
+/**
+ * Encodes QR code values as PNG or SVG bytes. Stateless and thread-safe; rendering is the expensive
+ * part, so callers are expected to cache the output.
+ */
+public class QrCodeRenderer {
+
+    private final int size;
+    private final Map<EncodeHintType, Object> hints;
+
+    public QrCodeRenderer(int size, int margin) {
+        this.size = size;
+        this.hints = Map.of(
+                EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M,
+                EncodeHintType.MARGIN, margin,
+                EncodeHintType.CHARACTER_SET, StandardCharsets.UTF_8.name());
+    }
+
+    public byte[] renderPng(String value) {
+        BitMatrix matrix = encode(value, size);
+        // One bit per pixel keeps both the encoder work and the cached bytes small
+        BufferedImage image = new BufferedImage(matrix.getWidth(), matrix.getHeight(), BufferedImage.TYPE_BYTE_BINARY);
+        WritableRaster raster = image.getRaster();
+        int[] row = new int[matrix.getWidth()];
+        for (int y = 0; y < matrix.getHeight(); y++) {
+            for (int x = 0; x < row.length; x++) {
+                row[x] = matrix.get(x, y) ? 0 : 1;
+            }
+            raster.setSamples(0, y, row.length, 1, 0, row);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2048);
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public byte[] renderSvg(String value) {
+        // Encoded at one pixel per module and scaled by the viewBox, with one path segment per dark run
+        BitMatrix matrix = encode(value, 0);
+        int width = matrix.getWidth();
+        int height = matrix.getHeight();
+        StringBuilder path = new StringBuilder(width * height);
+        for (int y = 0; y < height; y++) {
+            int x = 0;
+            while (x < width) {
+                if (!matrix.get(x, y)) {
+                    x++;
+                    continue;
+                }
+                int start = x;
+                while (x < width && matrix.get(x, y)) {
+                    x++;
+                }
+                path.append('M').append(start).append(' ').append(y)
+                        .append('h').append(x - start).append("v1h-").append(x - start).append('z');
+            }
+        }
+        String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 " + width + " " + height + "\" "
+                + "width=\"" + size + "\" height=\"" + size + "\" shape-rendering=\"crispEdges\">"
+                + "<rect width=\"100%\" height=\"100%\" fill=\"#fff\"/>"
+                + "<path fill=\"#000\" d=\"" + path + "\"/></svg>";
+        return svg.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private BitMatrix encode(String value, int edge) {
+        try {
+            return new QRCodeWriter().encode(value, BarcodeFormat.QR_CODE, edge, edge, hints);
+        } catch (WriterException e) {
+            throw new IllegalArgumentException("QR code value cannot be encoded", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.personal.tickets.repositories;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.personal.tickets.domain.Entities.EventCheckInStats;
+
+@Repository
+public interface EventCheckInStatsRepository extends JpaRepository<EventCheckInStats, UUID> {
+
+    /**
+     * Creates the event's zeroed row unless it exists, so concurrent first flushes cannot fail with a duplicate key.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO event_check_in_stats (event_id, tickets_checked_in, scans_rejected, updated_at) " +
+                   "VALUES (:eventId, 0, 0, :now) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("eventId") UUID eventId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE EventCheckInStats s SET s.ticketsCheckedIn = s.ticketsCheckedIn + :checkedIn, " +
+           "s.scansRejected = s.scansRejected + :rejected, s.updatedAt = :now WHERE s.eventId = :eventId")
+    int addScans(@Param("eventId") UUID eventId, @Param("checkedIn") long checkedIn, @Param("rejected") long rejected, @Param("now") LocalDateTime now);
+}
@@ -1,9 +1,70 @@
 package com.personal.tickets.repositories;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+import com.personal.tickets.domain.Projections.PublishedEventSummary;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-@Repository 
-public interface EventRepository extends JpaRepository<Event, UUID> {}
+@Repository
+public interface EventRepository extends JpaRepository<Event, UUID> {
+
+    @Query("SELECT new com.personal.tickets.domain.Projections.PublishedEventSummary(e.id, e.name, e.startDate, e.endDate, e.venue, e.updatedAt) " +
+           "FROM Event e WHERE e.status = com.personal.tickets.domain.Enums.EventStatusEnum.PUBLISHED")
+    List<PublishedEventSummary> findPublishedEventSummaries();
+
+    @Query("SELECT new com.personal.tickets.domain.Projections.PublishedEventSummary(e.id, e.name, e.startDate, e.endDate, e.venue, e.updatedAt) " +
+           "FROM Event e WHERE e.status = com.personal.tickets.domain.Enums.EventStatusEnum.PUBLISHED AND e.id IN :ids")
+    List<PublishedEventSummary> findPublishedEventSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT e.id FROM Event e WHERE e.status = com.personal.tickets.domain.Enums.EventStatusEnum.PUBLISHED " +
+           "AND e.startDate BETWEEN :from AND :to")
+    List<UUID> findPublishedEventIdsStartingBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Events whose ticket sales have opened and not yet closed
+    @Query("SELECT e.id FROM Event e WHERE e.status = com.personal.tickets.domain.Enums.EventStatusEnum.PUBLISHED " +
+           "AND e.salesStartDate <= :now AND (e.salesEndDate IS NULL OR e.salesEndDate > :now)")
+    List<UUID> findPublishedEventIdsOnSaleAt(@Param("now") LocalDateTime now);
+
+    boolean existsByIdAndOrganizerId(UUID id, UUID organizerId);
+
+    // The users allowed to validate tickets at the event: its organizer and its staff
+    @Query("SELECT u.id FROM User u WHERE EXISTS (SELECT e FROM Event e WHERE e.id = :eventId " +
+           "AND (e.organizer = u OR u MEMBER OF e.staff))")
+    List<UUID> findScannerIdsByEventId(@Param("eventId") UUID eventId);
+
+    // Ticket types are left lazy here; paging a fetch join would be done in memory. @BatchSize loads them per page
+    Page<Event> findByOrganizerId(UUID organizerId, Pageable pageable);
+
+    // Keyset pages, newest first, served by idx_events_organizer_created_at_id
+    @Query("SELECT e FROM Event e WHERE e.organizer.id = :organizerId ORDER BY e.createdAt DESC, e.id DESC")
+    List<Event> findByOrganizerId(@Param("organizerId") UUID organizerId, Limit limit);
+
+    @Query("SELECT e FROM Event e WHERE e.organizer.id = :organizerId " +
+           "AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id)) " +
+           "ORDER BY e.createdAt DESC, e.id DESC")
+    List<Event> findByOrganizerIdAfter(
+            @Param("organizerId") UUID organizerId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    long countByOrganizerId(UUID organizerId);
+
+    @EntityGraph(attributePaths = "ticketTypes")
+    Optional<Event> findByIdAndOrganizerId(UUID id, UUID organizerId);
+
+    @EntityGraph(attributePaths = "ticketTypes")
+    Optional<Event> findByIdAndStatus(UUID id, EventStatusEnum status);
+}
@@ -0,0 +1,42 @@
+package com.personal.tickets.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.personal.tickets.domain.Entities.IdempotencyRecord;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Query("SELECT r FROM IdempotencyRecord r WHERE r.id = :id AND r.expiresAt > :now")
+    Optional<IdempotencyRecord> findLive(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    /**
+     * Stores the response unless the key already has one, so the first of two nodes finishing the same key wins.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (id, fingerprint, status, content_type, location, body, expires_at, created_at) " +
+                   "VALUES (:id, :fingerprint, :status, :contentType, :location, :body, :expiresAt, :now) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(
+            @Param("id") String id,
+            @Param("fingerprint") String fingerprint,
+            @Param("status") int status,
+            @Param("contentType") String contentType,
+            @Param("location") String location,
+            @Param("body") byte[] body,
+            @Param("expiresAt") LocalDateTime expiresAt,
+            @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
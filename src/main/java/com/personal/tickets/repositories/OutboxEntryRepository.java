@@ -0,0 +1,32 @@
+package com.personal.tickets.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.personal.tickets.domain.Entities.OutboxEntry;
+
+@Repository
+public interface OutboxEntryRepository extends JpaRepository<OutboxEntry, UUID> {
+
+    /**
+     * Entries after the keyset position (createdAt, id), oldest first. Nothing is locked or claimed: every
+     * node reads the whole outbox and tracks its own position.
+     */
+    @Query("SELECT o FROM OutboxEntry o WHERE o.createdAt > :createdAt OR (o.createdAt = :createdAt AND o.id > :id) " +
+           "ORDER BY o.createdAt, o.id")
+    List<OutboxEntry> findAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEntry o WHERE o.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
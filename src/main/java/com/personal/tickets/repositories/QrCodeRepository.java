@@ -0,0 +1,54 @@
+package com.personal.tickets.repositories;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.personal.tickets.domain.Entities.QrCode;
+import com.personal.tickets.domain.Projections.QrCodeImageSource;
+import com.personal.tickets.domain.Projections.ScanIndexEntry;
+import com.personal.tickets.domain.Projections.ScanTarget;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface QrCodeRepository extends JpaRepository<QrCode, UUID> {
+
+    @Query("SELECT new com.personal.tickets.domain.Projections.ScanIndexEntry(q.value, t.id) " +
+           "FROM QrCode q JOIN q.ticket t JOIN t.ticketType tt " +
+           "WHERE tt.event.id = :eventId " +
+           "AND q.status = com.personal.tickets.domain.Enums.QrCodeStatusEnum.ACTIVE " +
+           "AND t.status = com.personal.tickets.domain.Enums.TicketStatusEnum.PURCHASED")
+    List<ScanIndexEntry> findScanIndexEntriesByEventId(@Param("eventId") UUID eventId);
+
+    @Query("SELECT new com.personal.tickets.domain.Projections.ScanTarget(q.value, t.id, tt.event.id, t.status, q.status) " +
+           "FROM QrCode q JOIN q.ticket t JOIN t.ticketType tt WHERE q.value = :value")
+    List<ScanTarget> findScanTargetsByValue(@Param("value") String value);
+
+    @Query("SELECT new com.personal.tickets.domain.Projections.ScanTarget(q.value, t.id, tt.event.id, t.status, q.status) " +
+           "FROM QrCode q JOIN q.ticket t JOIN t.ticketType tt WHERE q.value IN :values")
+    List<ScanTarget> findScanTargetsByValueIn(@Param("values") Collection<String> values);
+
+    @Query("SELECT new com.personal.tickets.domain.Projections.QrCodeImageSource(q.id, q.value, q.status) " +
+           "FROM QrCode q JOIN q.ticket t WHERE t.id = :ticketId AND t.purchaser.id = :purchaserId " +
+           "ORDER BY q.createdAt DESC")
+    List<QrCodeImageSource> findImageSourcesByTicketIdAndPurchaserId(
+            @Param("ticketId") UUID ticketId, @Param("purchaserId") UUID purchaserId);
+
+    @Query("SELECT new com.personal.tickets.domain.Projections.QrCodeImageSource(q.id, q.value, q.status) " +
+           "FROM QrCode q JOIN q.ticket t JOIN t.ticketType tt " +
+           "WHERE tt.event.id = :eventId AND q.status = com.personal.tickets.domain.Enums.QrCodeStatusEnum.ACTIVE")
+    List<QrCodeImageSource> findActiveImageSourcesByEventId(@Param("eventId") UUID eventId, Pageable pageable);
+
+    @Query("SELECT new com.personal.tickets.domain.Projections.QrCodeImageSource(q.id, q.value, q.status) " +
+           "FROM QrCode q JOIN q.ticket t JOIN t.ticketType tt " +
+           "WHERE tt.event.id = :eventId AND q.status = com.personal.tickets.domain.Enums.QrCodeStatusEnum.ACTIVE " +
+           "AND q.createdAt > :createdAfter")
+    List<QrCodeImageSource> findActiveImageSourcesByEventIdCreatedAfter(
+            @Param("eventId") UUID eventId,
+            @Param("createdAfter") LocalDateTime createdAfter,
+            Pageable pageable);
+}
@@ -0,0 +1,54 @@
+package com.personal.tickets.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.personal.tickets.domain.Entities.TicketHold;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface TicketHoldRepository extends JpaRepository<TicketHold, UUID> {
+
+    // The ticket type comes along, so its event id is known without another select
+    @Query("SELECT h FROM TicketHold h JOIN FETCH h.ticketType WHERE h.id = :holdId AND h.purchaser.id = :purchaserId")
+    Optional<TicketHold> findByIdAndPurchaserId(@Param("holdId") UUID holdId, @Param("purchaserId") UUID purchaserId);
+
+    /**
+     * Deletes a hold that has not expired yet. Deleting the row is what claims its units, so a hold that the
+     * expiry sweep is releasing at the same time is never purchased as well.
+     *
+     * @return 1 if the hold was claimed, 0 if it is gone or expired
+     */
+    @Modifying
+    @Query("DELETE FROM TicketHold h WHERE h.id = :holdId AND h.expiresAt > :now")
+    int deleteUnexpired(@Param("holdId") UUID holdId, @Param("now") LocalDateTime now);
+
+    /**
+     * @return 1 if the hold was claimed, 0 if it is gone
+     */
+    @Modifying
+    @Query("DELETE FROM TicketHold h WHERE h.id = :holdId")
+    int deleteHold(@Param("holdId") UUID holdId);
+
+    /**
+     * Earliest expired holds, read as a range of the expires_at index and locked with SKIP LOCKED (lock
+     * timeout -2) so that sweepers on several nodes release disjoint batches.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT h FROM TicketHold h WHERE h.expiresAt <= :now ORDER BY h.expiresAt")
+    List<TicketHold> findExpiredBatch(@Param("now") LocalDateTime now, Limit limit);
+}
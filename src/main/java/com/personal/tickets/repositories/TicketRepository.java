@@ -0,0 +1,77 @@
+package com.personal.tickets.repositories;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.hibernate.jpa.HibernateHints;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.repository.query.Param;
+import com.personal.tickets.domain.Entities.Ticket;
+import com.personal.tickets.domain.Projections.ScanTarget;
+import com.personal.tickets.domain.Projections.TicketDetails;
+import com.personal.tickets.domain.Projections.TicketExportRow;
+import com.personal.tickets.domain.Projections.TicketSummary;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface TicketRepository extends JpaRepository<Ticket, UUID> {
+
+    @Query("SELECT new com.personal.tickets.domain.Projections.ScanTarget(null, t.id, tt.event.id, t.status, null) " +
+           "FROM Ticket t JOIN t.ticketType tt WHERE t.id = :ticketId")
+    Optional<ScanTarget> findScanTargetById(@Param("ticketId") UUID ticketId);
+
+    @Query("SELECT new com.personal.tickets.domain.Projections.ScanTarget(null, t.id, tt.event.id, t.status, null) " +
+           "FROM Ticket t JOIN t.ticketType tt WHERE t.id IN :ticketIds")
+    List<ScanTarget> findScanTargetsByIdIn(@Param("ticketIds") Collection<UUID> ticketIds);
+
+    // Forward-only cursor over constructor projections, so nothing accumulates in the persistence context
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.personal.tickets.domain.Projections.TicketExportRow(" +
+           "t.id, t.status, t.createdAt, tt.id, tt.name, tt.price, p.id, p.name, p.email, v.status, v.validationMethod, v.createdAt) " +
+           "FROM Ticket t JOIN t.ticketType tt JOIN t.purchaser p " +
+           "LEFT JOIN TicketValidation v ON v.id = (" +
+           "SELECT v2.id FROM TicketValidation v2 WHERE v2.ticket = t ORDER BY v2.createdAt DESC, v2.id DESC LIMIT 1) " +
+           "WHERE tt.event.id = :eventId")
+    Stream<TicketExportRow> streamExportRowsByEventId(@Param("eventId") UUID eventId);
+
+    @Query(value = "SELECT new com.personal.tickets.domain.Projections.TicketSummary(t.id, t.status, tt.id, tt.name, tt.price, t.createdAt) " +
+                   "FROM Ticket t JOIN t.ticketType tt WHERE t.purchaser.id = :purchaserId",
+           countQuery = "SELECT COUNT(t) FROM Ticket t WHERE t.purchaser.id = :purchaserId")
+    Page<TicketSummary> findSummariesByPurchaserId(@Param("purchaserId") UUID purchaserId, Pageable pageable);
+
+    // Keyset pages, newest first, served by idx_tickets_purchaser_created_at_id
+    @Query("SELECT new com.personal.tickets.domain.Projections.TicketSummary(t.id, t.status, tt.id, tt.name, tt.price, t.createdAt) " +
+           "FROM Ticket t JOIN t.ticketType tt WHERE t.purchaser.id = :purchaserId " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TicketSummary> findSummariesByPurchaserId(@Param("purchaserId") UUID purchaserId, Limit limit);
+
+    @Query("SELECT new com.personal.tickets.domain.Projections.TicketSummary(t.id, t.status, tt.id, tt.name, tt.price, t.createdAt) " +
+           "FROM Ticket t JOIN t.ticketType tt WHERE t.purchaser.id = :purchaserId " +
+           "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TicketSummary> findSummariesByPurchaserIdAfter(
+            @Param("purchaserId") UUID purchaserId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    long countByPurchaserId(UUID purchaserId);
+
+    @Query("SELECT new com.personal.tickets.domain.Projections.TicketDetails(" +
+           "t.id, t.status, tt.price, tt.description, e.name, e.venue, e.startDate, e.endDate) " +
+           "FROM Ticket t JOIN t.ticketType tt JOIN tt.event e WHERE t.id = :ticketId AND t.purchaser.id = :purchaserId")
+    Optional<TicketDetails> findDetailsByIdAndPurchaserId(@Param("ticketId") UUID ticketId, @Param("purchaserId") UUID purchaserId);
+}
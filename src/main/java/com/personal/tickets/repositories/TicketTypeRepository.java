@@ -0,0 +1,85 @@
+package com.personal.tickets.repositories;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.personal.tickets.domain.Entities.TicketType;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+import com.personal.tickets.domain.Projections.TicketTypeSales;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface TicketTypeRepository extends JpaRepository<TicketType, UUID> {
+
+    /**
+     * Claims one unit of inventory with a single conditional UPDATE, so concurrent buyers never oversell.
+     * Joins the caller's transaction: TicketWriteBehindWriter claims each unit in the batch that inserts its
+     * ticket, so the row lock is held for one short group commit.
+     *
+     * @return 1 if a unit was claimed, 0 if the ticket type is sold out, unknown or not on sale
+     */
+    @Modifying
+    @Query("UPDATE TicketType t SET t.totalSold = t.totalSold + 1 " +
+           "WHERE t.id = :ticketTypeId " +
+           "AND (t.totalAvailable IS NULL OR t.totalSold + t.totalHeld < t.totalAvailable) " +
+           "AND t.event.id IN (SELECT e.id FROM Event e WHERE e.id = :eventId " +
+           "AND e.status = com.personal.tickets.domain.Enums.EventStatusEnum.PUBLISHED)")
+    int incrementSold(@Param("eventId") UUID eventId, @Param("ticketTypeId") UUID ticketTypeId);
+
+    /**
+     * Reserves units for a ticket hold with the same conditional UPDATE as {@link #incrementSold}. Joins the
+     * caller's transaction, so the reservation and the hold row commit together.
+     *
+     * @return 1 if the units were reserved, 0 if not enough are left or the ticket type is unknown or not on sale
+     */
+    @Modifying
+    @Query("UPDATE TicketType t SET t.totalHeld = t.totalHeld + :quantity " +
+           "WHERE t.id = :ticketTypeId " +
+           "AND (t.totalAvailable IS NULL OR t.totalSold + t.totalHeld + :quantity <= t.totalAvailable) " +
+           "AND t.event.id IN (SELECT e.id FROM Event e WHERE e.id = :eventId " +
+           "AND e.status = com.personal.tickets.domain.Enums.EventStatusEnum.PUBLISHED)")
+    int incrementHeld(@Param("eventId") UUID eventId, @Param("ticketTypeId") UUID ticketTypeId, @Param("quantity") int quantity);
+
+    /**
+     * Turns reserved units into sold ones when their hold is purchased.
+     */
+    @Modifying
+    @Query("UPDATE TicketType t SET t.totalHeld = t.totalHeld - :quantity, t.totalSold = t.totalSold + :quantity " +
+           "WHERE t.id = :ticketTypeId AND t.totalHeld >= :quantity")
+    int convertHeldToSold(@Param("ticketTypeId") UUID ticketTypeId, @Param("quantity") int quantity);
+
+    /**
+     * Returns reserved units to the pool when their hold is released or expires.
+     */
+    @Modifying
+    @Query("UPDATE TicketType t SET t.totalHeld = t.totalHeld - :quantity WHERE t.id = :ticketTypeId AND t.totalHeld >= :quantity")
+    int decrementHeld(@Param("ticketTypeId") UUID ticketTypeId, @Param("quantity") int quantity);
+
+    @Query("SELECT DISTINCT t.event.id FROM TicketType t WHERE t.id IN :ticketTypeIds")
+    List<UUID> findEventIdsByIdIn(@Param("ticketTypeIds") Collection<UUID> ticketTypeIds);
+
+    @Query("SELECT e.status FROM TicketType t JOIN t.event e WHERE t.id = :ticketTypeId AND e.id = :eventId")
+    Optional<EventStatusEnum> findEventStatus(@Param("eventId") UUID eventId, @Param("ticketTypeId") UUID ticketTypeId);
+
+    // One aggregate row: unsold, unheld units of limited ticket types of published events whose sales window is open
+    @Query("SELECT COALESCE(SUM(CASE WHEN t.totalAvailable > t.totalSold + t.totalHeld " +
+           "THEN t.totalAvailable - t.totalSold - t.totalHeld ELSE 0 END), 0) " +
+           "FROM TicketType t JOIN t.event e " +
+           "WHERE t.totalAvailable IS NOT NULL " +
+           "AND e.status = com.personal.tickets.domain.Enums.EventStatusEnum.PUBLISHED " +
+           "AND (e.salesStartDate IS NULL OR e.salesStartDate <= :now) " +
+           "AND (e.salesEndDate IS NULL OR e.salesEndDate > :now)")
+    long sumRemainingOnSale(@Param("now") LocalDateTime now);
+
+    // Reads the counters of the event's ticket types through idx_ticket_types_event_id; no tickets are touched
+    @Query("SELECT new com.personal.tickets.domain.Projections.TicketTypeSales(" +
+           "t.id, t.name, t.price, t.totalAvailable, t.totalSold, t.totalHeld, t.totalSold * t.price) " +
+           "FROM TicketType t WHERE t.event.id = :eventId AND t.event.organizer.id = :organizerId ORDER BY t.createdAt, t.id")
+    List<TicketTypeSales> findSalesByEventIdAndOrganizerId(@Param("eventId") UUID eventId, @Param("organizerId") UUID organizerId);
+}
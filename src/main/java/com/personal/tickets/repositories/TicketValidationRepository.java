@@ -0,0 +1,25 @@
+package com.personal.tickets.repositories;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.personal.tickets.domain.Entities.TicketValidation;
+import com.personal.tickets.domain.Enums.TicketValidationStatusEnum;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TicketValidationRepository extends JpaRepository<TicketValidation, UUID> {
+
+    @Query("SELECT DISTINCT v.ticket.id FROM TicketValidation v JOIN v.ticket t JOIN t.ticketType tt " +
+           "WHERE tt.event.id = :eventId AND v.status = com.personal.tickets.domain.Enums.TicketValidationStatusEnum.VALID")
+    List<UUID> findValidatedTicketIdsByEventId(@Param("eventId") UUID eventId);
+
+    @Query("SELECT DISTINCT v.ticket.id FROM TicketValidation v " +
+           "WHERE v.ticket.id IN :ticketIds AND v.status = com.personal.tickets.domain.Enums.TicketValidationStatusEnum.VALID")
+    List<UUID> findValidatedTicketIdsByTicketIdIn(@Param("ticketIds") Collection<UUID> ticketIds);
+
+    boolean existsByTicketIdAndStatus(UUID ticketId, TicketValidationStatusEnum status);
+}
@@ -2,8 +2,26 @@ package com.personal.tickets.repositories;
 
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import com.personal.tickets.domain.Entities.User;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Repository 
-public interface UserRepository extends JpaRepository<User, UUID> {}
+public interface UserRepository extends JpaRepository<User, UUID> {
+
+    /**
+     * Inserts the user unless a row with the same id already exists, so concurrent first requests of the
+     * same user cannot fail with a duplicate key.
+     *
+     * @return 1 if the user was created, 0 if it already existed
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO users (id, name, email, created_at, updated_at) " +
+                   "VALUES (:id, :name, :email, :now, :now) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("name") String name, @Param("email") String email, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,85 @@
+package com.personal.tickets.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.personal.tickets.config.JwtDecoderProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Remembers tokens the delegate has already verified, so repeat calls from the same SPA session skip the
+ * signature check and claim validation. Entries are keyed by the SHA-256 of the token, never the token
+ * itself, and expire at the token's {@code exp}. Rejected tokens are not cached. Hits and misses are
+ * exported as {@code cache.gets{cache="verified-tokens"}}.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> verifiedTokens;
+
+    public CachingJwtDecoder(JwtDecoder delegate, JwtDecoderProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getTokenCacheMaximumSize())
+                .expireAfter(new UntilTokenExpires())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verified-tokens");
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String hash = sha256(token);
+        Jwt jwt = verifiedTokens.getIfPresent(hash);
+        if (jwt != null) {
+            return jwt;
+        }
+        jwt = delegate.decode(token);
+        // Tokens without exp would never leave the cache, so they are verified every time
+        if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isAfter(Instant.now())) {
+            verifiedTokens.put(hash, jwt);
+        }
+        return jwt;
+    }
+
+    private static final class UntilTokenExpires implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String hash, Jwt jwt, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String hash, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String hash, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static String sha256(String token) {
+        try {
+            return HEX.formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
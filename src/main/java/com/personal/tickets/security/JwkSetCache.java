@@ -0,0 +1,148 @@
+package com.personal.tickets.security;
+
+import java.text.ParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.personal.tickets.config.JwtDecoderProperties;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The identity provider's public keys, held in memory. The set is fetched while the application starts, so
+ * the first request after a deploy verifies its token without a network round trip, and re-fetched in the
+ * background. A token signed with a key we do not know yet (the provider rotated) triggers an immediate,
+ * rate-limited re-fetch; every other lookup is a read of a volatile field. Concurrent refreshes share one fetch
+ * and no lock is held while it runs, so callers on virtual threads park instead of pinning their carrier.
+ */
+@Component
+@Slf4j
+public class JwkSetCache implements JWKSource<SecurityContext> {
+
+    private static final String DISCOVERY_PATH = "/.well-known/openid-configuration";
+
+    private final RestClient restClient;
+    private final OAuth2ResourceServerProperties.Jwt jwtProperties;
+    private final long minRefreshIntervalNanos;
+
+    private volatile JWKSet jwkSet;
+    private volatile String jwkSetUri;
+    private final AtomicLong lastOnDemandRefreshNanos;
+    private final AtomicReference<CompletableFuture<Boolean>> inFlightRefresh = new AtomicReference<>();
+
+    public JwkSetCache(RestClient.Builder restClientBuilder, OAuth2ResourceServerProperties resourceServerProperties,
+            JwtDecoderProperties properties) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.getJwkFetchTimeout());
+        requestFactory.setReadTimeout(properties.getJwkFetchTimeout());
+        this.restClient = restClientBuilder.requestFactory(requestFactory).build();
+        this.jwtProperties = resourceServerProperties.getJwt();
+        this.jwkSetUri = jwtProperties.getJwkSetUri();
+        this.minRefreshIntervalNanos = properties.getJwkMinRefreshInterval().toNanos();
+        this.lastOnDemandRefreshNanos = new AtomicLong(System.nanoTime() - minRefreshIntervalNanos);
+    }
+
+    // Failing here must not keep the application from starting; the first request retries
+    @PostConstruct
+    void prefetch() {
+        if (refresh()) {
+            log.info("🔑 JWK set with {} keys loaded from {}", jwkSet.getKeys().size(), jwkSetUri);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${tickets.jwt.jwk-refresh-interval:PT5M}",
+            fixedDelayString = "${tickets.jwt.jwk-refresh-interval:PT5M}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        JWKSet current = jwkSet;
+        List<JWK> keys = current != null ? jwkSelector.select(current) : List.of();
+        if (keys.isEmpty() && refreshIfStale(current)) {
+            current = jwkSet;
+            keys = current != null ? jwkSelector.select(current) : List.of();
+        }
+        if (current == null) {
+            throw new KeySourceException("No JWK set could be fetched from the identity provider");
+        }
+        return keys;
+    }
+
+    // Unknown kids are attacker-controlled, so on-demand fetches are spaced by jwkMinRefreshInterval
+    private boolean refreshIfStale(JWKSet seen) {
+        if (jwkSet != seen) {
+            return true;
+        }
+        long now = System.nanoTime();
+        long last = lastOnDemandRefreshNanos.get();
+        if (now - last < minRefreshIntervalNanos || !lastOnDemandRefreshNanos.compareAndSet(last, now)) {
+            // Another caller may have claimed the slot and be fetching right now; wait for its result
+            CompletableFuture<Boolean> running = inFlightRefresh.get();
+            return running != null ? running.join() : jwkSet != seen;
+        }
+        return refresh();
+    }
+
+    // Single flight: the first caller fetches, everyone arriving meanwhile joins its future
+    boolean refresh() {
+        CompletableFuture<Boolean> fetch = new CompletableFuture<>();
+        CompletableFuture<Boolean> running = inFlightRefresh.compareAndExchange(null, fetch);
+        if (running != null) {
+            return running.join();
+        }
+        boolean fetched = false;
+        try {
+            fetched = fetch();
+        } finally {
+            inFlightRefresh.set(null);
+            fetch.complete(fetched);
+        }
+        return fetched;
+    }
+
+    private boolean fetch() {
+        try {
+            String response = restClient.get().uri(resolveJwkSetUri()).retrieve().body(String.class);
+            jwkSet = JWKSet.parse(response).toPublicJWKSet();
+            return true;
+        } catch (ParseException | RuntimeException e) {
+            log.warn("❌ Failed to fetch the JWK set, keeping {}: {}",
+                    jwkSet != null ? "the previous keys" : "no keys", e.getMessage());
+            return false;
+        }
+    }
+
+    private String resolveJwkSetUri() {
+        if (jwkSetUri == null) {
+            Map<?, ?> configuration = restClient.get()
+                    .uri(jwtProperties.getIssuerUri() + DISCOVERY_PATH)
+                    .retrieve()
+                    .body(Map.class);
+            Object uri = configuration != null ? configuration.get("jwks_uri") : null;
+            if (uri == null) {
+                throw new IllegalStateException("Discovery document of " + jwtProperties.getIssuerUri() + " has no jwks_uri");
+            }
+            jwkSetUri = uri.toString();
+        }
+        return jwkSetUri;
+    }
+}
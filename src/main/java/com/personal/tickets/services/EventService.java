@@ -1,11 +1,32 @@
 package com.personal.tickets.services;
 
 import com.personal.tickets.domain.Requests.CreateEventRequest;
+import com.personal.tickets.domain.Projections.PublishedEventSummary;
+import com.personal.tickets.domain.Results.EventCreationResult;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.pagination.CursorPage;
+import com.personal.tickets.pagination.KeysetCursor;
 
 public interface EventService {
     Event createEvent(UUID organizerId, CreateEventRequest createEventRequest);
+
+    List<EventCreationResult> createEvents(UUID organizerId, List<CreateEventRequest> createEventRequests);
+
+    Page<PublishedEventSummary> searchPublishedEvents(String query, Pageable pageable);
+
+    Optional<Event> getPublishedEvent(UUID id);
+
+    Page<Event> listEventsForOrganizer(UUID organizerId, Pageable pageable);
+
+    CursorPage<Event> listEventsForOrganizer(UUID organizerId, KeysetCursor after, int size, boolean includeTotal);
+
+    Optional<Event> getEventForOrganizer(UUID organizerId, UUID id);
 }
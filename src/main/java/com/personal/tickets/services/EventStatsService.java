@@ -0,0 +1,9 @@
+package com.personal.tickets.services;
+
+import java.util.UUID;
+
+import com.personal.tickets.domain.Results.EventStats;
+
+public interface EventStatsService {
+    EventStats getEventStatsForOrganizer(UUID organizerId, UUID eventId);
+}
@@ -0,0 +1,14 @@
+package com.personal.tickets.services;
+
+import java.util.UUID;
+
+import com.personal.tickets.domain.Enums.QrCodeImageFormat;
+import com.personal.tickets.domain.Projections.QrCodeImageSource;
+
+public interface QrCodeService {
+    QrCodeImageSource getQrCodeForPurchaser(UUID purchaserId, UUID ticketId);
+
+    byte[] getQrCodeImage(QrCodeImageSource qrCode, QrCodeImageFormat format);
+
+    String getQrCodeImageEtag(QrCodeImageSource qrCode, QrCodeImageFormat format);
+}
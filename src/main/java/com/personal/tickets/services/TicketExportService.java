@@ -0,0 +1,19 @@
+package com.personal.tickets.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+import com.personal.tickets.domain.Enums.TicketExportFormat;
+
+public interface TicketExportService {
+    /**
+     * Fails with {@link com.personal.tickets.exceptions.EventNotFoundException} unless the event belongs to the organizer.
+     */
+    void verifyExportAccess(UUID organizerId, UUID eventId);
+
+    /**
+     * Streams every ticket of the event to {@code out} without holding more than one fetch of rows in memory.
+     */
+    long exportTickets(UUID eventId, TicketExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,20 @@
+package com.personal.tickets.services;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.personal.tickets.domain.Projections.TicketDetails;
+import com.personal.tickets.domain.Projections.TicketSummary;
+import com.personal.tickets.pagination.CursorPage;
+import com.personal.tickets.pagination.KeysetCursor;
+
+public interface TicketService {
+    Page<TicketSummary> listTicketsForUser(UUID userId, Pageable pageable);
+
+    CursorPage<TicketSummary> listTicketsForUser(UUID userId, KeysetCursor after, int size, boolean includeTotal);
+
+    Optional<TicketDetails> getTicketForUser(UUID userId, UUID ticketId);
+}
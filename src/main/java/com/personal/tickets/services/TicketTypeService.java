@@ -0,0 +1,17 @@
+package com.personal.tickets.services;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.personal.tickets.domain.Entities.Ticket;
+import com.personal.tickets.domain.Entities.TicketHold;
+
+public interface TicketTypeService {
+    Ticket purchaseTicket(UUID userId, UUID eventId, UUID ticketTypeId);
+
+    TicketHold holdTickets(UUID userId, UUID eventId, UUID ticketTypeId, int quantity);
+
+    List<Ticket> purchaseHeldTickets(UUID userId, UUID holdId);
+
+    void releaseHold(UUID userId, UUID holdId);
+}
@@ -0,0 +1,23 @@
+package com.personal.tickets.services;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.personal.tickets.domain.Enums.TicketValidationMethod;
+import com.personal.tickets.domain.Requests.TicketScanRequest;
+import com.personal.tickets.domain.Results.TicketValidationResult;
+
+public interface TicketValidationService {
+    /**
+     * @throws com.personal.tickets.exceptions.ScanNotAllowedException if the scanner neither organizes nor
+     *         staffs the event of the scanned ticket
+     */
+    TicketValidationResult validateTicket(UUID scannerId, UUID id, TicketValidationMethod method);
+
+    /**
+     * Validates scans uploaded by an offline scanner. Results are in request order; the earliest scan of a
+     * ticket wins and the call returns only after every outcome has been recorded. The whole batch is
+     * rejected, before anything is marked, if any scanned ticket belongs to an event the scanner may not scan.
+     */
+    List<TicketValidationResult> validateTickets(UUID scannerId, List<TicketScanRequest> scans);
+}
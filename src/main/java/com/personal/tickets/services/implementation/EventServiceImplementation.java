@@ -2,44 +2,139 @@ package com.personal.tickets.services.implementation;
 
 import com.personal.tickets.services.EventService;
 
+import java.util.ArrayList;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.Hibernate;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.personal.tickets.domain.Requests.CreateEventRequest;
 import com.personal.tickets.repositories.UserRepository;
 import com.personal.tickets.repositories.EventRepository;
+import com.personal.tickets.catalog.PublishedEventCatalog;
+import com.personal.tickets.config.BulkImportProperties;
+import com.personal.tickets.domain.Enums.OutboxChangeType;
+import com.personal.tickets.domain.Projections.PublishedEventSummary;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
 import com.personal.tickets.domain.Entities.Event;
 import com.personal.tickets.domain.Entities.User;
 import com.personal.tickets.domain.Entities.TicketType;
+import com.personal.tickets.domain.Results.EventCreationResult;
 import java.util.List;
 import com.personal.tickets.exceptions.UserNotFoundException;
+import com.personal.tickets.pagination.CursorPage;
+import com.personal.tickets.pagination.KeysetCursor;
+import com.personal.tickets.outbox.Outbox;
 
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 
 @Service
+@Timed(value = "tickets.service", description = "Service call latency by class, method and exception")
 @RequiredArgsConstructor
+@Slf4j
 public class EventServiceImplementation implements EventService {
 
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
+    private final PublishedEventCatalog publishedEventCatalog;
+    private final Outbox outbox;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkImportProperties bulkImportProperties;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
     
     @Override
+    @Transactional
     public Event createEvent(UUID organizerId, CreateEventRequest createEventRequest) {
         User organizer = userRepository.findById(organizerId).orElseThrow(() -> new UserNotFoundException(String.format("Organizer with id %s not found", organizerId)));
 
+        Event createdEvent = eventRepository.save(toEvent(organizer, createEventRequest));
+        // Caches and other nodes learn about the event from the outbox once this transaction commits
+        outbox.record(OutboxChangeType.EVENT_CREATED, createdEvent.getId());
+        return createdEvent;
+    }
+
+    @Override
+    public List<EventCreationResult> createEvents(UUID organizerId, List<CreateEventRequest> createEventRequests) {
+        if (createEventRequests.size() > bulkImportProperties.getMaxEvents()) {
+            throw new IllegalArgumentException(String.format(
+                    "At most %d events can be created per request", bulkImportProperties.getMaxEvents()));
+        }
+        // Checked once for the whole import; the chunks only need a reference for the foreign key
+        if (!userRepository.existsById(organizerId)) {
+            throw new UserNotFoundException(String.format("Organizer with id %s not found", organizerId));
+        }
+
+        List<EventCreationResult> results = new ArrayList<>(createEventRequests.size());
+        int chunkSize = bulkImportProperties.getChunkSize();
+        for (int from = 0; from < createEventRequests.size(); from += chunkSize) {
+            int to = Math.min(createEventRequests.size(), from + chunkSize);
+            results.addAll(createChunk(organizerId, from, createEventRequests.subList(from, to)));
+        }
+        return results;
+    }
+
+    private List<EventCreationResult> createChunk(UUID organizerId, int offset, List<CreateEventRequest> chunk) {
+        try {
+            List<UUID> eventIds = transactionTemplate.execute(status -> {
+                User organizer = userRepository.getReferenceById(organizerId);
+                // Ids are generated app-side on persist, so events, ticket types and outbox entries are batch inserted
+                List<Event> createdEvents = eventRepository.saveAll(
+                        chunk.stream().map(request -> toEvent(organizer, request)).toList());
+                createdEvents.forEach(event -> outbox.record(OutboxChangeType.EVENT_CREATED, event.getId()));
+                return createdEvents.stream().map(Event::getId).toList();
+            });
+            List<EventCreationResult> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < eventIds.size(); i++) {
+                results.add(EventCreationResult.created(offset + i, eventIds.get(i)));
+            }
+            return results;
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                log.warn("⚠️ Bulk create of event {} failed: {}", offset, e.getMessage(), e);
+                return List.of(EventCreationResult.failed(offset, bulkErrorMessage(e)));
+            }
+            // One bad event rolls back its whole chunk; retrying the chunk event by event still creates the rest
+            List<EventCreationResult> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                results.addAll(createChunk(organizerId, offset + i, chunk.subList(i, i + 1)));
+            }
+            return results;
+        }
+    }
+
+    // Driver messages name tables, columns and SQL, so the client only learns which kind of failure it was
+    private static String bulkErrorMessage(RuntimeException e) {
+        if (e instanceof DataIntegrityViolationException) {
+            return "The event violates a data constraint, e.g. a value is too long";
+        }
+        return "The event could not be saved";
+    }
+
+    private Event toEvent(User organizer, CreateEventRequest createEventRequest) {
+        Event eventToCreate = new Event();
+
         List<TicketType> ticketTypesToCreate = createEventRequest.getTicketTypes().stream().map(ticketType -> {
             TicketType ticketTypeToCreate = new TicketType();
             ticketTypeToCreate.setName(ticketType.getName());
             ticketTypeToCreate.setPrice(ticketType.getPrice());
             ticketTypeToCreate.setDescription(ticketType.getDescription());
             ticketTypeToCreate.setTotalAvailable(ticketType.getTotalAvailable());
+            ticketTypeToCreate.setEvent(eventToCreate);
             return ticketTypeToCreate;
         }).toList();
 
-        Event eventToCreate = new Event();
         eventToCreate.setName(createEventRequest.getName());
         eventToCreate.setStartDate(createEventRequest.getStartDate());
         eventToCreate.setEndDate(createEventRequest.getEndDate());
@@ -49,7 +144,48 @@ public class EventServiceImplementation implements EventService {
         eventToCreate.setStatus(createEventRequest.getStatus());
         eventToCreate.setOrganizer(organizer);
         eventToCreate.setTicketTypes(ticketTypesToCreate);
+        return eventToCreate;
+    }
+
+    @Override
+    public Page<PublishedEventSummary> searchPublishedEvents(String query, Pageable pageable) {
+        return publishedEventCatalog.search(query, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Event> getPublishedEvent(UUID id) {
+        return eventRepository.findByIdAndStatus(id, EventStatusEnum.PUBLISHED);
+    }
 
-        return eventRepository.save(eventToCreate);       
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Event> listEventsForOrganizer(UUID organizerId, Pageable pageable) {
+        Page<Event> events = eventRepository.findByOrganizerId(organizerId, pageable);
+        // The first initialization batch-loads the ticket types of the whole page in one select
+        events.forEach(event -> Hibernate.initialize(event.getTicketTypes()));
+        return events;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Event> listEventsForOrganizer(UUID organizerId, KeysetCursor after, int size, boolean includeTotal) {
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        List<Event> events = after == null
+                ? eventRepository.findByOrganizerId(organizerId, Limit.of(pageSize + 1))
+                : eventRepository.findByOrganizerIdAfter(organizerId, after.createdAt(), after.id(), Limit.of(pageSize + 1));
+        CursorPage<Event> page = CursorPage.of(
+                events,
+                pageSize,
+                event -> new KeysetCursor(event.getCreatedAt(), event.getId()),
+                includeTotal ? eventRepository.countByOrganizerId(organizerId) : null);
+        page.content().forEach(event -> Hibernate.initialize(event.getTicketTypes()));
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Event> getEventForOrganizer(UUID organizerId, UUID id) {
+        return eventRepository.findByIdAndOrganizerId(id, organizerId);
     }
 }
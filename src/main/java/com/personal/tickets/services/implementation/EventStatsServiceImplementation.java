@@ -0,0 +1,50 @@
+package com.personal.tickets.services.implementation;
+
+import com.personal.tickets.services.EventStatsService;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.personal.tickets.domain.Projections.TicketTypeSales;
+import com.personal.tickets.domain.Results.EventStats;
+import com.personal.tickets.exceptions.EventNotFoundException;
+import com.personal.tickets.repositories.EventRepository;
+import com.personal.tickets.repositories.TicketTypeRepository;
+import com.personal.tickets.stats.CheckInCounters;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+
+@Service
+@Timed(value = "tickets.service", description = "Service call latency by class, method and exception")
+@RequiredArgsConstructor
+public class EventStatsServiceImplementation implements EventStatsService {
+
+    private final TicketTypeRepository ticketTypeRepository;
+    private final EventRepository eventRepository;
+    private final CheckInCounters checkInCounters;
+
+    @Override
+    public EventStats getEventStatsForOrganizer(UUID organizerId, UUID eventId) {
+        // A handful of primary key and index reads, however many tickets the event has sold or scanned
+        List<TicketTypeSales> ticketTypes = ticketTypeRepository.findSalesByEventIdAndOrganizerId(eventId, organizerId);
+        if (ticketTypes.isEmpty() && !eventRepository.existsByIdAndOrganizerId(eventId, organizerId)) {
+            throw new EventNotFoundException("Event with ID '" + eventId + "' not found");
+        }
+
+        long ticketsSold = 0;
+        long ticketsHeld = 0;
+        double revenue = 0;
+        for (TicketTypeSales ticketType : ticketTypes) {
+            ticketsSold += ticketType.totalSold();
+            ticketsHeld += ticketType.totalHeld();
+            revenue += ticketType.revenue();
+        }
+
+        CheckInCounters.CheckIns checkIns = checkInCounters.checkIns(eventId);
+        return new EventStats(eventId, ticketsSold, ticketsHeld, revenue, checkIns.checkedIn(), checkIns.rejected(), ticketTypes);
+    }
+}
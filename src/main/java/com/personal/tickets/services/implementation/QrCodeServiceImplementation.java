@@ -0,0 +1,47 @@
+package com.personal.tickets.services.implementation;
+
+import com.personal.tickets.services.QrCodeService;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.personal.tickets.domain.Enums.QrCodeImageFormat;
+import com.personal.tickets.domain.Projections.QrCodeImageSource;
+import com.personal.tickets.exceptions.QrCodeNotFoundException;
+import com.personal.tickets.qrcodes.QrCodeImageCache;
+import com.personal.tickets.repositories.QrCodeRepository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+
+@Service
+@Timed(value = "tickets.service", description = "Service call latency by class, method and exception")
+@RequiredArgsConstructor
+public class QrCodeServiceImplementation implements QrCodeService {
+
+    private final QrCodeRepository qrCodeRepository;
+    private final QrCodeImageCache qrCodeImageCache;
+
+    @Override
+    public QrCodeImageSource getQrCodeForPurchaser(UUID purchaserId, UUID ticketId) {
+        // Newest code first, so a reissued code replaces the one it superseded
+        List<QrCodeImageSource> qrCodes = qrCodeRepository.findImageSourcesByTicketIdAndPurchaserId(ticketId, purchaserId);
+        if (qrCodes.isEmpty()) {
+            throw new QrCodeNotFoundException("QR code for ticket with ID '" + ticketId + "' not found");
+        }
+        return qrCodes.get(0);
+    }
+
+    @Override
+    public byte[] getQrCodeImage(QrCodeImageSource qrCode, QrCodeImageFormat format) {
+        return qrCodeImageCache.get(qrCode, format);
+    }
+
+    @Override
+    public String getQrCodeImageEtag(QrCodeImageSource qrCode, QrCodeImageFormat format) {
+        return qrCodeImageCache.etag(qrCode, format);
+    }
+}
@@ -0,0 +1,116 @@
+package com.personal.tickets.services.implementation;
+
+import com.personal.tickets.services.TicketExportService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tickets.domain.Enums.TicketExportFormat;
+import com.personal.tickets.domain.Projections.TicketExportRow;
+import com.personal.tickets.exceptions.EventNotFoundException;
+import com.personal.tickets.repositories.EventRepository;
+import com.personal.tickets.repositories.TicketRepository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+
+@Service
+@Timed(value = "tickets.service", description = "Service call latency by class, method and exception")
+@RequiredArgsConstructor
+public class TicketExportServiceImplementation implements TicketExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "ticket_id,ticket_status,purchased_at,ticket_type_id,ticket_type_name,ticket_type_price,"
+            + "purchaser_id,purchaser_name,purchaser_email,validation_status,validation_method,validated_at";
+
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void verifyExportAccess(UUID organizerId, UUID eventId) {
+        if (!eventRepository.existsByIdAndOrganizerId(eventId, organizerId)) {
+            throw new EventNotFoundException("Event with ID '" + eventId + "' not found");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTickets(UUID eventId, TicketExportFormat format, OutputStream out) throws IOException {
+        // The cursor needs the transaction open for as long as rows are being written
+        try (Stream<TicketExportRow> rows = ticketRepository.streamExportRowsByEventId(eventId)) {
+            return format == TicketExportFormat.NDJSON ? writeNdjson(rows.iterator(), out) : writeCsv(rows.iterator(), out);
+        }
+    }
+
+    private long writeCsv(Iterator<TicketExportRow> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long count = 0;
+        while (rows.hasNext()) {
+            TicketExportRow row = rows.next();
+            writeCsvField(writer, row.ticketId(), false);
+            writeCsvField(writer, row.ticketStatus(), true);
+            writeCsvField(writer, row.purchasedAt(), true);
+            writeCsvField(writer, row.ticketTypeId(), true);
+            writeCsvField(writer, row.ticketTypeName(), true);
+            writeCsvField(writer, row.ticketTypePrice(), true);
+            writeCsvField(writer, row.purchaserId(), true);
+            writeCsvField(writer, row.purchaserName(), true);
+            writeCsvField(writer, row.purchaserEmail(), true);
+            writeCsvField(writer, row.validationStatus(), true);
+            writeCsvField(writer, row.validationMethod(), true);
+            writeCsvField(writer, row.validatedAt(), true);
+            writer.write('\n');
+            count++;
+        }
+        // Flush rather than close: the caller owns the response stream
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvField(Writer writer, Object value, boolean separator) throws IOException {
+        if (separator) {
+            writer.write(',');
+        }
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private long writeNdjson(Iterator<TicketExportRow> rows, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        long count = 0;
+        while (rows.hasNext()) {
+            generator.writeObject(rows.next());
+            generator.writeRaw('\n');
+            count++;
+        }
+        generator.flush();
+        return count;
+    }
+}
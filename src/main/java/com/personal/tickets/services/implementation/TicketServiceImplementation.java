@@ -0,0 +1,55 @@
+package com.personal.tickets.services.implementation;
+
+import com.personal.tickets.services.TicketService;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.personal.tickets.domain.Projections.TicketDetails;
+import com.personal.tickets.domain.Projections.TicketSummary;
+import com.personal.tickets.pagination.CursorPage;
+import com.personal.tickets.pagination.KeysetCursor;
+import com.personal.tickets.repositories.TicketRepository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+
+@Service
+@Timed(value = "tickets.service", description = "Service call latency by class, method and exception")
+@RequiredArgsConstructor
+public class TicketServiceImplementation implements TicketService {
+
+    private final TicketRepository ticketRepository;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    @Override
+    public Page<TicketSummary> listTicketsForUser(UUID userId, Pageable pageable) {
+        return ticketRepository.findSummariesByPurchaserId(userId, pageable);
+    }
+
+    @Override
+    public CursorPage<TicketSummary> listTicketsForUser(UUID userId, KeysetCursor after, int size, boolean includeTotal) {
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        List<TicketSummary> tickets = after == null
+                ? ticketRepository.findSummariesByPurchaserId(userId, Limit.of(pageSize + 1))
+                : ticketRepository.findSummariesByPurchaserIdAfter(userId, after.createdAt(), after.id(), Limit.of(pageSize + 1));
+        return CursorPage.of(
+                tickets,
+                pageSize,
+                ticket -> new KeysetCursor(ticket.createdAt(), ticket.id()),
+                includeTotal ? ticketRepository.countByPurchaserId(userId) : null);
+    }
+
+    @Override
+    public Optional<TicketDetails> getTicketForUser(UUID userId, UUID ticketId) {
+        return ticketRepository.findDetailsByIdAndPurchaserId(ticketId, userId);
+    }
+}
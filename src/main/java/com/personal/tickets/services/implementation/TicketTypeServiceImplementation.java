@@ -0,0 +1,147 @@
+package com.personal.tickets.services.implementation;
+
+import com.personal.tickets.services.TicketTypeService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.personal.tickets.repositories.TicketHoldRepository;
+import com.personal.tickets.repositories.TicketTypeRepository;
+import com.personal.tickets.repositories.UserRepository;
+import com.personal.tickets.config.TicketHoldProperties;
+import com.personal.tickets.live.EventActivityHub;
+import com.personal.tickets.persistence.PendingTicket;
+import com.personal.tickets.persistence.TicketWriteBehindWriter;
+import com.personal.tickets.domain.Entities.Ticket;
+import com.personal.tickets.domain.Entities.TicketHold;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+import com.personal.tickets.exceptions.EventTicketException;
+import com.personal.tickets.exceptions.TicketHoldNotFoundException;
+import com.personal.tickets.exceptions.TicketTypeNotFoundException;
+import com.personal.tickets.exceptions.TicketsSoldOutException;
+import com.personal.tickets.metrics.TicketMetrics;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+
+@Service
+@Timed(value = "tickets.service", description = "Service call latency by class, method and exception")
+@RequiredArgsConstructor
+public class TicketTypeServiceImplementation implements TicketTypeService {
+
+    private final TicketTypeRepository ticketTypeRepository;
+    private final TicketHoldRepository ticketHoldRepository;
+    private final UserRepository userRepository;
+    private final TicketWriteBehindWriter ticketWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final TicketHoldProperties ticketHoldProperties;
+    private final TicketMetrics ticketMetrics;
+    private final EventActivityHub eventActivityHub;
+
+    @Override
+    public Ticket purchaseTicket(UUID userId, UUID eventId, UUID ticketTypeId) {
+        // The conditional increment is the only synchronisation point: no row counting, no SELECT ... FOR UPDATE.
+        // It runs in the group commit that writes the ticket, so a confirmed purchase is always durable
+        Ticket ticket;
+        try {
+            ticket = ticketWriter.write(new PendingTicket(userId, eventId, ticketTypeId)).join();
+        } catch (RuntimeException e) {
+            throw unwrap(e);
+        }
+        if (ticket == null) {
+            throw rejectPurchase(eventId, ticketTypeId);
+        }
+        ticketMetrics.ticketSold();
+        eventActivityHub.changed(eventId);
+        return ticket;
+    }
+
+    @Override
+    public TicketHold holdTickets(UUID userId, UUID eventId, UUID ticketTypeId, int quantity) {
+        if (quantity < 1 || quantity > ticketHoldProperties.getMaxQuantity()) {
+            throw new IllegalArgumentException(String.format(
+                    "Quantity must be between 1 and %d", ticketHoldProperties.getMaxQuantity()));
+        }
+        // Reservation and hold row commit together, so the sweeper never sees one without the other
+        TicketHold hold = transactionTemplate.execute(status -> {
+            if (ticketTypeRepository.incrementHeld(eventId, ticketTypeId, quantity) == 0) {
+                return null;
+            }
+            return ticketHoldRepository.save(TicketHold.builder()
+                    .ticketType(ticketTypeRepository.getReferenceById(ticketTypeId))
+                    .purchaser(userRepository.getReferenceById(userId))
+                    .quantity(quantity)
+                    .expiresAt(LocalDateTime.now().plus(ticketHoldProperties.getTtl()))
+                    .build());
+        });
+        if (hold == null) {
+            throw rejectPurchase(eventId, ticketTypeId);
+        }
+        eventActivityHub.changed(eventId);
+        return hold;
+    }
+
+    @Override
+    public List<Ticket> purchaseHeldTickets(UUID userId, UUID holdId) {
+        // Deleting the hold claims its units; a concurrent release or expiry sweep finds nothing left to delete.
+        // The tickets are written in the same transaction, so the hold is only gone once every ticket exists
+        HeldPurchase purchase = transactionTemplate.execute(status -> {
+            TicketHold claimed = ticketHoldRepository.findByIdAndPurchaserId(holdId, userId).orElse(null);
+            if (claimed == null || ticketHoldRepository.deleteUnexpired(holdId, LocalDateTime.now()) == 0) {
+                return null;
+            }
+            UUID ticketTypeId = claimed.getTicketType().getId();
+            ticketTypeRepository.convertHeldToSold(ticketTypeId, claimed.getQuantity());
+            return new HeldPurchase(claimed.getTicketType().getEvent().getId(),
+                    ticketWriter.writeInTransaction(userId, ticketTypeId, claimed.getQuantity()));
+        });
+        if (purchase == null) {
+            throw new TicketHoldNotFoundException(String.format("Ticket hold with id %s not found or expired", holdId));
+        }
+        purchase.tickets().forEach(ticket -> ticketMetrics.ticketSold());
+        eventActivityHub.changed(purchase.eventId());
+        return purchase.tickets();
+    }
+
+    @Override
+    public void releaseHold(UUID userId, UUID holdId) {
+        UUID eventId = transactionTemplate.execute(status -> {
+            TicketHold hold = ticketHoldRepository.findByIdAndPurchaserId(holdId, userId).orElse(null);
+            if (hold == null || ticketHoldRepository.deleteHold(holdId) == 0) {
+                return null;
+            }
+            ticketTypeRepository.decrementHeld(hold.getTicketType().getId(), hold.getQuantity());
+            return hold.getTicketType().getEvent().getId();
+        });
+        if (eventId == null) {
+            throw new TicketHoldNotFoundException(String.format("Ticket hold with id %s not found", holdId));
+        }
+        eventActivityHub.changed(eventId);
+    }
+
+    private RuntimeException unwrap(RuntimeException e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new EventTicketException(cause);
+    }
+
+    // Only reached when the claim failed, so the extra lookup stays off the happy path
+    private RuntimeException rejectPurchase(UUID eventId, UUID ticketTypeId) {
+        Optional<EventStatusEnum> eventStatus = ticketTypeRepository.findEventStatus(eventId, ticketTypeId);
+        if (eventStatus.isEmpty() || eventStatus.get() != EventStatusEnum.PUBLISHED) {
+            return new TicketTypeNotFoundException(String.format("Ticket type with id %s not found for event %s", ticketTypeId, eventId));
+        }
+        return new TicketsSoldOutException(String.format("Ticket type with id %s is sold out", ticketTypeId));
+    }
+
+    private record HeldPurchase(UUID eventId, List<Ticket> tickets) {}
+}
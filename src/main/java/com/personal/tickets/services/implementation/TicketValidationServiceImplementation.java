@@ -0,0 +1,269 @@
+package com.personal.tickets.services.implementation;
+
+import com.personal.tickets.services.TicketValidationService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Service;
+
+import com.personal.tickets.repositories.QrCodeRepository;
+import com.personal.tickets.repositories.TicketRepository;
+import com.personal.tickets.repositories.TicketValidationRepository;
+import com.personal.tickets.persistence.PendingTicketValidation;
+import com.personal.tickets.persistence.TicketValidationWriteBehindWriter;
+import com.personal.tickets.validation.EventScanIndex;
+import com.personal.tickets.validation.ScanIndexRegistry;
+import com.personal.tickets.validation.ScanLookup;
+import com.personal.tickets.domain.Enums.QrCodeStatusEnum;
+import com.personal.tickets.domain.Enums.TicketStatusEnum;
+import com.personal.tickets.domain.Enums.TicketValidationMethod;
+import com.personal.tickets.domain.Enums.TicketValidationStatusEnum;
+import com.personal.tickets.domain.Projections.ScanTarget;
+import com.personal.tickets.domain.Requests.TicketScanRequest;
+import com.personal.tickets.domain.Results.TicketValidationResult;
+import com.personal.tickets.config.ScanIndexProperties;
+import com.personal.tickets.exceptions.ScanNotAllowedException;
+import com.personal.tickets.metrics.TicketMetrics;
+import com.personal.tickets.live.EventActivityHub;
+import com.personal.tickets.stats.CheckInCounters;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+
+@Service
+@Timed(value = "tickets.service", description = "Service call latency by class, method and exception")
+@RequiredArgsConstructor
+public class TicketValidationServiceImplementation implements TicketValidationService {
+
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    private final ScanIndexRegistry scanIndexRegistry;
+    private final QrCodeRepository qrCodeRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketValidationRepository ticketValidationRepository;
+    private final TicketValidationWriteBehindWriter ticketValidationWriter;
+    private final ScanIndexProperties scanIndexProperties;
+    private final TicketMetrics ticketMetrics;
+    private final CheckInCounters checkInCounters;
+    private final EventActivityHub eventActivityHub;
+
+    @Override
+    public TicketValidationResult validateTicket(UUID scannerId, UUID id, TicketValidationMethod method) {
+        // Hot path: one lookup across all loaded indexes and one CAS decide the scan, no database round trip
+        ScanLookup lookup = scanIndexRegistry.lookup();
+        int position = method == TicketValidationMethod.QR_SCAN ? lookup.positionOfQrValue(id) : lookup.positionOfTicket(id);
+        if (position >= 0) {
+            EventScanIndex index = lookup.index(position);
+            requireScanner(index, scannerId);
+            return validateSlot(index, lookup.slot(position), method);
+        }
+
+        Optional<ScanTarget> scanTarget = method == TicketValidationMethod.QR_SCAN
+                ? firstOf(qrCodeRepository.findScanTargetsByValue(id.toString()))
+                : ticketRepository.findScanTargetById(id);
+        if (scanTarget.isEmpty()) {
+            ticketMetrics.ticketScanned(TicketValidationStatusEnum.INVALID, method);
+            return new TicketValidationResult(null, TicketValidationStatusEnum.INVALID);
+        }
+        return validateFromDatabase(scannerId, scanTarget.get(), method);
+    }
+
+    // Cold path: the event is not indexed yet, or the ticket was bought after its index was built
+    private TicketValidationResult validateFromDatabase(UUID scannerId, ScanTarget scanTarget, TicketValidationMethod method) {
+        UUID ticketId = scanTarget.ticketId();
+        EventScanIndex index = scanIndexRegistry.getOrLoad(scanTarget.eventId());
+        requireScanner(index, scannerId);
+        if (scanTarget.ticketStatus() != TicketStatusEnum.PURCHASED) {
+            return record(scanTarget.eventId(), new TicketValidationResult(ticketId, TicketValidationStatusEnum.INVALID), method, () -> {});
+        }
+        if (scanTarget.qrCodeStatus() == QrCodeStatusEnum.EXPIRED) {
+            return record(scanTarget.eventId(), new TicketValidationResult(ticketId, TicketValidationStatusEnum.EXPIRED), method, () -> {});
+        }
+
+        int slot = index.slotForTicket(ticketId);
+        if (slot >= 0) {
+            return validateSlot(index, slot, method);
+        }
+        boolean alreadyUsed = ticketValidationRepository.existsByTicketIdAndStatus(ticketId, TicketValidationStatusEnum.VALID);
+        boolean firstScan = index.markLateTicketUsed(ticketId, alreadyUsed);
+        return record(
+                scanTarget.eventId(),
+                new TicketValidationResult(ticketId, firstScan ? TicketValidationStatusEnum.VALID : TicketValidationStatusEnum.INVALID),
+                method,
+                firstScan ? () -> index.unmarkLateTicketUsed(ticketId) : () -> {});
+    }
+
+    private static void requireScanner(EventScanIndex index, UUID scannerId) {
+        if (!index.allowsScanner(scannerId)) {
+            throw new ScanNotAllowedException(
+                    "User " + scannerId + " is neither organizer nor staff of event " + index.eventId());
+        }
+    }
+
+    private TicketValidationResult validateSlot(EventScanIndex index, int slot, TicketValidationMethod method) {
+        boolean firstScan = index.markUsed(slot);
+        return record(
+                index.eventId(),
+                new TicketValidationResult(index.ticketId(slot), firstScan ? TicketValidationStatusEnum.VALID : TicketValidationStatusEnum.INVALID),
+                method,
+                firstScan ? () -> index.unmarkUsed(slot) : () -> {});
+    }
+
+    // Recording is asynchronous; if it cannot even be queued the scan is undone so the holder can retry
+    private TicketValidationResult record(UUID eventId, TicketValidationResult result, TicketValidationMethod method, Runnable undo) {
+        try {
+            ticketValidationWriter.write(new PendingTicketValidation(result.ticketId(), result.status(), method, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            undo.run();
+            throw e;
+        }
+        ticketMetrics.ticketScanned(result.status(), method);
+        checkInCounters.scanned(eventId, result.status());
+        eventActivityHub.changed(eventId);
+        return result;
+    }
+
+    @Override
+    public List<TicketValidationResult> validateTickets(UUID scannerId, List<TicketScanRequest> scans) {
+        if (scans.size() > scanIndexProperties.getBatchMaxSize()) {
+            throw new IllegalArgumentException(
+                    "A batch may contain at most " + scanIndexProperties.getBatchMaxSize() + " scans");
+        }
+
+        // Resolve every scanned id with a handful of IN queries instead of one round trip per scan
+        Set<String> qrValues = new HashSet<>();
+        Set<UUID> manualTicketIds = new HashSet<>();
+        for (TicketScanRequest scan : scans) {
+            if (scan.getMethod() == TicketValidationMethod.QR_SCAN) {
+                qrValues.add(scan.getId().toString());
+            } else {
+                manualTicketIds.add(scan.getId());
+            }
+        }
+        Map<String, ScanTarget> targetsByQrValue = new HashMap<>();
+        for (ScanTarget target : inChunks(qrValues, qrCodeRepository::findScanTargetsByValueIn)) {
+            targetsByQrValue.putIfAbsent(target.qrValue(), target);
+        }
+        Map<UUID, ScanTarget> targetsByTicketId = new HashMap<>();
+        for (ScanTarget target : inChunks(manualTicketIds, ticketRepository::findScanTargetsByIdIn)) {
+            targetsByTicketId.put(target.ticketId(), target);
+        }
+
+        Set<UUID> resolvedTicketIds = new HashSet<>();
+        Set<UUID> eventIds = new HashSet<>();
+        for (ScanTarget target : targetsByQrValue.values()) {
+            resolvedTicketIds.add(target.ticketId());
+            eventIds.add(target.eventId());
+        }
+        for (ScanTarget target : targetsByTicketId.values()) {
+            resolvedTicketIds.add(target.ticketId());
+            eventIds.add(target.eventId());
+        }
+        // Only consulted for tickets bought after their event's index was built
+        Set<UUID> validatedTicketIds = new HashSet<>(
+                inChunks(resolvedTicketIds, ticketValidationRepository::findValidatedTicketIdsByTicketIdIn));
+        Map<UUID, EventScanIndex> indexes = new HashMap<>();
+        for (UUID eventId : eventIds) {
+            EventScanIndex index = scanIndexRegistry.getOrLoad(eventId);
+            requireScanner(index, scannerId);
+            indexes.put(eventId, index);
+        }
+
+        // Earliest scan wins; scans without a timestamp count as seen now, ties keep request order
+        LocalDateTime receivedAt = LocalDateTime.now();
+        Integer[] order = new Integer[scans.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing((Integer i) -> scannedAt(scans.get(i), receivedAt)));
+
+        TicketValidationResult[] results = new TicketValidationResult[scans.size()];
+        UUID[] resultEventIds = new UUID[scans.size()];
+        List<PendingTicketValidation> pendingValidations = new ArrayList<>(scans.size());
+        List<Runnable> undos = new ArrayList<>();
+        for (int i : order) {
+            TicketScanRequest scan = scans.get(i);
+            ScanTarget target = scan.getMethod() == TicketValidationMethod.QR_SCAN
+                    ? targetsByQrValue.get(scan.getId().toString())
+                    : targetsByTicketId.get(scan.getId());
+            if (target == null) {
+                results[i] = new TicketValidationResult(null, TicketValidationStatusEnum.INVALID);
+                continue;
+            }
+
+            UUID ticketId = target.ticketId();
+            TicketValidationStatusEnum status;
+            if (target.ticketStatus() != TicketStatusEnum.PURCHASED) {
+                status = TicketValidationStatusEnum.INVALID;
+            } else if (target.qrCodeStatus() == QrCodeStatusEnum.EXPIRED) {
+                status = TicketValidationStatusEnum.EXPIRED;
+            } else {
+                EventScanIndex index = indexes.get(target.eventId());
+                int slot = index.slotForTicket(ticketId);
+                boolean firstScan;
+                if (slot >= 0) {
+                    firstScan = index.markUsed(slot);
+                    if (firstScan) {
+                        undos.add(() -> index.unmarkUsed(slot));
+                    }
+                } else {
+                    firstScan = index.markLateTicketUsed(ticketId, validatedTicketIds.contains(ticketId));
+                    if (firstScan) {
+                        undos.add(() -> index.unmarkLateTicketUsed(ticketId));
+                    }
+                }
+                status = firstScan ? TicketValidationStatusEnum.VALID : TicketValidationStatusEnum.INVALID;
+            }
+            results[i] = new TicketValidationResult(ticketId, status);
+            resultEventIds[i] = target.eventId();
+            pendingValidations.add(new PendingTicketValidation(ticketId, status, scan.getMethod(), scannedAt(scan, receivedAt)));
+        }
+
+        // Scanners only discard their offline queue once this returns, so the batch is written synchronously
+        try {
+            ticketValidationWriter.writeAll(pendingValidations);
+        } catch (RuntimeException e) {
+            undos.forEach(Runnable::run);
+            throw e;
+        }
+        for (int i = 0; i < results.length; i++) {
+            ticketMetrics.ticketScanned(results[i].status(), scans.get(i).getMethod());
+            if (resultEventIds[i] != null) {
+                checkInCounters.scanned(resultEventIds[i], results[i].status());
+                eventActivityHub.changed(resultEventIds[i]);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private static LocalDateTime scannedAt(TicketScanRequest scan, LocalDateTime receivedAt) {
+        return scan.getScannedAt() != null ? scan.getScannedAt() : receivedAt;
+    }
+
+    // Keeps IN lists well below the bind parameter limit of the driver
+    private static <K, T> List<T> inChunks(Collection<K> keys, Function<Collection<K>, List<T>> query) {
+        List<T> results = new ArrayList<>();
+        List<K> keyList = new ArrayList<>(keys);
+        for (int from = 0; from < keyList.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            results.addAll(query.apply(keyList.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, keyList.size()))));
+        }
+        return results;
+    }
+
+    private static <T> Optional<T> firstOf(List<T> values) {
+        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(0));
+    }
+}
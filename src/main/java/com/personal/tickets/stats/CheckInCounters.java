@@ -0,0 +1,188 @@
+package com.personal.tickets.stats;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.personal.tickets.domain.Entities.EventCheckInStats;
+import com.personal.tickets.domain.Enums.TicketValidationStatusEnum;
+import com.personal.tickets.repositories.EventCheckInStatsRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts gate scans per event in striped {@link LongAdder}s and periodically adds what was counted since the
+ * last flush to the event's summary row. Scanning stays a map lookup and an increment; the database sees
+ * two statements per scanned event and flush, however busy the gates are. Flushes run on a single background
+ * worker, and events without new scans since the previous flush are dropped from memory.
+ */
+@Component
+@Slf4j
+public class CheckInCounters implements DisposableBean {
+
+    private final EventCheckInStatsRepository eventCheckInStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentMap<UUID, EventCounts> counts = new ConcurrentHashMap<>();
+    // Readers must not see a flushed delta both in the summary row and as unflushed
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+    // Bumped under the write lock by every flush that wrote rows, so readers can tell their row read is stale
+    private volatile long flushGeneration;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ExecutorService flusher;
+
+    public CheckInCounters(
+            EventCheckInStatsRepository eventCheckInStatsRepository,
+            TransactionTemplate transactionTemplate,
+            ThreadFactory workerThreadFactory) {
+        this.eventCheckInStatsRepository = eventCheckInStatsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.flusher = Executors.newSingleThreadExecutor(workerThreadFactory);
+    }
+
+    /**
+     * Counts a scan of a known ticket: a valid one checks the holder in, anything else is a rejected scan.
+     */
+    public void scanned(UUID eventId, TicketValidationStatusEnum status) {
+        EventCounts eventCounts = counts.computeIfAbsent(eventId, id -> new EventCounts());
+        if (status == TicketValidationStatusEnum.VALID) {
+            eventCounts.checkedIn.increment();
+        } else {
+            eventCounts.rejected.increment();
+        }
+    }
+
+    /**
+     * The event's summary row plus the scans counted on this node that are not in it yet, so a check-in is
+     * visible right away on the node that made it. One primary key read, made before taking the lock and
+     * repeated only if a flush wrote rows in between.
+     */
+    public CheckIns checkIns(UUID eventId) {
+        while (true) {
+            long generation = flushGeneration;
+            EventCheckInStats flushed = eventCheckInStatsRepository.findById(eventId).orElse(null);
+            flushLock.readLock().lock();
+            try {
+                if (generation != flushGeneration) {
+                    continue;
+                }
+                long checkedIn = flushed != null ? flushed.getTicketsCheckedIn() : 0;
+                long rejected = flushed != null ? flushed.getScansRejected() : 0;
+                EventCounts eventCounts = counts.get(eventId);
+                if (eventCounts != null) {
+                    checkedIn += eventCounts.checkedIn.sum() - eventCounts.flushedCheckedIn;
+                    rejected += eventCounts.rejected.sum() - eventCounts.flushedRejected;
+                }
+                return new CheckIns(checkedIn, rejected);
+            } finally {
+                flushLock.readLock().unlock();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.stats.flush-interval:PT1S}")
+    public void poll() {
+        // Skipped while a slow flush is still running rather than queueing another behind it
+        if (flushScheduled.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    public void flush() {
+        flushLock.writeLock().lock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    private void flushLocked() {
+        // The adders are never reset, which could lose concurrent increments; the flushed totals are subtracted instead.
+        // Sorted, so flushes from several nodes update rows in the same order and cannot deadlock.
+        Map<UUID, CheckIns> deltas = new TreeMap<>();
+        counts.forEach((eventId, eventCounts) -> {
+            CheckIns delta = new CheckIns(
+                    eventCounts.checkedIn.sum() - eventCounts.flushedCheckedIn,
+                    eventCounts.rejected.sum() - eventCounts.flushedRejected);
+            if (delta.checkedIn() != 0 || delta.rejected() != 0) {
+                deltas.put(eventId, delta);
+            } else {
+                evict(eventId, eventCounts);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> deltas.forEach((eventId, delta) -> {
+                eventCheckInStatsRepository.insertIfAbsent(eventId, now);
+                eventCheckInStatsRepository.addScans(eventId, delta.checkedIn(), delta.rejected(), now);
+            }));
+        } catch (RuntimeException e) {
+            // Nothing is marked as flushed, so the next flush adds these scans again
+            log.warn("❌ Failed to flush check-in counters: {}", e.getMessage());
+            return;
+        }
+        deltas.forEach((eventId, delta) -> {
+            EventCounts eventCounts = counts.get(eventId);
+            eventCounts.flushedCheckedIn += delta.checkedIn();
+            eventCounts.flushedRejected += delta.rejected();
+        });
+        flushGeneration++;
+    }
+
+    // Everything counted is in the row, so the entry can go; a scan that raced the removal is carried over to a fresh one
+    private void evict(UUID eventId, EventCounts eventCounts) {
+        if (!counts.remove(eventId, eventCounts)) {
+            return;
+        }
+        long checkedIn = eventCounts.checkedIn.sum() - eventCounts.flushedCheckedIn;
+        long rejected = eventCounts.rejected.sum() - eventCounts.flushedRejected;
+        if (checkedIn != 0 || rejected != 0) {
+            EventCounts carried = counts.computeIfAbsent(eventId, id -> new EventCounts());
+            carried.checkedIn.add(checkedIn);
+            carried.rejected.add(rejected);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+    }
+
+    public record CheckIns(long checkedIn, long rejected) {}
+
+    private static final class EventCounts {
+        private final LongAdder checkedIn = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        // Written by the flush only, read by dashboard requests under the read lock
+        private volatile long flushedCheckedIn;
+        private volatile long flushedRejected;
+    }
+}
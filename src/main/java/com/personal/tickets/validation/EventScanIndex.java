@@ -0,0 +1,174 @@
+package com.personal.tickets.validation;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.personal.tickets.domain.Projections.ScanIndexEntry;
+
+/**
+ * Compact in-memory gate index of one event: every ACTIVE QR code value and every purchased ticket id map
+ * to a ticket slot, and a bitset records which slots were already scanned. Marking a ticket used is a
+ * single compare-and-set on that bitset, so concurrent scans of the same ticket resolve first-scan-wins
+ * without touching the database. The index also carries the users allowed to scan at the event, so
+ * authorizing a scan needs no database round trip either.
+ * <p>
+ * First-scan-wins holds within one node only. Validations are written behind the answer, so nothing in the
+ * database stops two nodes that each hold an index of the event from both accepting the same ticket; all
+ * gate scans of an event must be routed to one node.
+ */
+public final class EventScanIndex {
+
+    private final UUID eventId;
+    private final UUID[] ticketIds;
+    private final UuidIntMap slotsByQrValue;
+    private final UuidIntMap slotsByTicketId;
+    private final AtomicLongArray usedSlots;
+    // Tickets bought after the index was built, resolved through the database once and remembered here
+    private final Map<UUID, Boolean> lateTicketsUsed = new ConcurrentHashMap<>();
+    private volatile long lastAccessNanos = System.nanoTime();
+    // Organizer and staff; replaced wholesale by the registry's periodic refresh
+    private volatile Set<UUID> scannerIds = Set.of();
+
+    private EventScanIndex(UUID eventId, UUID[] ticketIds, UuidIntMap slotsByQrValue, UuidIntMap slotsByTicketId) {
+        this.eventId = eventId;
+        this.ticketIds = ticketIds;
+        this.slotsByQrValue = slotsByQrValue;
+        this.slotsByTicketId = slotsByTicketId;
+        this.usedSlots = new AtomicLongArray((ticketIds.length + 63) / 64);
+    }
+
+    static EventScanIndex build(UUID eventId, List<ScanIndexEntry> entries, Collection<UUID> usedTicketIds) {
+        UuidIntMap slotsByTicketId = new UuidIntMap(entries.size());
+        UuidIntMap slotsByQrValue = new UuidIntMap(entries.size());
+        UUID[] ticketIds = new UUID[entries.size()];
+        int tickets = 0;
+        for (ScanIndexEntry entry : entries) {
+            int slot = slotsByTicketId.putIfAbsent(entry.ticketId(), tickets);
+            if (slot == tickets) {
+                ticketIds[tickets++] = entry.ticketId();
+            }
+            UUID qrValue = parse(entry.qrValue());
+            if (qrValue != null) {
+                slotsByQrValue.putIfAbsent(qrValue, slot);
+            }
+        }
+        EventScanIndex index = new EventScanIndex(eventId, Arrays.copyOf(ticketIds, tickets), slotsByQrValue, slotsByTicketId);
+        for (UUID usedTicketId : usedTicketIds) {
+            int slot = slotsByTicketId.get(usedTicketId);
+            if (slot >= 0) {
+                index.markUsed(slot);
+            }
+        }
+        return index;
+    }
+
+    public UUID eventId() {
+        return eventId;
+    }
+
+    public int size() {
+        return ticketIds.length;
+    }
+
+    long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    UuidIntMap slotsByQrValue() {
+        return slotsByQrValue;
+    }
+
+    UuidIntMap slotsByTicketId() {
+        return slotsByTicketId;
+    }
+
+    void scannerIds(Collection<UUID> scannerIds) {
+        this.scannerIds = Set.copyOf(scannerIds);
+    }
+
+    /**
+     * @return whether the user organizes or staffs this event and may therefore validate its tickets
+     */
+    public boolean allowsScanner(UUID userId) {
+        return scannerIds.contains(userId);
+    }
+
+    /**
+     * @return the slot of the ticket carrying this QR code value, or -1 if the value is not indexed
+     */
+    public int slotForQrValue(UUID qrValue) {
+        lastAccessNanos = System.nanoTime();
+        return slotsByQrValue.get(qrValue);
+    }
+
+    /**
+     * @return the slot of the ticket, or -1 if the ticket is not indexed
+     */
+    public int slotForTicket(UUID ticketId) {
+        lastAccessNanos = System.nanoTime();
+        return slotsByTicketId.get(ticketId);
+    }
+
+    public UUID ticketId(int slot) {
+        return ticketIds[slot];
+    }
+
+    /**
+     * Atomically marks the ticket in this slot as used.
+     *
+     * @return true only for the first caller
+     */
+    public boolean markUsed(int slot) {
+        int word = slot >>> 6;
+        long bit = 1L << (slot & 63);
+        while (true) {
+            long current = usedSlots.get(word);
+            if ((current & bit) != 0) {
+                return false;
+            }
+            if (usedSlots.compareAndSet(word, current, current | bit)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reverts {@link #markUsed(int)} when the scan could not be recorded, so the holder can scan again.
+     */
+    public void unmarkUsed(int slot) {
+        int word = slot >>> 6;
+        long bit = 1L << (slot & 63);
+        usedSlots.getAndUpdate(word, current -> current & ~bit);
+    }
+
+    /**
+     * First-scan-wins for a ticket that is not part of the preloaded slots.
+     *
+     * @param alreadyUsed whether the database already holds a VALID validation for the ticket
+     */
+    public boolean markLateTicketUsed(UUID ticketId, boolean alreadyUsed) {
+        return lateTicketsUsed.putIfAbsent(ticketId, Boolean.TRUE) == null && !alreadyUsed;
+    }
+
+    public void unmarkLateTicketUsed(UUID ticketId) {
+        lateTicketsUsed.remove(ticketId);
+    }
+
+    static UUID parse(String value) {
+        try {
+            return value == null ? null : UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.personal.tickets.validation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.personal.tickets.config.ScanIndexProperties;
+import com.personal.tickets.domain.Projections.ScanIndexEntry;
+import com.personal.tickets.repositories.EventRepository;
+import com.personal.tickets.repositories.QrCodeRepository;
+import com.personal.tickets.repositories.TicketValidationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps one {@link EventScanIndex} per event that is about to start or is being scanned. Events starting
+ * soon are preloaded in the background; any other event is loaded by its first scan, and concurrent
+ * first scans share a single load. The organizer and staff of every loaded event are reloaded on each
+ * refresh, so staffing changes reach the gates within one refresh interval. Refreshes and preloads run on
+ * the registry's own background worker.
+ * <p>
+ * The indexes are per node: see {@link EventScanIndex} for why an event's scans must all reach one node.
+ */
+@Component
+@Slf4j
+public class ScanIndexRegistry implements DisposableBean {
+
+    private final EventRepository eventRepository;
+    private final QrCodeRepository qrCodeRepository;
+    private final TicketValidationRepository ticketValidationRepository;
+    private final ScanIndexProperties properties;
+    private final Map<UUID, CompletableFuture<EventScanIndex>> indexes = new ConcurrentHashMap<>();
+    // Snapshot of the completed indexes
+    private volatile EventScanIndex[] loaded = new EventScanIndex[0];
+    // Every key of the snapshot in one table, consulted on every scan
+    private volatile ScanLookup lookup = ScanLookup.EMPTY;
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    private final ExecutorService refresher;
+
+    public ScanIndexRegistry(
+            EventRepository eventRepository,
+            QrCodeRepository qrCodeRepository,
+            TicketValidationRepository ticketValidationRepository,
+            ScanIndexProperties properties,
+            ThreadFactory workerThreadFactory) {
+        this.eventRepository = eventRepository;
+        this.qrCodeRepository = qrCodeRepository;
+        this.ticketValidationRepository = ticketValidationRepository;
+        this.properties = properties;
+        this.refresher = Executors.newSingleThreadExecutor(workerThreadFactory);
+    }
+
+    public ScanLookup lookup() {
+        return lookup;
+    }
+
+    public EventScanIndex getOrLoad(UUID eventId) {
+        CompletableFuture<EventScanIndex> created = new CompletableFuture<>();
+        CompletableFuture<EventScanIndex> existing = indexes.putIfAbsent(eventId, created);
+        if (existing != null) {
+            return existing.join();
+        }
+        try {
+            List<ScanIndexEntry> entries = qrCodeRepository.findScanIndexEntriesByEventId(eventId);
+            List<UUID> usedTicketIds = ticketValidationRepository.findValidatedTicketIdsByEventId(eventId);
+            EventScanIndex index = EventScanIndex.build(eventId, entries, usedTicketIds);
+            index.scannerIds(eventRepository.findScannerIdsByEventId(eventId));
+            created.complete(index);
+            publishSnapshot();
+            log.info("🎫 Scan index for event {} loaded with {} tickets", eventId, index.size());
+            return index;
+        } catch (RuntimeException e) {
+            indexes.remove(eventId, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.scan-index.refresh-interval:PT1M}")
+    public void poll() {
+        // Skipped while a slow refresh is still loading rather than queueing another behind it
+        if (refreshScheduled.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                try {
+                    refresh();
+                } catch (RuntimeException e) {
+                    log.error("❌ Scan index refresh failed: {}", e.getMessage(), e);
+                } finally {
+                    refreshScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    void refresh() {
+        long idleNanos = properties.getIdleEviction().toNanos();
+        long now = System.nanoTime();
+        for (EventScanIndex index : loaded) {
+            if (now - index.lastAccessNanos() > idleNanos) {
+                indexes.remove(index.eventId());
+                log.info("🎫 Scan index for event {} evicted after being idle", index.eventId());
+            } else {
+                try {
+                    index.scannerIds(eventRepository.findScannerIdsByEventId(index.eventId()));
+                } catch (RuntimeException e) {
+                    log.error("❌ Failed to reload scanners of event {}: {}", index.eventId(), e.getMessage(), e);
+                }
+            }
+        }
+        publishSnapshot();
+
+        LocalDateTime from = LocalDateTime.now();
+        for (UUID eventId : eventRepository.findPublishedEventIdsStartingBetween(from, from.plus(properties.getPreloadWindow()))) {
+            if (!indexes.containsKey(eventId)) {
+                try {
+                    getOrLoad(eventId);
+                } catch (RuntimeException e) {
+                    log.error("❌ Failed to preload scan index for event {}: {}", eventId, e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private synchronized void publishSnapshot() {
+        loaded = indexes.values().stream()
+                .filter(future -> future.isDone() && !future.isCompletedExceptionally())
+                .map(CompletableFuture::join)
+                .toArray(EventScanIndex[]::new);
+        lookup = ScanLookup.build(loaded);
+    }
+
+    @Override
+    public void destroy() {
+        refresher.shutdownNow();
+    }
+}
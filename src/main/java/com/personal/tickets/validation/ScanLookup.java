@@ -0,0 +1,76 @@
+package com.personal.tickets.validation;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Every QR code value and ticket id of the loaded scan indexes in one table per key kind, so a scan is a
+ * single hash lookup however many events are loaded. Slots of all indexes are numbered consecutively; a
+ * position resolves back to its index and slot with two array reads. Immutable, and rebuilt by
+ * {@link ScanIndexRegistry} whenever an index is loaded or evicted, which happens far less often than scans.
+ */
+public final class ScanLookup {
+
+    static final ScanLookup EMPTY = build(new EventScanIndex[0]);
+
+    private final EventScanIndex[] indexes;
+    private final int[] offsets;
+    private final int[] owners;
+    private final UuidIntMap positionsByQrValue;
+    private final UuidIntMap positionsByTicketId;
+
+    private ScanLookup(EventScanIndex[] indexes, int[] offsets, int[] owners, UuidIntMap positionsByQrValue, UuidIntMap positionsByTicketId) {
+        this.indexes = indexes;
+        this.offsets = offsets;
+        this.owners = owners;
+        this.positionsByQrValue = positionsByQrValue;
+        this.positionsByTicketId = positionsByTicketId;
+    }
+
+    static ScanLookup build(EventScanIndex[] indexes) {
+        int[] offsets = new int[indexes.length];
+        int qrValues = 0;
+        int tickets = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            offsets[i] = tickets;
+            tickets += indexes[i].size();
+            qrValues += indexes[i].slotsByQrValue().size();
+        }
+        int[] owners = new int[tickets];
+        UuidIntMap positionsByQrValue = new UuidIntMap(qrValues);
+        UuidIntMap positionsByTicketId = new UuidIntMap(tickets);
+        for (int i = 0; i < indexes.length; i++) {
+            Arrays.fill(owners, offsets[i], offsets[i] + indexes[i].size(), i);
+            positionsByQrValue.putAll(indexes[i].slotsByQrValue(), offsets[i]);
+            positionsByTicketId.putAll(indexes[i].slotsByTicketId(), offsets[i]);
+        }
+        return new ScanLookup(indexes, offsets, owners, positionsByQrValue, positionsByTicketId);
+    }
+
+    /**
+     * @return the position of the ticket carrying this QR code value, or -1 if no loaded index has it
+     */
+    public int positionOfQrValue(UUID qrValue) {
+        return positionsByQrValue.get(qrValue);
+    }
+
+    /**
+     * @return the position of the ticket, or -1 if no loaded index has it
+     */
+    public int positionOfTicket(UUID ticketId) {
+        return positionsByTicketId.get(ticketId);
+    }
+
+    /**
+     * The index owning the position; counts as an access for idle eviction.
+     */
+    public EventScanIndex index(int position) {
+        EventScanIndex index = indexes[owners[position]];
+        index.touch();
+        return index;
+    }
+
+    public int slot(int position) {
+        return position - offsets[owners[position]];
+    }
+}
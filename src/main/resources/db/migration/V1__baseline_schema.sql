@@ -0,0 +1,88 @@
+-- Schema as created by hibernate.ddl-auto=update before Flyway was introduced. Databases that were created
+-- that way are baselined at this version (spring.flyway.baseline-on-migrate) and continue with V2.
+
+CREATE TABLE users (
+    id UUID NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id)
+);
+
+CREATE TABLE events (
+    id UUID NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    start_date TIMESTAMP(6),
+    end_date TIMESTAMP(6),
+    venue VARCHAR(255) NOT NULL,
+    sales_start_date TIMESTAMP(6),
+    sales_end_date TIMESTAMP(6),
+    status VARCHAR(255) NOT NULL CHECK (status IN ('DRAFT', 'PUBLISHED', 'CANCELLED', 'COMPLETED')),
+    organizer_id UUID NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_events PRIMARY KEY (id),
+    CONSTRAINT fk_events_organizer FOREIGN KEY (organizer_id) REFERENCES users (id)
+);
+
+CREATE TABLE user_attending_events (
+    user_id UUID NOT NULL,
+    event_id UUID NOT NULL,
+    CONSTRAINT fk_user_attending_events_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_attending_events_event FOREIGN KEY (event_id) REFERENCES events (id)
+);
+
+CREATE TABLE user_staffing_events (
+    user_id UUID NOT NULL,
+    event_id UUID NOT NULL,
+    CONSTRAINT fk_user_staffing_events_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_staffing_events_event FOREIGN KEY (event_id) REFERENCES events (id)
+);
+
+CREATE TABLE ticket_types (
+    id UUID NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    price DOUBLE PRECISION NOT NULL,
+    description VARCHAR(255),
+    total_available INTEGER,
+    event_id UUID NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_ticket_types PRIMARY KEY (id),
+    CONSTRAINT fk_ticket_types_event FOREIGN KEY (event_id) REFERENCES events (id)
+);
+
+CREATE TABLE tickets (
+    id UUID NOT NULL,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('PURCHASED', 'CANCELLED')),
+    ticket_type_id UUID NOT NULL,
+    purchaser_id UUID NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_tickets PRIMARY KEY (id),
+    CONSTRAINT fk_tickets_ticket_type FOREIGN KEY (ticket_type_id) REFERENCES ticket_types (id),
+    CONSTRAINT fk_tickets_purchaser FOREIGN KEY (purchaser_id) REFERENCES users (id)
+);
+
+CREATE TABLE qr_codes (
+    id UUID NOT NULL,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('ACTIVE', 'EXPIRED')),
+    value VARCHAR(255) NOT NULL,
+    ticket_id UUID NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_qr_codes PRIMARY KEY (id),
+    CONSTRAINT fk_qr_codes_ticket FOREIGN KEY (ticket_id) REFERENCES tickets (id)
+);
+
+CREATE TABLE ticket_validations (
+    id UUID NOT NULL,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('VALID', 'INVALID', 'EXPIRED')),
+    validation_method VARCHAR(255) NOT NULL CHECK (validation_method IN ('QR_SCAN', 'MANUAL_SCAN')),
+    ticket_id UUID NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_ticket_validations PRIMARY KEY (id),
+    CONSTRAINT fk_ticket_validations_ticket FOREIGN KEY (ticket_id) REFERENCES tickets (id)
+);
@@ -0,0 +1,36 @@
+-- Inventory counters, ticket holds, the outbox and the keyset pagination indexes added after the baseline.
+-- Guarded with IF NOT EXISTS, because ddl-auto=update may already have created them in a database that is
+-- baselined at V1.
+
+-- Units sold and units reserved by unexpired holds, claimed with conditional updates
+ALTER TABLE ticket_types ADD COLUMN IF NOT EXISTS total_sold INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE ticket_types ADD COLUMN IF NOT EXISTS total_held INTEGER DEFAULT 0 NOT NULL;
+UPDATE ticket_types tt SET total_sold = (SELECT COUNT(*) FROM tickets t WHERE t.ticket_type_id = tt.id);
+
+-- When an offline scanner saw the ticket
+ALTER TABLE ticket_validations ADD COLUMN IF NOT EXISTS scanned_at TIMESTAMP(6);
+
+CREATE TABLE IF NOT EXISTS ticket_holds (
+    id UUID NOT NULL,
+    ticket_type_id UUID NOT NULL,
+    purchaser_id UUID NOT NULL,
+    quantity INTEGER NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_ticket_holds PRIMARY KEY (id),
+    CONSTRAINT fk_ticket_holds_ticket_type FOREIGN KEY (ticket_type_id) REFERENCES ticket_types (id),
+    CONSTRAINT fk_ticket_holds_purchaser FOREIGN KEY (purchaser_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS outbox_entries (
+    id UUID NOT NULL,
+    change_type VARCHAR(255) NOT NULL CHECK (change_type IN ('EVENT_CREATED')),
+    aggregate_id UUID NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_outbox_entries PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_events_organizer_created_at_id ON events (organizer_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tickets_purchaser_created_at_id ON tickets (purchaser_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_ticket_holds_expires_at ON ticket_holds (expires_at);
+CREATE INDEX IF NOT EXISTS idx_outbox_entries_created_at_id ON outbox_entries (created_at, id);
@@ -0,0 +1,25 @@
+-- Secondary indexes and unique constraints for the lookup paths that ddl-auto never created.
+
+-- Gate scans resolve a QR value to exactly one code; the constraint's index serves the lookup
+ALTER TABLE qr_codes ADD CONSTRAINT uk_qr_codes_value UNIQUE (value);
+-- QR codes of a ticket (ticket page, image rendering)
+CREATE INDEX IF NOT EXISTS idx_qr_codes_ticket_id ON qr_codes (ticket_id);
+
+-- Tickets of a ticket type, and through ticket_types of an event (exports, scan index, QR pre-rendering)
+CREATE INDEX IF NOT EXISTS idx_tickets_ticket_type_id ON tickets (ticket_type_id);
+CREATE INDEX IF NOT EXISTS idx_ticket_types_event_id ON ticket_types (event_id);
+
+-- Validations of a ticket; the latest one is read by the export, first-scan checks by the gate
+CREATE INDEX IF NOT EXISTS idx_ticket_validations_ticket_id_created_at_id ON ticket_validations (ticket_id, created_at, id);
+
+-- Published catalog and the events starting soon that get their scan index and QR images pre-built
+CREATE INDEX IF NOT EXISTS idx_events_status_start_date ON events (status, start_date);
+
+-- A user attends or staffs an event at most once; event_id serves lookups from the event side
+ALTER TABLE user_attending_events ADD CONSTRAINT pk_user_attending_events PRIMARY KEY (user_id, event_id);
+CREATE INDEX IF NOT EXISTS idx_user_attending_events_event_id ON user_attending_events (event_id);
+ALTER TABLE user_staffing_events ADD CONSTRAINT pk_user_staffing_events PRIMARY KEY (user_id, event_id);
+CREATE INDEX IF NOT EXISTS idx_user_staffing_events_event_id ON user_staffing_events (event_id);
+
+-- Holds of a ticket type, so deleting a ticket type does not scan every hold
+CREATE INDEX IF NOT EXISTS idx_ticket_holds_ticket_type_id ON ticket_holds (ticket_type_id);
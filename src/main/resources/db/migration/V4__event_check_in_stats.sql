@@ -0,0 +1,22 @@
+-- Check-in counters per event, maintained incrementally by CheckInCounters so the dashboard never
+-- aggregates ticket_validations. Backfilled once from the validations recorded so far.
+
+CREATE TABLE IF NOT EXISTS event_check_in_stats (
+    event_id UUID NOT NULL,
+    tickets_checked_in BIGINT DEFAULT 0 NOT NULL,
+    scans_rejected BIGINT DEFAULT 0 NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_event_check_in_stats PRIMARY KEY (event_id),
+    CONSTRAINT fk_event_check_in_stats_event FOREIGN KEY (event_id) REFERENCES events (id)
+);
+
+INSERT INTO event_check_in_stats (event_id, tickets_checked_in, scans_rejected, updated_at)
+SELECT tt.event_id,
+       SUM(CASE WHEN v.status = 'VALID' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN v.status = 'VALID' THEN 0 ELSE 1 END),
+       CURRENT_TIMESTAMP
+FROM ticket_validations v
+JOIN tickets t ON t.id = v.ticket_id
+JOIN ticket_types tt ON tt.id = t.ticket_type_id
+GROUP BY tt.event_id
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,16 @@
+-- Responses to requests sent with an Idempotency-Key, kept when tickets.idempotency.database-enabled is set
+-- so a retry that lands on another node is replayed too. The key is the user id and the client's key.
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    id VARCHAR(320) NOT NULL,
+    fingerprint VARCHAR(64) NOT NULL,
+    status INTEGER NOT NULL,
+    content_type VARCHAR(255),
+    location VARCHAR(2048),
+    body BYTEA NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,119 @@
+package com.personal.tickets.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.personal.tickets.catalog.PublishedEventCatalog;
+import com.personal.tickets.config.WaitingRoomProperties;
+import com.personal.tickets.domain.Enums.AdmissionDecision;
+import com.personal.tickets.domain.Results.AdmissionResult;
+import com.personal.tickets.exceptions.EventNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WaitingRoomTests {
+
+	private final UUID eventId = UUID.randomUUID();
+	private final AtomicLong nanoTime = new AtomicLong();
+	private final PublishedEventCatalog publishedEventCatalog = mock(PublishedEventCatalog.class);
+	private final WaitingRoom waitingRoom = waitingRoom();
+
+	@Test
+	void excessBuyersAreQueuedAndAdmittedInOrderAtTheConfiguredRate() {
+		assertThat(waitingRoom.admit(eventId, UUID.randomUUID(), null).admitted()).isTrue();
+		assertThat(waitingRoom.admit(eventId, UUID.randomUUID(), null).admitted()).isTrue();
+
+		UUID third = UUID.randomUUID();
+		UUID fourth = UUID.randomUUID();
+		AdmissionResult thirdQueued = waitingRoom.admit(eventId, third, null);
+		AdmissionResult fourthQueued = waitingRoom.admit(eventId, fourth, null);
+		assertThat(thirdQueued).extracting(AdmissionResult::decision, AdmissionResult::position, AdmissionResult::waitingAhead,
+				AdmissionResult::estimatedWaitSeconds).containsExactly(AdmissionDecision.QUEUED, 1L, 0L, 1L);
+		assertThat(fourthQueued).extracting(AdmissionResult::decision, AdmissionResult::position, AdmissionResult::waitingAhead,
+				AdmissionResult::estimatedWaitSeconds).containsExactly(AdmissionDecision.QUEUED, 2L, 1L, 2L);
+		assertThat(waitingRoom.admit(eventId, UUID.randomUUID(), null).decision()).isEqualTo(AdmissionDecision.QUEUE_FULL);
+
+		elapse(1);
+		assertThat(waitingRoom.admit(eventId, third, thirdQueued.queueToken()).admitted()).isTrue();
+		assertThat(waitingRoom.admit(eventId, fourth, fourthQueued.queueToken()).decision()).isEqualTo(AdmissionDecision.QUEUED);
+		elapse(1);
+		assertThat(waitingRoom.status(eventId, fourth, fourthQueued.queueToken()).admitted()).isTrue();
+	}
+
+	@Test
+	void tokensOnlyWorkForTheirOwnBuyerAndEvent() {
+		waitingRoom.admit(eventId, UUID.randomUUID(), null);
+		waitingRoom.admit(eventId, UUID.randomUUID(), null);
+		UUID buyer = UUID.randomUUID();
+		String token = waitingRoom.admit(eventId, buyer, null).queueToken();
+		elapse(1);
+
+		// Someone else's token counts as no token at all: a new place at the back of the queue
+		AdmissionResult borrowed = waitingRoom.admit(eventId, UUID.randomUUID(), token);
+		assertThat(borrowed.decision()).isEqualTo(AdmissionDecision.QUEUED);
+		assertThat(borrowed.position()).isEqualTo(2);
+
+		// Claims an earlier position without being able to re-sign it
+		String forged = token.substring(0, 60) + (token.charAt(60) == 'A' ? 'B' : 'A') + token.substring(61);
+		assertThatThrownBy(() -> waitingRoom.status(eventId, buyer, forged)).isInstanceOf(IllegalArgumentException.class);
+		UUID otherEvent = UUID.randomUUID();
+		when(publishedEventCatalog.isPublished(otherEvent)).thenReturn(true);
+		assertThatThrownBy(() -> waitingRoom.status(otherEvent, buyer, token)).isInstanceOf(IllegalArgumentException.class);
+		assertThat(waitingRoom.status(eventId, buyer, token).admitted()).isTrue();
+	}
+
+	@Test
+	void anAdmittedTokenBuysOnce() {
+		waitingRoom.admit(eventId, UUID.randomUUID(), null);
+		waitingRoom.admit(eventId, UUID.randomUUID(), null);
+		UUID buyer = UUID.randomUUID();
+		String token = waitingRoom.admit(eventId, buyer, null).queueToken();
+		elapse(1);
+
+		assertThat(waitingRoom.admit(eventId, buyer, token).admitted()).isTrue();
+		// Used up: the next purchase queues again behind everyone who arrived meanwhile
+		AdmissionResult again = waitingRoom.admit(eventId, buyer, token);
+		assertThat(again.decision()).isEqualTo(AdmissionDecision.QUEUED);
+		assertThat(again.position()).isEqualTo(2);
+	}
+
+	@Test
+	void unpublishedEventsGetNoWaitingRoom() {
+		UUID unknown = UUID.randomUUID();
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(waitingRoom.admit(unknown, UUID.randomUUID(), null).admitted()).isTrue();
+		}
+		assertThatThrownBy(() -> waitingRoom.enqueue(unknown, UUID.randomUUID())).isInstanceOf(EventNotFoundException.class);
+	}
+
+	private void elapse(long seconds) {
+		nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+	}
+
+	private WaitingRoom waitingRoom() {
+		WaitingRoomProperties properties = new WaitingRoomProperties();
+		properties.setEnabled(true);
+		properties.setAdmissionRate(1);
+		properties.setBurst(2);
+		properties.setMaxQueueLength(2);
+		when(publishedEventCatalog.isPublished(eventId)).thenReturn(true);
+		return new WaitingRoom(
+				properties,
+				new InMemoryAdmissionStore(properties, nanoTime::get),
+				publishedEventCatalog,
+				new SimpleMeterRegistry(),
+				Clock.fixed(Instant.parse("2026-06-01T18:00:00Z"), ZoneOffset.UTC));
+	}
+}
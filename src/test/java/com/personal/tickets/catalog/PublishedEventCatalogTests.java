@@ -0,0 +1,67 @@
+package com.personal.tickets.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+
+import com.personal.tickets.domain.Messages.EventChangedMessage;
+import com.personal.tickets.domain.Projections.PublishedEventSummary;
+import com.personal.tickets.repositories.EventRepository;
+
+class PublishedEventCatalogTests {
+
+	@Test
+	void failedRefreshIsRetriedWithoutAnotherChange() throws InterruptedException {
+		EventRepository eventRepository = mock(EventRepository.class);
+		PublishedEventSummary summary = new PublishedEventSummary(
+				UUID.randomUUID(), "Retried concert", LocalDateTime.now().plusDays(1), null, "Arena", LocalDateTime.now());
+		when(eventRepository.findPublishedEventSummaries()).thenReturn(List.of());
+		when(eventRepository.findPublishedEventSummariesByIdIn(anyCollection()))
+				.thenThrow(new DataAccessResourceFailureException("database down"))
+				.thenReturn(List.of(summary));
+		PublishedEventCatalog catalog = new PublishedEventCatalog(eventRepository, Executors.defaultThreadFactory());
+		catalog.load();
+
+		catalog.onEventChanged(new EventChangedMessage(summary.id()));
+
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (catalog.search("retried", PageRequest.of(0, 10)).isEmpty() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(catalog.search("retried", PageRequest.of(0, 10)).getContent()).containsExactly(summary);
+		catalog.destroy();
+	}
+
+	@Test
+	void periodicReloadPicksUpChangesThatWereNeverAnnounced() throws InterruptedException {
+		EventRepository eventRepository = mock(EventRepository.class);
+		PublishedEventSummary dropped = new PublishedEventSummary(
+				UUID.randomUUID(), "Cancelled gig", LocalDateTime.now().plusDays(1), null, "Club", LocalDateTime.now());
+		PublishedEventSummary missed = new PublishedEventSummary(
+				UUID.randomUUID(), "Unannounced gig", LocalDateTime.now().plusDays(2), null, "Club", LocalDateTime.now());
+		when(eventRepository.findPublishedEventSummaries())
+				.thenReturn(List.of(dropped))
+				.thenReturn(List.of(missed));
+		PublishedEventCatalog catalog = new PublishedEventCatalog(eventRepository, Executors.defaultThreadFactory());
+		catalog.load();
+
+		catalog.scheduleReload();
+
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (catalog.search("gig", PageRequest.of(0, 10)).getContent().contains(dropped) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(catalog.search("gig", PageRequest.of(0, 10)).getContent()).containsExactly(missed);
+		catalog.destroy();
+	}
+}
@@ -0,0 +1,115 @@
+package com.personal.tickets.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.personal.tickets.domain.Projections.PublishedEventSummary;
+
+class PublishedEventIndexTests {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 20, 0);
+
+	@Test
+	void searchMatchesEveryTokenAsPrefixInCatalogOrder() {
+		PublishedEventSummary later = summary("Jazz Night", "Blue Note", NOW.plusDays(2));
+		PublishedEventSummary sooner = summary("Late Jazz Session", "Village Vanguard", NOW.plusDays(1));
+		PublishedEventSummary other = summary("Rock Festival", "Blue Arena", NOW);
+		PublishedEventIndex index = PublishedEventIndex.build(List.of(later, sooner, other));
+
+		assertThat(index.search("jazz", 0, 10).content()).containsExactly(sooner, later);
+		assertThat(index.search("JA blu", 0, 10).content()).containsExactly(later);
+		assertThat(index.search("blue", 0, 10).content()).containsExactly(other, later);
+		assertThat(index.search("opera", 0, 10).content()).isEmpty();
+		assertThat(index.search(null, 0, 10).content()).containsExactly(other, sooner, later);
+	}
+
+	@Test
+	void searchPagesWithoutLosingTheTotal() {
+		List<PublishedEventSummary> summaries = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			summaries.add(summary("Concert " + i, "Hall", NOW.plusHours(i)));
+		}
+		PublishedEventIndex index = PublishedEventIndex.build(summaries);
+
+		PublishedEventIndex.SearchResult page = index.search("concert", 8, 4);
+
+		assertThat(page.total()).isEqualTo(10);
+		assertThat(page.content()).containsExactly(summaries.get(8), summaries.get(9));
+		assertThat(index.search("concert", 12, 4).content()).isEmpty();
+	}
+
+	@Test
+	void changesAreAppliedPerEventAndSearchLikeAFreshBuild() {
+		List<PublishedEventSummary> summaries = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			summaries.add(summary("Concert " + i, i % 2 == 0 ? "Hall" : "Arena", NOW.plusHours(i)));
+		}
+		PublishedEventIndex index = PublishedEventIndex.build(summaries);
+
+		PublishedEventSummary renamed = new PublishedEventSummary(summaries.get(3).id(), "Jazz Brunch", NOW.plusMinutes(30), null, "Hall", NOW);
+		PublishedEventSummary published = summary("Jazz Concert", "Arena", NOW.plusHours(7).plusMinutes(30));
+		UUID unpublished = summaries.get(10).id();
+		PublishedEventIndex changed = index
+				.withChanges(Set.of(renamed.id(), unpublished), List.of(renamed))
+				.withChanges(Set.of(published.id()), List.of(published));
+
+		List<PublishedEventSummary> live = new ArrayList<>(summaries);
+		live.set(3, renamed);
+		live.remove(10);
+		live.add(published);
+		PublishedEventIndex rebuilt = PublishedEventIndex.build(live);
+
+		assertThat(changed.size()).isEqualTo(rebuilt.size());
+		for (String query : new String[] { null, "concert", "jazz", "hall", "arena conc", "concert 1" }) {
+			for (int offset = 0; offset < 24; offset += 5) {
+				PublishedEventIndex.SearchResult expected = rebuilt.search(query, offset, 5);
+				PublishedEventIndex.SearchResult actual = changed.search(query, offset, 5);
+				assertThat(actual.total()).as(query).isEqualTo(expected.total());
+				assertThat(actual.content()).as(query + " @" + offset).containsExactlyElementsOf(expected.content());
+			}
+		}
+
+		// Past the pending change limit the index is rebuilt, without losing anything
+		for (int i = 0; i < PublishedEventIndex.MAX_PENDING_CHANGES; i++) {
+			PublishedEventSummary added = summary("Tour " + i, "Stadium", NOW.plusDays(1).plusMinutes(i));
+			changed = changed.withChanges(Set.of(added.id()), List.of(added));
+		}
+		assertThat(changed.size()).isEqualTo(rebuilt.size() + PublishedEventIndex.MAX_PENDING_CHANGES);
+		assertThat(changed.search("jazz", 0, 10).content()).containsExactlyElementsOf(rebuilt.search("jazz", 0, 10).content());
+		assertThat(changed.search("tour", 0, 1).total()).isEqualTo(PublishedEventIndex.MAX_PENDING_CHANGES);
+	}
+
+	@Test
+	void searchStaysUnderTenMillisecondsAtOneHundredThousandEvents() {
+		String[] words = {"jazz", "rock", "opera", "festival", "night", "arena", "club", "hall", "live", "tour"};
+		List<PublishedEventSummary> summaries = new ArrayList<>(100_000);
+		for (int i = 0; i < 100_000; i++) {
+			String name = words[i % words.length] + " " + words[(i / 10) % words.length] + " " + i;
+			summaries.add(summary(name, "Venue " + (i % 500), NOW.plusMinutes(i)));
+		}
+		PublishedEventIndex index = PublishedEventIndex.build(summaries);
+		String[] queries = {"jazz", "rock night", "ven", "arena 12", "opera venue 7", "live", "1"};
+
+		long[] latencies = new long[2_000];
+		for (int i = 0; i < latencies.length; i++) {
+			long start = System.nanoTime();
+			index.search(queries[i % queries.length], (i % 50) * 4L, 4);
+			latencies[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(latencies);
+
+		assertThat(latencies[(int) (latencies.length * 0.99)]).isLessThan(10_000_000L);
+	}
+
+	private static PublishedEventSummary summary(String name, String venue, LocalDateTime startDate) {
+		return new PublishedEventSummary(UUID.randomUUID(), name, startDate, startDate.plusHours(3), venue, NOW);
+	}
+}
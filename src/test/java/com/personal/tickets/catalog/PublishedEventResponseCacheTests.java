@@ -0,0 +1,122 @@
+package com.personal.tickets.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Entities.TicketType;
+import com.personal.tickets.domain.Entities.User;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+import com.personal.tickets.domain.Messages.EventChangedMessage;
+import com.personal.tickets.metrics.QueryCounter;
+import com.personal.tickets.repositories.EventRepository;
+import com.personal.tickets.repositories.UserRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PublishedEventResponseCacheTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private PublishedEventCatalog publishedEventCatalog;
+
+	@Autowired
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	@Test
+	void detailsAreServedFromCacheAndRevalidatedWithoutABody() throws Exception {
+		Event event = publishedEvent("Cached concert");
+		MvcResult first = mockMvc.perform(get("/api/v1/published-events/{eventId}", event.getId()))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+				.andExpect(jsonPath("$.name").value("Cached concert"))
+				.andReturn();
+		String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(etag).startsWith("W/\"");
+
+		long before = QueryCounter.current();
+		MvcResult revalidated = mockMvc.perform(get("/api/v1/published-events/{eventId}", event.getId())
+						.header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, etag))
+				.andReturn();
+		mockMvc.perform(get("/api/v1/published-events/{eventId}", event.getId()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.ticketTypes[0].name").value("General admission"));
+		assertThat(revalidated.getResponse().getContentAsByteArray()).isEmpty();
+		assertThat(QueryCounter.current() - before).isZero();
+
+		// A change drops the cached response, so the next request sees the new name under a new validator
+		event.setName("Moved concert");
+		eventRepository.save(event);
+		applicationEventPublisher.publishEvent(new EventChangedMessage(event.getId()));
+		mockMvc.perform(get("/api/v1/published-events/{eventId}", event.getId())
+						.header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.name").value("Moved concert"))
+				.andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+	}
+
+	@Test
+	void listingPagesAreRevalidatedAndFollowCatalogRebuilds() throws Exception {
+		String query = "zebra" + UUID.randomUUID().toString().substring(0, 8);
+		String etag = mockMvc.perform(get("/api/v1/published-events").param("q", query))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content.length()").value(0))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/api/v1/published-events").param("q", query.toUpperCase()).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+
+		long generation = publishedEventCatalog.generation();
+		Event event = publishedEvent(query);
+		applicationEventPublisher.publishEvent(new EventChangedMessage(event.getId()));
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (publishedEventCatalog.generation() == generation && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+
+		mockMvc.perform(get("/api/v1/published-events").param("q", query).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].id").value(event.getId().toString()));
+	}
+
+	private Event publishedEvent(String name) {
+		User organizer = userRepository.save(User.builder().id(UUID.randomUUID()).name("promoter").email("promoter@example.com").build());
+		Event event = new Event();
+		event.setName(name);
+		event.setVenue("Arena");
+		event.setStatus(EventStatusEnum.PUBLISHED);
+		event.setOrganizer(organizer);
+		TicketType ticketType = new TicketType();
+		ticketType.setName("General admission");
+		ticketType.setPrice(10.0);
+		ticketType.setEvent(event);
+		event.getTicketTypes().add(ticketType);
+		return eventRepository.save(event);
+	}
+}
@@ -0,0 +1,67 @@
+package com.personal.tickets.config;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+// Served from the small frontend build in src/test/resources/static
+@SpringBootTest
+@AutoConfigureMockMvc
+class StaticResourceTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void hashedAssetsArePrecompressedAndImmutable() throws Exception {
+		mockMvc.perform(get("/assets/index-3f9a1c.js").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+				.andExpect(content().bytes(bytesOf("static/assets/index-3f9a1c.js.br")));
+
+		// No smaller gzip variant was written for this file, so gzip-only clients get it as is
+		mockMvc.perform(get("/assets/index-3f9a1c.js").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+				.andExpect(content().bytes(bytesOf("static/assets/index-3f9a1c.js")));
+
+		// A missing asset is a 404, never the SPA page
+		mockMvc.perform(get("/assets/index-000000.js"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void clientSideRoutesGetIndexHtmlRevalidatedOnEveryUse() throws Exception {
+		for (int visit = 0; visit < 2; visit++) {
+			mockMvc.perform(get("/dashboard/events/42").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+					.andExpect(status().isOk())
+					.andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+					.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+					.andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+					.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+					.andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+					.andExpect(content().bytes(bytesOf("static/index.html.gz")));
+		}
+
+		mockMvc.perform(get("/index.html"))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+				.andExpect(content().bytes(bytesOf("static/index.html")));
+	}
+
+	private static byte[] bytesOf(String path) throws Exception {
+		return new ClassPathResource(path).getContentAsByteArray();
+	}
+}
@@ -0,0 +1,37 @@
+package com.personal.tickets.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ThreadFactory;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.personal.tickets.persistence.ConcurrencyLimitedDataSource;
+import com.personal.tickets.repositories.EventRepository;
+
+@SpringBootTest
+@ActiveProfiles("virtual-threads")
+class VirtualThreadsProfileTests {
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private ThreadFactory workerThreadFactory;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Test
+	void profileRunsWorkersOnVirtualThreadsBehindTheConnectionLimiter() {
+		assertThat(dataSource).isInstanceOf(ConcurrencyLimitedDataSource.class);
+		assertThat(workerThreadFactory.newThread(() -> {}).isVirtual()).isTrue();
+		assertThat(eventRepository.count()).isNotNegative();
+		assertThat(((ConcurrencyLimitedDataSource) dataSource).availablePermits()).isEqualTo(40);
+	}
+}
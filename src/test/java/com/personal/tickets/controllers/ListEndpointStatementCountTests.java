@@ -0,0 +1,193 @@
+package com.personal.tickets.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Entities.Ticket;
+import com.personal.tickets.domain.Entities.TicketType;
+import com.personal.tickets.domain.Entities.User;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+import com.personal.tickets.domain.Enums.TicketStatusEnum;
+import com.personal.tickets.metrics.QueryCounter;
+import com.personal.tickets.repositories.EventRepository;
+import com.personal.tickets.repositories.TicketRepository;
+import com.personal.tickets.repositories.UserRepository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ListEndpointStatementCountTests {
+
+	private static final int EVENTS = 30;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private User organizer;
+	private Event firstEvent;
+	private Ticket firstTicket;
+
+	@BeforeEach
+	void createOrganizerWithEventsAndTickets() throws Exception {
+		organizer = userRepository.save(User.builder().id(UUID.randomUUID()).name("busy").email("busy@example.com").build());
+		List<Event> events = new ArrayList<>();
+		for (int i = 0; i < EVENTS; i++) {
+			Event event = new Event();
+			event.setName("Event " + i);
+			event.setVenue("Venue " + i);
+			event.setStatus(EventStatusEnum.PUBLISHED);
+			event.setOrganizer(organizer);
+			for (String name : List.of("Standing", "Seated")) {
+				TicketType ticketType = new TicketType();
+				ticketType.setName(name);
+				ticketType.setPrice(20.0);
+				ticketType.setEvent(event);
+				event.getTicketTypes().add(ticketType);
+			}
+			events.add(event);
+		}
+		events = eventRepository.saveAll(events);
+		firstEvent = events.get(0);
+
+		List<Ticket> tickets = new ArrayList<>();
+		for (Event event : events) {
+			tickets.add(Ticket.builder()
+					.status(TicketStatusEnum.PURCHASED)
+					.ticketType(event.getTicketTypes().get(0))
+					.purchaser(organizer)
+					.build());
+		}
+		firstTicket = ticketRepository.saveAll(tickets).get(0);
+
+		// Provisions the user so that the filter's insert is not part of any measurement
+		mockMvc.perform(get("/api/v1/events/{eventId}", firstEvent.getId()).with(asOrganizer())).andExpect(status().isOk());
+	}
+
+	@Test
+	void eventListRunsTheSameStatementsForAnyPageSize() throws Exception {
+		long small = statementsFor(get("/api/v1/events").param("size", "2"));
+		long large = statementsFor(get("/api/v1/events").param("size", "25"));
+
+		// Page, count and one batched select of the page's ticket types
+		assertThat(small).isEqualTo(3);
+		assertThat(large).isEqualTo(small);
+		mockMvc.perform(get("/api/v1/events").param("size", "25").with(asOrganizer()))
+				.andExpect(jsonPath("$.content[24].ticketTypes.length()").value(2));
+	}
+
+	@Test
+	void ticketListRunsTheSameStatementsForAnyPageSize() throws Exception {
+		long small = statementsFor(get("/api/v1/tickets").param("size", "8"));
+		long large = statementsFor(get("/api/v1/tickets").param("size", "25"));
+
+		// Page of projections with their ticket types joined, then the count
+		assertThat(small).isEqualTo(2);
+		assertThat(large).isEqualTo(small);
+		mockMvc.perform(get("/api/v1/tickets").param("size", "25").with(asOrganizer()))
+				.andExpect(jsonPath("$.content[24].ticketType.name").value("Standing"));
+	}
+
+	@Test
+	void eventCursorWalksEveryEventOnceWithoutCounting() throws Exception {
+		Set<String> seen = new HashSet<>();
+		String cursor = "";
+		int pages = 0;
+		while (cursor != null) {
+			long before = QueryCounter.current();
+			MvcResult result = mockMvc.perform(get("/api/v1/events").param("cursor", cursor).param("size", "7").with(asOrganizer()))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.totalElements").doesNotExist())
+					.andReturn();
+			// Seek and one batched select of ticket types; no COUNT(*) and no OFFSET scan
+			assertThat(QueryCounter.current() - before).isEqualTo(2);
+			JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+			page.get("content").forEach(event -> assertThat(seen.add(event.get("id").asText())).isTrue());
+			cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+			pages++;
+		}
+		assertThat(seen).hasSize(EVENTS);
+		assertThat(pages).isEqualTo(5);
+	}
+
+	@Test
+	void ticketCursorCountsOnlyWhenAsked() throws Exception {
+		long before = QueryCounter.current();
+		mockMvc.perform(get("/api/v1/tickets").param("cursor", "").param("size", "8").param("includeTotal", "true").with(asOrganizer()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content.length()").value(8))
+				.andExpect(jsonPath("$.totalElements").value(EVENTS))
+				.andExpect(jsonPath("$.nextCursor").isNotEmpty());
+		assertThat(QueryCounter.current() - before).isEqualTo(2);
+
+		mockMvc.perform(get("/api/v1/tickets").param("cursor", "not-a-cursor").with(asOrganizer()))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void detailEndpointsRunOneStatement() throws Exception {
+		assertThat(statementsFor(get("/api/v1/events/{eventId}", firstEvent.getId()))).isEqualTo(1);
+		assertThat(statementsFor(get("/api/v1/tickets/{ticketId}", firstTicket.getId()))).isEqualTo(1);
+	}
+
+	@Test
+	void statementCountsArePublishedPerRoute() throws Exception {
+		DistributionSummary summary = meterRegistry.get("tickets.http.queries")
+				.tag("method", "GET").tag("uri", "/api/v1/events/{eventId}").summary();
+		long requests = summary.count();
+		double statements = summary.totalAmount();
+
+		statementsFor(get("/api/v1/events/{eventId}", firstEvent.getId()));
+
+		assertThat(summary.count()).isEqualTo(requests + 1);
+		assertThat(summary.totalAmount()).isEqualTo(statements + 1);
+	}
+
+	private long statementsFor(MockHttpServletRequestBuilder request) throws Exception {
+		long before = QueryCounter.current();
+		mockMvc.perform(request.with(asOrganizer())).andExpect(status().isOk());
+		return QueryCounter.current() - before;
+	}
+
+	private JwtRequestPostProcessor asOrganizer() {
+		return jwt().jwt(token -> token.subject(organizer.getId().toString()));
+	}
+}
@@ -0,0 +1,85 @@
+package com.personal.tickets.filters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import com.personal.tickets.config.UserProvisioningProperties;
+import com.personal.tickets.repositories.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserProvisioningFilterTests {
+
+	private static final int REQUESTS = 1_000;
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final UserProvisioningFilter filter = new UserProvisioningFilter(
+			userRepository, new ProvisionedUserCache(new UserProvisioningProperties(), meterRegistry), meterRegistry);
+
+	@AfterEach
+	void clearSecurityContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void onlyTheFirstRequestOfAUserReachesTheDatabase() throws Exception {
+		UUID userId = UUID.randomUUID();
+		when(userRepository.insertIfAbsent(eq(userId), anyString(), anyString(), any())).thenReturn(1);
+		authenticateAs(userId);
+
+		for (int i = 0; i < REQUESTS; i++) {
+			filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tickets"), new MockHttpServletResponse(), new MockFilterChain());
+		}
+
+		// Previously every request issued a findById: REQUESTS round trips, now a single upsert
+		verify(userRepository, times(1)).insertIfAbsent(eq(userId), eq("Jane Doe"), eq("jane@example.com"), any());
+		verifyNoMoreInteractions(userRepository);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "provisioned-users").tag("result", "hit")
+				.functionCounter().count()).isEqualTo(REQUESTS - 1);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "provisioned-users").tag("result", "miss")
+				.functionCounter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void existingUsersAreCachedWithoutBeingRecreated() throws Exception {
+		UUID userId = UUID.randomUUID();
+		when(userRepository.insertIfAbsent(eq(userId), anyString(), anyString(), any())).thenReturn(0);
+		authenticateAs(userId);
+
+		filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tickets"), new MockHttpServletResponse(), new MockFilterChain());
+		filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tickets"), new MockHttpServletResponse(), new MockFilterChain());
+
+		verify(userRepository, times(1)).insertIfAbsent(eq(userId), anyString(), anyString(), any());
+		verifyNoMoreInteractions(userRepository);
+	}
+
+	private static void authenticateAs(UUID userId) {
+		Jwt jwt = Jwt.withTokenValue("token")
+				.header("alg", "RS256")
+				.subject(userId.toString())
+				.claim("name", "Jane Doe")
+				.claim("email", "jane@example.com")
+				.build();
+		SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt, List.of()));
+	}
+}
@@ -0,0 +1,241 @@
+package com.personal.tickets.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.personal.tickets.config.IdempotencyProperties;
+import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Entities.TicketType;
+import com.personal.tickets.domain.Entities.User;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+import com.personal.tickets.repositories.EventRepository;
+import com.personal.tickets.repositories.IdempotencyRecordRepository;
+import com.personal.tickets.repositories.TicketTypeRepository;
+import com.personal.tickets.repositories.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyFilterTests {
+
+	private static final String EVENT = """
+			{"name": "%s", "venue": "Arena", "status": "DRAFT",
+			 "ticketTypes": [{"name": "General admission", "price": 10.0, "totalAvailable": 100}]}
+			""";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private TicketTypeRepository ticketTypeRepository;
+
+	@Autowired
+	private IdempotencyRecordRepository idempotencyRecordRepository;
+
+	@Test
+	void retriedEventCreationIsReplayedInsteadOfCreatingAnotherEvent() throws Exception {
+		UUID organizerId = UUID.randomUUID();
+		String body = EVENT.formatted("Retried concert");
+
+		String created = mockMvc.perform(post("/api/v1/events")
+						.with(jwt().jwt(token -> token.subject(organizerId.toString())))
+						.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "create-1")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(body))
+				.andExpect(status().isCreated())
+				.andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+				.andReturn().getResponse().getContentAsString();
+
+		mockMvc.perform(post("/api/v1/events")
+						.with(jwt().jwt(token -> token.subject(organizerId.toString())))
+						.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "create-1")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(body))
+				.andExpect(status().isCreated())
+				.andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+				.andExpect(result -> assertThat(result.getResponse().getContentAsString()).isEqualTo(created));
+
+		// Same key with another body is a client bug, not a retry
+		mockMvc.perform(post("/api/v1/events")
+						.with(jwt().jwt(token -> token.subject(organizerId.toString())))
+						.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "create-1")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(EVENT.formatted("Another concert")))
+				.andExpect(status().isUnprocessableEntity())
+				.andExpect(jsonPath("$.exception").value("IdempotencyKeyReused"));
+
+		// Keys belong to the user who sent them
+		mockMvc.perform(post("/api/v1/events")
+						.with(jwt().jwt(token -> token.subject(UUID.randomUUID().toString())))
+						.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "create-1")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(body))
+				.andExpect(status().isCreated())
+				.andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+		assertThat(eventRepository.countByOrganizerId(organizerId)).isEqualTo(1);
+	}
+
+	@Test
+	void concurrentDuplicatesRunOnce() throws Exception {
+		TicketType ticketType = publishedTicketType();
+		UUID purchaserId = UUID.randomUUID();
+		int requests = 8;
+
+		List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+		try (ExecutorService clients = Executors.newFixedThreadPool(requests)) {
+			for (int i = 0; i < requests; i++) {
+				Callable<MockHttpServletResponse> hold = () -> mockMvc.perform(post(
+								"/api/v1/events/{eventId}/ticket-types/{ticketTypeId}/holds",
+								ticketType.getEvent().getId(), ticketType.getId())
+								.with(jwt().jwt(token -> token.subject(purchaserId.toString())))
+								.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "hold-1"))
+						.andReturn().getResponse();
+				responses.add(clients.submit(hold));
+			}
+		}
+
+		String first = responses.get(0).get().getContentAsString();
+		int executed = 0;
+		for (Future<MockHttpServletResponse> response : responses) {
+			assertThat(response.get().getStatus()).isEqualTo(201);
+			assertThat(response.get().getContentAsString()).isEqualTo(first);
+			if (response.get().getHeader(IdempotencyFilter.REPLAYED_HEADER) == null) {
+				executed++;
+			}
+		}
+		assertThat(executed).isEqualTo(1);
+		assertThat(ticketTypeRepository.findById(ticketType.getId()).orElseThrow().getTotalHeld()).isEqualTo(1);
+	}
+
+	@Test
+	void invalidKeysAreRejected() throws Exception {
+		mockMvc.perform(post("/api/v1/events")
+						.with(jwt().jwt(token -> token.subject(UUID.randomUUID().toString())))
+						.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "x".repeat(256))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(EVENT.formatted("Too long")))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.exception").value("InvalidIdempotencyKey"));
+	}
+
+	@Test
+	void oversizeBodiesAreRejectedInsteadOfBuffered() throws Exception {
+		String name = "x".repeat((int) new IdempotencyProperties().getMaxBodySize().toBytes());
+		mockMvc.perform(post("/api/v1/events")
+						.with(jwt().jwt(token -> token.subject(UUID.randomUUID().toString())))
+						.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "too-large")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(EVENT.formatted(name)))
+				.andExpect(status().isPayloadTooLarge())
+				.andExpect(jsonPath("$.exception").value("IdempotentRequestTooLarge"));
+	}
+
+	@Test
+	void bufferedBodyCanBeReadWithAReadListener() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/events");
+		request.setContent("{\"name\":\"Async\"}".getBytes(StandardCharsets.UTF_8));
+		IdempotencyFilter.CachedBodyRequest cachedRequest =
+				new IdempotencyFilter.CachedBodyRequest(request, IdempotencyFilter.CachedBodyRequest.readBody(request, 1024));
+		ServletInputStream in = cachedRequest.getInputStream();
+		ByteArrayOutputStream read = new ByteArrayOutputStream();
+		AtomicBoolean allDataRead = new AtomicBoolean();
+		in.setReadListener(new ReadListener() {
+			@Override
+			public void onDataAvailable() throws IOException {
+				while (in.isReady() && !in.isFinished()) {
+					read.write(in.read());
+				}
+			}
+
+			@Override
+			public void onAllDataRead() {
+				allDataRead.set(true);
+			}
+
+			@Override
+			public void onError(Throwable t) {
+				throw new AssertionError(t);
+			}
+		});
+
+		assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"Async\"}");
+		assertThat(allDataRead).isTrue();
+
+		MockHttpServletRequest oversize = new MockHttpServletRequest("POST", "/api/v1/events");
+		oversize.setContent(new byte[5]);
+		assertThat(IdempotencyFilter.CachedBodyRequest.readBody(oversize, 4)).isNull();
+	}
+
+	@Test
+	void databaseStoreReplaysResponsesOtherNodesStored() {
+		IdempotencyProperties properties = new IdempotencyProperties();
+		properties.setTtl(Duration.ofMinutes(5));
+		String key = UUID.randomUUID() + ":db-1";
+		IdempotentResponse response = new IdempotentResponse("a".repeat(64), 201, "application/json", null, "{\"id\":1}".getBytes());
+
+		DatabaseIdempotencyStore node = new DatabaseIdempotencyStore(
+				new InMemoryIdempotencyStore(properties, new SimpleMeterRegistry()), idempotencyRecordRepository, properties);
+		DatabaseIdempotencyStore otherNode = new DatabaseIdempotencyStore(
+				new InMemoryIdempotencyStore(properties, new SimpleMeterRegistry()), idempotencyRecordRepository, properties);
+		node.save(key, response);
+		// The first response stored wins
+		otherNode.save(key, new IdempotentResponse("b".repeat(64), 201, "application/json", null, new byte[0]));
+
+		IdempotentResponse replayed = otherNode.find(key).orElseThrow();
+		assertThat(replayed.fingerprint()).isEqualTo(response.fingerprint());
+		assertThat(replayed.body()).isEqualTo(response.body());
+		assertThat(otherNode.find(UUID.randomUUID() + ":db-1")).isEmpty();
+	}
+
+	private TicketType publishedTicketType() {
+		User organizer = userRepository.save(User.builder().id(UUID.randomUUID()).name("promoter").email("promoter@example.com").build());
+		Event event = new Event();
+		event.setName("Held concert");
+		event.setVenue("Arena");
+		event.setStatus(EventStatusEnum.PUBLISHED);
+		event.setOrganizer(organizer);
+		TicketType ticketType = new TicketType();
+		ticketType.setName("General admission");
+		ticketType.setPrice(10.0);
+		ticketType.setTotalAvailable(100);
+		ticketType.setEvent(event);
+		event.getTicketTypes().add(ticketType);
+		return eventRepository.save(event).getTicketTypes().get(0);
+	}
+}
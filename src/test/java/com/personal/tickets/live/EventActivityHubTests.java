@@ -0,0 +1,151 @@
+package com.personal.tickets.live;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Entities.Ticket;
+import com.personal.tickets.domain.Entities.TicketType;
+import com.personal.tickets.domain.Entities.User;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+import com.personal.tickets.domain.Enums.TicketValidationMethod;
+import com.personal.tickets.repositories.EventRepository;
+import com.personal.tickets.repositories.UserRepository;
+import com.personal.tickets.services.TicketTypeService;
+import com.personal.tickets.services.TicketValidationService;
+
+// Publishing is driven by the test, so the coalescing window is exactly the gap between publish() calls
+@SpringBootTest(properties = {"tickets.live.publish-interval=1h", "tickets.live.refresh-interval=1h"})
+@AutoConfigureMockMvc
+class EventActivityHubTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EventActivityHub eventActivityHub;
+
+	@Autowired
+	private TicketTypeService ticketTypeService;
+
+	@Autowired
+	private TicketValidationService ticketValidationService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void changesAreCoalescedIntoOneMessagePerPublishForEverySubscriber() throws Exception {
+		User organizer = userRepository.save(User.builder().id(UUID.randomUUID()).name("live").email("live@example.com").build());
+		Event event = publishedEvent(organizer);
+		UUID ticketTypeId = event.getTicketTypes().get(0).getId();
+		MockHttpServletResponse first = subscribe(organizer, event);
+		MockHttpServletResponse second = subscribe(organizer, event);
+		List<JsonNode> initial = awaitMessages(first, messages -> messages.size() == 1);
+		assertThat(initial.get(0).get("ticketsSold").asLong()).isZero();
+		assertThat(eventActivityHub.subscriberCount(event.getId())).isEqualTo(2);
+
+		Ticket ticket = ticketTypeService.purchaseTicket(organizer.getId(), event.getId(), ticketTypeId);
+		ticketTypeService.purchaseTicket(organizer.getId(), event.getId(), ticketTypeId);
+		ticketTypeService.purchaseTicket(organizer.getId(), event.getId(), ticketTypeId);
+		ticketValidationService.validateTicket(organizer.getId(), ticket.getId(), TicketValidationMethod.MANUAL_SCAN);
+		eventActivityHub.publish();
+
+		for (MockHttpServletResponse response : List.of(first, second)) {
+			List<JsonNode> messages = awaitMessages(response, received -> received.size() == 2);
+			JsonNode update = messages.get(1);
+			assertThat(update.get("ticketsSold").asLong()).isEqualTo(3);
+			assertThat(update.get("ticketsSoldChange").asLong()).isEqualTo(3);
+			assertThat(update.get("ticketsCheckedIn").asLong()).isEqualTo(1);
+			assertThat(update.get("ticketsCheckedInChange").asLong()).isEqualTo(1);
+			assertThat(update.get("revenue").asDouble()).isEqualTo(30.0);
+		}
+
+		// Nothing changed, so nothing is sent
+		eventActivityHub.publish();
+		Thread.sleep(200);
+		assertThat(messages(first)).hasSize(2);
+	}
+
+	@Test
+	void anotherOrganizersEventIsNotStreamed() throws Exception {
+		User organizer = userRepository.save(User.builder().id(UUID.randomUUID()).name("owner").email("owner@example.com").build());
+		Event event = publishedEvent(organizer);
+
+		mockMvc.perform(get("/api/v1/events/{eventId}/stats/stream", event.getId())
+						.accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON)
+						.with(jwt().jwt(token -> token.subject(UUID.randomUUID().toString()))))
+				.andExpect(status().isNotFound());
+		assertThat(eventActivityHub.subscriberCount(event.getId())).isZero();
+	}
+
+	private MockHttpServletResponse subscribe(User organizer, Event event) throws Exception {
+		MvcResult result = mockMvc.perform(get("/api/v1/events/{eventId}/stats/stream", event.getId())
+						.accept(MediaType.TEXT_EVENT_STREAM)
+						.with(jwt().jwt(token -> token.subject(organizer.getId().toString()))))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		return result.getResponse();
+	}
+
+	private List<JsonNode> awaitMessages(MockHttpServletResponse response, Predicate<List<JsonNode>> done) throws Exception {
+		long deadline = System.currentTimeMillis() + 10_000;
+		List<JsonNode> messages = messages(response);
+		while (!done.test(messages) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+			messages = messages(response);
+		}
+		assertThat(done.test(messages)).as("messages %s", messages).isTrue();
+		return messages;
+	}
+
+	private List<JsonNode> messages(MockHttpServletResponse response) throws Exception {
+		List<JsonNode> messages = new ArrayList<>();
+		for (String line : response.getContentAsString().split("\n")) {
+			if (line.startsWith("data:")) {
+				messages.add(objectMapper.readTree(line.substring("data:".length())));
+			}
+		}
+		return messages;
+	}
+
+	private Event publishedEvent(User organizer) {
+		Event event = new Event();
+		event.setName("Live night");
+		event.setVenue("Arena");
+		event.setStatus(EventStatusEnum.PUBLISHED);
+		event.setOrganizer(organizer);
+		TicketType ticketType = new TicketType();
+		ticketType.setName("General admission");
+		ticketType.setPrice(10.0);
+		ticketType.setTotalAvailable(100);
+		ticketType.setEvent(event);
+		event.getTicketTypes().add(ticketType);
+		return eventRepository.save(event);
+	}
+}
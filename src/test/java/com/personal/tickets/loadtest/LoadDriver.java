@@ -0,0 +1,111 @@
+package com.personal.tickets.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.function.IntFunction;
+
+/**
+ * HTTP client side of the load scenarios: builds authenticated requests against one running instance and
+ * drives them from a fixed number of concurrent clients.
+ */
+final class LoadDriver {
+
+	private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+	private final int port;
+	private final int concurrency;
+
+	LoadDriver(int port, int concurrency) {
+		this.port = port;
+		this.concurrency = concurrency;
+	}
+
+	ScenarioResult run(String name, int requests, IntFunction<HttpRequest> requestFor, BiPredicate<Integer, String> accepted)
+			throws InterruptedException {
+		// Closed model: a fixed number of clients, each sending its next request as soon as the last one returns
+		long[] latencies = new long[requests];
+		AtomicInteger next = new AtomicInteger();
+		AtomicInteger errors = new AtomicInteger();
+		List<Callable<Void>> clients = new ArrayList<>();
+		for (int c = 0; c < concurrency; c++) {
+			clients.add(() -> {
+				for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+					HttpRequest request = requestFor.apply(i);
+					long start = System.nanoTime();
+					try {
+						HttpResponse<String> response = send(request);
+						latencies[i] = System.nanoTime() - start;
+						if (!accepted.test(response.statusCode(), response.body())) {
+							errors.incrementAndGet();
+						}
+					} catch (IOException e) {
+						latencies[i] = System.nanoTime() - start;
+						errors.incrementAndGet();
+					}
+				}
+				return null;
+			});
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+		long wallStart = System.nanoTime();
+		try {
+			executor.invokeAll(clients);
+		} finally {
+			executor.shutdown();
+		}
+		return new ScenarioResult(name, errors.get(), System.nanoTime() - wallStart, latencies);
+	}
+
+	HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+		return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	HttpRequest get(String path, String token) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+		if (token != null) {
+			builder.header("Authorization", "Bearer " + token);
+		}
+		return builder.build();
+	}
+
+	HttpRequest post(String path, String token, String json) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+				.header("Authorization", "Bearer " + token)
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json))
+				.build();
+	}
+
+	static String createEventJson(String name, Integer totalAvailable) {
+		return "{\"name\":\"" + name + "\",\"venue\":\"Load arena\",\"status\":\"PUBLISHED\","
+				+ "\"startDate\":\"2026-12-01T19:00:00\",\"endDate\":\"2026-12-01T23:00:00\","
+				+ "\"ticketTypes\":[{\"name\":\"General\",\"price\":30.0,\"description\":\"Standing\",\"totalAvailable\":"
+				+ totalAvailable + "},{\"name\":\"VIP\",\"price\":90.0,\"description\":\"Lounge\",\"totalAvailable\":null}]}";
+	}
+
+	/**
+	 * Prints the report and writes it to {@code target/<fileName>}.
+	 */
+	static void report(String heading, List<ScenarioResult> results, String fileName) throws IOException {
+		StringBuilder report = new StringBuilder()
+				.append(heading).append('\n')
+				.append(ScenarioResult.HEADER).append('\n');
+		results.forEach(result -> report.append(result.format()).append('\n'));
+		System.out.print(report);
+		Path target = Path.of("target");
+		Files.createDirectories(target);
+		Files.writeString(target.resolve(fileName), report);
+	}
+}
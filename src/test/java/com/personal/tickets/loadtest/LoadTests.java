@@ -0,0 +1,132 @@
+package com.personal.tickets.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tickets.domain.Projections.ScanIndexEntry;
+import com.personal.tickets.repositories.QrCodeRepository;
+
+/**
+ * End-to-end load scenarios against the real servlet stack: Tomcat on a random port, JWT validation through
+ * the issuer's JWK endpoint, and H2 in PostgreSQL mode. Excluded from the default build; run with
+ * {@code mvn -Pload-test test [-Dload.requests=5000 -Dload.concurrency=64]}. The report is printed and
+ * written to {@code target/load-test-report.txt}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LoadTests {
+
+	private static final int REQUESTS = Integer.getInteger("load.requests", 2000);
+	private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 32);
+	private static final int ORGANIZERS = 16;
+
+	private static LocalJwtIssuer issuer;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private QrCodeRepository qrCodeRepository;
+
+	@DynamicPropertySource
+	static void issuerUri(DynamicPropertyRegistry registry) throws IOException, NoSuchAlgorithmException {
+		issuer = LocalJwtIssuer.start();
+		registry.add("spring.security.oauth2.resourceserver.jwt.issuer-uri", issuer::issuer);
+	}
+
+	@AfterAll
+	static void stopIssuer() {
+		issuer.close();
+	}
+
+	@Test
+	void eventCreationCatalogPurchaseStormAndGateScans() throws Exception {
+		LoadDriver driver = new LoadDriver(port, CONCURRENCY);
+		List<ScenarioResult> results = new ArrayList<>();
+
+		List<String> organizerTokens = tokens(ORGANIZERS);
+		results.add(driver.run("event creation", REQUESTS, i -> driver.post(
+				"/api/v1/events", organizerTokens.get(i % ORGANIZERS), LoadDriver.createEventJson("Load arena night " + i, null)),
+				(status, body) -> status == 201));
+
+		List<String> terms = List.of("load", "arena", "night", "arena night", "1");
+		results.add(driver.run("catalog browsing", REQUESTS, i -> driver.get(
+				"/api/v1/published-events?q=" + terms.get(i % terms.size()).replace(" ", "+") + "&page=0&size=4", null),
+				(status, body) -> status == 200));
+
+		// Half as many tickets as buyers, so the storm runs into sold-out responses as it would on sale day
+		int capacity = REQUESTS / 2;
+		JsonNode stormEvent = objectMapper.readTree(driver.send(driver.post(
+				"/api/v1/events", organizerTokens.get(0), LoadDriver.createEventJson("Purchase storm", capacity))).body());
+		String purchasePath = "/api/v1/events/" + stormEvent.get("id").asText()
+				+ "/ticket-types/" + stormEvent.get("ticketTypes").get(0).get("id").asText() + "/tickets";
+		List<String> buyerTokens = tokens(REQUESTS);
+		AtomicInteger purchased = new AtomicInteger();
+		results.add(driver.run("purchase storm", REQUESTS, i -> driver.post(purchasePath, buyerTokens.get(i), ""),
+				(status, body) -> {
+					if (status == 204) {
+						purchased.incrementAndGet();
+					}
+					return status == 204 || status == 409;
+				}));
+		assertThat(purchased.get()).isEqualTo(capacity);
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM tickets t JOIN ticket_types tt ON tt.id = t.ticket_type_id WHERE tt.event_id = ?",
+				Long.class, UUID.fromString(stormEvent.get("id").asText()))).isEqualTo(capacity);
+
+		// Every code is scanned twice in shuffled order: exactly one scan per ticket may be let in
+		List<String> scans = new ArrayList<>();
+		for (ScanIndexEntry entry : qrCodeRepository.findScanIndexEntriesByEventId(UUID.fromString(stormEvent.get("id").asText()))) {
+			scans.add(entry.qrValue());
+			scans.add(entry.qrValue());
+		}
+		Collections.shuffle(scans);
+		String staffToken = organizerTokens.get(0);
+		AtomicInteger admitted = new AtomicInteger();
+		results.add(driver.run("gate-scan burst", scans.size(), i -> driver.post(
+				"/api/v1/ticket-validations", staffToken, "{\"id\":\"" + scans.get(i) + "\",\"method\":\"QR_SCAN\"}"),
+				(status, body) -> {
+					if (status == 200 && body.contains("\"VALID\"")) {
+						admitted.incrementAndGet();
+					}
+					return status == 200;
+				}));
+		assertThat(admitted.get()).isEqualTo(capacity);
+
+		LoadDriver.report("requests per scenario: " + REQUESTS + ", concurrent clients: " + CONCURRENCY, results, "load-test-report.txt");
+		assertThat(results).allSatisfy(result -> assertThat(result.errors()).as(result.name()).isZero());
+	}
+
+	private static List<String> tokens(int count) {
+		List<String> tokens = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			tokens.add(issuer.issueToken(UUID.randomUUID()));
+		}
+		return tokens;
+	}
+}
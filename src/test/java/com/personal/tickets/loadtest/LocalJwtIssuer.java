@@ -0,0 +1,107 @@
+package com.personal.tickets.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Stand-in for the Keycloak realm: serves OpenID discovery and a JWK set from an in-process HTTP server and
+ * signs RS256 tokens with the matching private key. The application validates them exactly as it would
+ * validate Keycloak tokens, including the issuer lookup.
+ */
+final class LocalJwtIssuer implements AutoCloseable {
+
+	private static final String REALM_PATH = "/realms/load-test";
+	private static final String KEY_ID = "load-test-key";
+
+	private final HttpServer server;
+	private final RSASSASigner signer;
+	private final String issuer;
+
+	private LocalJwtIssuer(HttpServer server, RSASSASigner signer, String issuer) {
+		this.server = server;
+		this.signer = signer;
+		this.issuer = issuer;
+	}
+
+	static LocalJwtIssuer start() throws IOException, NoSuchAlgorithmException {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		KeyPair keyPair = generator.generateKeyPair();
+		RSAKey publicJwk = new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
+				.keyID(KEY_ID)
+				.keyUse(KeyUse.SIGNATURE)
+				.algorithm(JWSAlgorithm.RS256)
+				.build();
+
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		String issuer = "http://127.0.0.1:" + server.getAddress().getPort() + REALM_PATH;
+		String discovery = "{\"issuer\":\"" + issuer + "\","
+				+ "\"jwks_uri\":\"" + issuer + "/protocol/openid-connect/certs\","
+				+ "\"subject_types_supported\":[\"public\"],"
+				+ "\"id_token_signing_alg_values_supported\":[\"RS256\"]}";
+		String jwks = new JWKSet(publicJwk).toString();
+		server.createContext(REALM_PATH + "/.well-known/openid-configuration", exchange -> respond(exchange, discovery));
+		server.createContext(REALM_PATH + "/protocol/openid-connect/certs", exchange -> respond(exchange, jwks));
+		server.start();
+		return new LocalJwtIssuer(server, new RSASSASigner(keyPair.getPrivate()), issuer);
+	}
+
+	String issuer() {
+		return issuer;
+	}
+
+	String issueToken(UUID userId) {
+		Instant now = Instant.now();
+		JWTClaimsSet claims = new JWTClaimsSet.Builder()
+				.issuer(issuer)
+				.subject(userId.toString())
+				.claim("name", "Load user " + userId.toString().substring(0, 8))
+				.claim("email", userId + "@load.test")
+				.issueTime(Date.from(now))
+				.expirationTime(Date.from(now.plus(Duration.ofHours(1))))
+				.build();
+		SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(KEY_ID).build(), claims);
+		try {
+			jwt.sign(signer);
+		} catch (JOSEException e) {
+			throw new IllegalStateException(e);
+		}
+		return jwt.serialize();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+
+	private static void respond(HttpExchange exchange, String json) throws IOException {
+		byte[] body = json.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package com.personal.tickets.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of one load scenario with its throughput and tail percentiles.
+ */
+record ScenarioResult(String name, int errors, long wallNanos, long[] latencyNanos) {
+
+	static final String HEADER = String.format("%-26s %8s %7s %10s %9s %9s %9s %9s",
+			"scenario", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+
+	ScenarioResult {
+		latencyNanos = latencyNanos.clone();
+		Arrays.sort(latencyNanos);
+	}
+
+	double throughput() {
+		return latencyNanos.length / (wallNanos / 1_000_000_000.0);
+	}
+
+	double percentileMillis(double percentile) {
+		if (latencyNanos.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile / 100.0 * latencyNanos.length) - 1;
+		return latencyNanos[Math.max(0, Math.min(index, latencyNanos.length - 1))] / 1_000_000.0;
+	}
+
+	String format() {
+		return String.format("%-26s %8d %7d %10.1f %9.2f %9.2f %9.2f %9.2f",
+				name, latencyNanos.length, errors, throughput(),
+				percentileMillis(50), percentileMillis(99), percentileMillis(99.9), percentileMillis(100));
+	}
+}
@@ -0,0 +1,104 @@
+package com.personal.tickets.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tickets.TicketsApplication;
+
+/**
+ * Runs the same blocking workload against the default platform-thread configuration and the virtual-threads
+ * profile, one after the other in this JVM, and reports both side by side. Clients outnumber Tomcat's 200
+ * platform threads, so the platform run queues requests on the connector while the virtual run queues them
+ * on the database semaphore. Only correctness is asserted; the numbers depend on the machine. Run with
+ * {@code mvn -Pload-test test -Dtest=ThreadingModelLoadTests [-Dload.requests=5000 -Dload.concurrency=400]};
+ * the report is written to {@code target/load-test-threading-report.txt}.
+ */
+@Tag("load")
+class ThreadingModelLoadTests {
+
+	private static final int REQUESTS = Integer.getInteger("load.requests", 2000);
+	private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 400);
+	private static final int ORGANIZERS = 16;
+
+	private static LocalJwtIssuer issuer;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@BeforeAll
+	static void startIssuer() throws Exception {
+		issuer = LocalJwtIssuer.start();
+	}
+
+	@AfterAll
+	static void stopIssuer() {
+		issuer.close();
+	}
+
+	@Test
+	void platformAndVirtualThreadsServeTheSameWorkload() throws Exception {
+		List<ScenarioResult> results = new ArrayList<>();
+		results.addAll(runWorkload("platform"));
+		results.addAll(runWorkload("virtual", "virtual-threads"));
+
+		LoadDriver.report("requests per scenario: " + REQUESTS + ", concurrent clients: " + CONCURRENCY,
+				results, "load-test-threading-report.txt");
+		assertThat(results).allSatisfy(result -> assertThat(result.errors()).as(result.name()).isZero());
+	}
+
+	private List<ScenarioResult> runWorkload(String mode, String... profiles) throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TicketsApplication.class)
+				.profiles(profiles)
+				// Arguments rather than default properties, so they win over application.properties
+				.run("--server.port=0", "--spring.security.oauth2.resourceserver.jwt.issuer-uri=" + issuer.issuer())) {
+			LoadDriver driver = new LoadDriver(((WebServerApplicationContext) context).getWebServer().getPort(), CONCURRENCY);
+			List<ScenarioResult> results = new ArrayList<>();
+
+			List<String> organizerTokens = tokens(ORGANIZERS);
+			for (String token : organizerTokens) {
+				driver.send(driver.post("/api/v1/events", token, LoadDriver.createEventJson(mode + " listing", null)));
+			}
+			results.add(driver.run(mode + ": organizer lists", REQUESTS, i -> driver.get(
+					"/api/v1/events?page=0&size=20", organizerTokens.get(i % ORGANIZERS)),
+					(status, body) -> status == 200));
+
+			int capacity = REQUESTS / 2;
+			JsonNode stormEvent = objectMapper.readTree(driver.send(driver.post(
+					"/api/v1/events", organizerTokens.get(0), LoadDriver.createEventJson(mode + " storm", capacity))).body());
+			String purchasePath = "/api/v1/events/" + stormEvent.get("id").asText()
+					+ "/ticket-types/" + stormEvent.get("ticketTypes").get(0).get("id").asText() + "/tickets";
+			List<String> buyerTokens = tokens(REQUESTS);
+			AtomicInteger purchased = new AtomicInteger();
+			results.add(driver.run(mode + ": purchase storm", REQUESTS, i -> driver.post(purchasePath, buyerTokens.get(i), ""),
+					(status, body) -> {
+						if (status == 204) {
+							purchased.incrementAndGet();
+						}
+						return status == 204 || status == 409;
+					}));
+			assertThat(purchased.get()).as(mode).isEqualTo(capacity);
+			return results;
+		}
+	}
+
+	private static List<String> tokens(int count) {
+		List<String> tokens = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			tokens.add(issuer.issueToken(UUID.randomUUID()));
+		}
+		return tokens;
+	}
+}
@@ -0,0 +1,150 @@
+package com.personal.tickets.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.personal.tickets.config.OutboxProperties;
+import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Entities.User;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+import com.personal.tickets.domain.Enums.OutboxChangeType;
+import com.personal.tickets.domain.Messages.OutboxMessage;
+import com.personal.tickets.domain.Requests.CreateEventRequest;
+import com.personal.tickets.domain.Requests.CreateTicketTypeRequest;
+import com.personal.tickets.repositories.OutboxEntryRepository;
+import com.personal.tickets.repositories.UserRepository;
+import com.personal.tickets.services.EventService;
+
+// Own database, so pruning here cannot remove entries that other cached test contexts are still reading
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:outbox;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1")
+class OutboxDispatcherTests {
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private Outbox outbox;
+
+	@Autowired
+	private OutboxEntryRepository outboxEntryRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private RecordingTransport recordingTransport;
+
+	@Test
+	void createdEventIsPublishedAfterCommitAndKeptForOtherNodes() throws InterruptedException {
+		User organizer = userRepository.save(User.builder().id(UUID.randomUUID()).name("outbox").email("outbox@example.com").build());
+		CreateEventRequest request = new CreateEventRequest();
+		request.setName("Outbox night");
+		request.setVenue("Hall");
+		request.setStatus(EventStatusEnum.PUBLISHED);
+		request.setTicketTypes(List.of(new CreateTicketTypeRequest("General", 10.0, null, 100)));
+
+		Event event = eventService.createEvent(organizer.getId(), request);
+
+		awaitDelivery(recordingTransport, event.getId());
+		assertThat(recordingTransport.deliveriesOf(event.getId()))
+				.singleElement()
+				.satisfies(message -> assertThat(message.changeType()).isEqualTo(OutboxChangeType.EVENT_CREATED));
+		assertThat(outboxEntryRepository.findAll()).anyMatch(entry -> entry.getAggregateId().equals(event.getId()));
+	}
+
+	@Test
+	void everyNodeReceivesEveryChangeUntilItIsPruned() throws InterruptedException {
+		UUID changed = UUID.randomUUID();
+		RecordingTransport otherNodeTransport = new RecordingTransport();
+		OutboxProperties otherNodeProperties = new OutboxProperties();
+		otherNodeProperties.setRetention(Duration.ZERO);
+		OutboxDispatcher otherNode = new OutboxDispatcher(
+				outboxEntryRepository, List.of(otherNodeTransport), transactionTemplate, otherNodeProperties, Executors.defaultThreadFactory());
+
+		transactionTemplate.executeWithoutResult(status -> outbox.record(OutboxChangeType.EVENT_CREATED, changed));
+		otherNode.poll();
+
+		awaitDelivery(recordingTransport, changed);
+		awaitDelivery(otherNodeTransport, changed);
+		assertThat(recordingTransport.deliveriesOf(changed)).hasSize(1);
+		assertThat(otherNodeTransport.deliveriesOf(changed)).hasSize(1);
+
+		// Polling again re-reads the settle window without publishing anything twice
+		otherNode.poll();
+		Thread.sleep(200);
+		assertThat(otherNodeTransport.deliveriesOf(changed)).hasSize(1);
+
+		otherNode.prune();
+		assertThat(outboxEntryRepository.findAll()).noneMatch(entry -> entry.getAggregateId().equals(changed));
+		otherNode.destroy();
+	}
+
+	@Test
+	void failedBatchIsRedeliveredAndRolledBackChangesAreNeverPublished() throws InterruptedException {
+		UUID committed = UUID.randomUUID();
+		UUID rolledBack = UUID.randomUUID();
+		recordingTransport.failNext.set(true);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			outbox.record(OutboxChangeType.EVENT_CREATED, rolledBack);
+			status.setRollbackOnly();
+		});
+		transactionTemplate.executeWithoutResult(status -> outbox.record(OutboxChangeType.EVENT_CREATED, committed));
+
+		// The first attempt fails inside the transport and is retried by the poller
+		awaitDelivery(recordingTransport, committed);
+		assertThat(recordingTransport.failNext.get()).isFalse();
+		assertThat(recordingTransport.deliveriesOf(committed)).hasSize(1);
+		assertThat(recordingTransport.deliveriesOf(rolledBack)).isEmpty();
+	}
+
+	private static void awaitDelivery(RecordingTransport transport, UUID aggregateId) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (transport.deliveriesOf(aggregateId).isEmpty() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+	}
+
+	@TestConfiguration
+	static class RecordingTransportConfiguration {
+
+		@Bean
+		RecordingTransport recordingTransport() {
+			return new RecordingTransport();
+		}
+	}
+
+	static class RecordingTransport implements OutboxTransport {
+
+		final AtomicBoolean failNext = new AtomicBoolean();
+		private final List<OutboxMessage> delivered = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void publish(List<OutboxMessage> messages) {
+			if (failNext.compareAndSet(true, false)) {
+				throw new IllegalStateException("transport unavailable");
+			}
+			delivered.addAll(messages);
+		}
+
+		List<OutboxMessage> deliveriesOf(UUID aggregateId) {
+			return delivered.stream().filter(message -> message.aggregateId().equals(aggregateId)).toList();
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.personal.tickets.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class ConcurrencyLimitedDataSourceTests {
+
+	private static final int POOL_SIZE = 4;
+	private static final int CONCURRENT_REQUESTS = 2_000;
+
+	private final HikariDataSource pool = pool();
+
+	@AfterEach
+	void closePool() {
+		pool.close();
+	}
+
+	@Test
+	void virtualThreadBurstQueuesOnTheSemaphoreWithoutFailures() throws InterruptedException {
+		ConcurrencyLimitedDataSource limited = new ConcurrencyLimitedDataSource(pool, POOL_SIZE, Duration.ofMinutes(1));
+
+		assertThat(runBurst(limited)).isZero();
+		assertThat(limited.availablePermits()).isEqualTo(POOL_SIZE);
+	}
+
+	// Every request holds its connection for a few milliseconds, returns the number of failed requests
+	private static int runBurst(DataSource dataSource) throws InterruptedException {
+		AtomicInteger failures = new AtomicInteger();
+		try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+				requests.submit(() -> {
+					try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+						statement.execute("SELECT 1");
+						Thread.sleep(5);
+					} catch (SQLException e) {
+						failures.incrementAndGet();
+					}
+					return null;
+				});
+			}
+		}
+		return failures.get();
+	}
+
+	private static HikariDataSource pool() {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setJdbcUrl("jdbc:h2:mem:limited;DB_CLOSE_DELAY=-1");
+		dataSource.setMaximumPoolSize(POOL_SIZE);
+		dataSource.setMinimumIdle(POOL_SIZE);
+		dataSource.setConnectionTimeout(250);
+		return dataSource;
+	}
+}
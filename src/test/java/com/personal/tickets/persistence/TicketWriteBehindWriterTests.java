@@ -0,0 +1,157 @@
+package com.personal.tickets.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Entities.QrCode;
+import com.personal.tickets.domain.Entities.Ticket;
+import com.personal.tickets.domain.Entities.TicketType;
+import com.personal.tickets.domain.Entities.User;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+import com.personal.tickets.domain.Enums.QrCodeStatusEnum;
+import com.personal.tickets.domain.Enums.TicketStatusEnum;
+import com.personal.tickets.repositories.EventRepository;
+import com.personal.tickets.repositories.TicketRepository;
+import com.personal.tickets.repositories.TicketTypeRepository;
+import com.personal.tickets.repositories.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TicketWriteBehindWriterTests {
+
+	private static final int PURCHASES = 2_000;
+	private static final int PRODUCERS = 32;
+
+	@Autowired
+	private TicketWriteBehindWriter ticketWriter;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private TicketTypeRepository ticketTypeRepository;
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private User purchaser;
+	private UUID eventId;
+	private UUID ticketTypeId;
+
+	@BeforeEach
+	void setUp() {
+		purchaser = userRepository.save(User.builder().id(UUID.randomUUID()).name("buyer").email("buyer@example.com").build());
+		Event event = new Event();
+		event.setName("Write-behind");
+		event.setVenue("Arena");
+		event.setStatus(EventStatusEnum.PUBLISHED);
+		event.setOrganizer(purchaser);
+		TicketType ticketType = new TicketType();
+		ticketType.setName("General admission");
+		ticketType.setPrice(10.0);
+		ticketType.setEvent(event);
+		event.getTicketTypes().add(ticketType);
+		Event saved = eventRepository.save(event);
+		eventId = saved.getId();
+		ticketTypeId = saved.getTicketTypes().get(0).getId();
+	}
+
+	@Test
+	void writeBehindGroupCommitsPurchasesFasterThanPerEntitySave() throws Exception {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		long ticketsBefore = ticketRepository.count();
+
+		statistics.clear();
+		long perEntityNanos = timeProducers(() -> {
+			transactionTemplate.executeWithoutResult(status -> {
+				Ticket ticket = new Ticket();
+				ticket.setStatus(TicketStatusEnum.PURCHASED);
+				ticket.setTicketType(ticketTypeRepository.getReferenceById(ticketTypeId));
+				ticket.setPurchaser(userRepository.getReferenceById(purchaser.getId()));
+				QrCode qrCode = new QrCode();
+				qrCode.setStatus(QrCodeStatusEnum.ACTIVE);
+				qrCode.setValue(UUID.randomUUID().toString());
+				qrCode.setTicket(ticket);
+				ticket.getQrCodes().add(qrCode);
+				ticketRepository.save(ticket);
+			});
+			return CompletableFuture.completedFuture(null);
+		});
+		long perEntityTransactions = statistics.getTransactionCount();
+
+		statistics.clear();
+		long writeBehindNanos = timeProducers(() -> ticketWriter.write(new PendingTicket(purchaser.getId(), eventId, ticketTypeId)));
+		long writeBehindTransactions = statistics.getTransactionCount();
+
+		log.info("per-entity save: {} inserts/s in {} transactions, write-behind: {} inserts/s in {} transactions",
+				PURCHASES * 1_000_000_000L / perEntityNanos, perEntityTransactions,
+				PURCHASES * 1_000_000_000L / writeBehindNanos, writeBehindTransactions);
+
+		assertThat(ticketRepository.count() - ticketsBefore).isEqualTo(2L * PURCHASES);
+		assertThat(perEntityTransactions).isGreaterThanOrEqualTo(PURCHASES);
+		assertThat(writeBehindTransactions).isLessThan(PURCHASES / 4);
+	}
+
+	@Test
+	void purchaseThatCannotClaimAUnitWritesNothing() {
+		TicketType ticketType = ticketTypeRepository.findById(ticketTypeId).orElseThrow();
+		ticketType.setTotalAvailable(1);
+		ticketTypeRepository.save(ticketType);
+		long ticketsBefore = ticketRepository.count();
+
+		Ticket sold = ticketWriter.write(new PendingTicket(purchaser.getId(), eventId, ticketTypeId)).join();
+		Ticket rejected = ticketWriter.write(new PendingTicket(purchaser.getId(), eventId, ticketTypeId)).join();
+
+		assertThat(sold).isNotNull();
+		assertThat(rejected).isNull();
+		assertThat(ticketRepository.count() - ticketsBefore).isEqualTo(1);
+		assertThat(ticketTypeRepository.findById(ticketTypeId).orElseThrow().getTotalSold()).isEqualTo(1);
+	}
+
+	private long timeProducers(PurchaseAction action) throws Exception {
+		List<Future<?>> futures = new ArrayList<>(PURCHASES);
+		long start = System.nanoTime();
+		try (ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS)) {
+			for (int i = 0; i < PURCHASES; i++) {
+				futures.add(producers.submit(() -> action.purchase().join()));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		return System.nanoTime() - start;
+	}
+
+	@FunctionalInterface
+	private interface PurchaseAction {
+		CompletableFuture<?> purchase();
+	}
+}
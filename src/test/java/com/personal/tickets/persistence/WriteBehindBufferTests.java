@@ -0,0 +1,57 @@
+package com.personal.tickets.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class WriteBehindBufferTests {
+
+	@Test
+	void interruptedFlusherStillWritesTheItemsItAlreadyTook() throws Exception {
+		AtomicReference<Thread> flusher = new AtomicReference<>();
+		try (WriteBehindBuffer<String, String> buffer = new WriteBehindBuffer<>(
+				"test",
+				16,
+				8,
+				TimeUnit.SECONDS.toNanos(30),
+				TimeUnit.SECONDS.toNanos(1),
+				1,
+				runnable -> {
+					Thread thread = new Thread(runnable);
+					flusher.set(thread);
+					return thread;
+				},
+				items -> items.stream().map(String::toUpperCase).toList())) {
+
+			CompletableFuture<String> written = buffer.submit("ticket");
+			// Wait until the flusher took the item and is waiting for stragglers
+			long deadline = System.currentTimeMillis() + 5_000;
+			while (buffer.size() > 0 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(5);
+			}
+			flusher.get().interrupt();
+
+			assertThat(written.get(5, TimeUnit.SECONDS)).isEqualTo("TICKET");
+			// The flusher keeps serving the buffer
+			assertThat(flusher.get().isAlive()).isTrue();
+		}
+	}
+
+	@Test
+	void closeFlushesEverythingQueued() {
+		WriteBehindBuffer<Integer, Integer> buffer = new WriteBehindBuffer<>(
+				"test", 64, 8, TimeUnit.MILLISECONDS.toNanos(5), TimeUnit.SECONDS.toNanos(1), 2, Thread::new,
+				items -> items.stream().map(item -> item * 2).toList());
+		List<CompletableFuture<Integer>> writes = IntStream.range(0, 50).mapToObj(buffer::submit).toList();
+
+		buffer.close();
+
+		assertThat(writes).allSatisfy(write -> assertThat(write).isCompleted());
+	}
+}
@@ -0,0 +1,148 @@
+package com.personal.tickets.qrcodes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.RGBLuminanceSource;
+import com.google.zxing.common.HybridBinarizer;
+import com.google.zxing.qrcode.QRCodeReader;
+import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Entities.Ticket;
+import com.personal.tickets.domain.Entities.TicketType;
+import com.personal.tickets.domain.Entities.User;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+import com.personal.tickets.repositories.EventRepository;
+import com.personal.tickets.repositories.TicketRepository;
+import com.personal.tickets.repositories.UserRepository;
+import com.personal.tickets.services.TicketTypeService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class QrCodeImageCacheTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private QrCodeImageCache qrCodeImageCache;
+
+	@Autowired
+	private TicketTypeService ticketTypeService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void rendersOnceAndAnswersRevalidationsWithNotModified() throws Exception {
+		User attendee = userRepository.save(User.builder().id(UUID.randomUUID()).name("holder").email("holder@example.com").build());
+		Event event = publishedEvent(attendee);
+		Ticket ticket = ticketTypeService.purchaseTicket(attendee.getId(), event.getId(), event.getTicketTypes().get(0).getId());
+		String qrValue = transactionTemplate.execute(status ->
+				ticketRepository.findById(ticket.getId()).orElseThrow().getQrCodes().get(0).getValue());
+
+		MvcResult first = mockMvc.perform(get("/api/v1/tickets/{ticketId}/qr-codes", ticket.getId())
+						.with(jwt().jwt(token -> token.subject(attendee.getId().toString()))))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType("image/png"))
+				.andExpect(header().string("Cache-Control", "max-age=300, private"))
+				.andReturn();
+		String etag = first.getResponse().getHeader("ETag");
+		assertThat(etag).startsWith("\"qr-");
+		assertThat(decode(first.getResponse().getContentAsByteArray())).isEqualTo(qrValue);
+
+		mockMvc.perform(get("/api/v1/tickets/{ticketId}/qr-codes", ticket.getId())
+						.header("If-None-Match", etag)
+						.with(jwt().jwt(token -> token.subject(attendee.getId().toString()))))
+				.andExpect(status().isNotModified());
+
+		mockMvc.perform(get("/api/v1/tickets/{ticketId}/qr-codes", ticket.getId())
+						.param("format", "SVG")
+						.with(jwt().jwt(token -> token.subject(attendee.getId().toString()))))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType("image/svg+xml"));
+
+		mockMvc.perform(get("/api/v1/tickets/{ticketId}/qr-codes", ticket.getId())
+						.with(jwt().jwt(token -> token.subject(UUID.randomUUID().toString()))))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void ticketsOfEventsOnSaleArePrerenderedByTheScheduledScan() throws Exception {
+		User attendee = userRepository.save(User.builder().id(UUID.randomUUID()).name("early").email("early@example.com").build());
+		Event event = publishedEvent(attendee);
+		UUID ticketTypeId = event.getTicketTypes().get(0).getId();
+		Ticket early = ticketTypeService.purchaseTicket(attendee.getId(), event.getId(), ticketTypeId);
+
+		qrCodeImageCache.prerenderEventsOnSale();
+		Ticket late = ticketTypeService.purchaseTicket(attendee.getId(), event.getId(), ticketTypeId);
+		qrCodeImageCache.prerenderEventsOnSale();
+
+		double missesBefore = misses();
+		for (Ticket ticket : new Ticket[] { early, late }) {
+			mockMvc.perform(get("/api/v1/tickets/{ticketId}/qr-codes", ticket.getId())
+							.with(jwt().jwt(token -> token.subject(attendee.getId().toString()))))
+					.andExpect(status().isOk());
+		}
+		assertThat(misses()).isEqualTo(missesBefore);
+	}
+
+	private double misses() {
+		return meterRegistry.get("cache.gets").tag("cache", "qr-code-images").tag("result", "miss").functionCounter().count();
+	}
+
+	private static String decode(byte[] png) throws Exception {
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+		int[] pixels = image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+		RGBLuminanceSource source = new RGBLuminanceSource(image.getWidth(), image.getHeight(), pixels);
+		return new QRCodeReader().decode(new BinaryBitmap(new HybridBinarizer(source))).getText();
+	}
+
+	private Event publishedEvent(User organizer) {
+		Event event = new Event();
+		event.setName("Rendered show");
+		event.setVenue("Hall");
+		event.setStatus(EventStatusEnum.PUBLISHED);
+		event.setSalesStartDate(LocalDateTime.now().minusHours(1));
+		event.setOrganizer(organizer);
+		TicketType ticketType = new TicketType();
+		ticketType.setName("Seated");
+		ticketType.setPrice(40.0);
+		ticketType.setEvent(event);
+		event.getTicketTypes().add(ticketType);
+		return eventRepository.save(event);
+	}
+}
@@ -0,0 +1,188 @@
+package com.personal.tickets.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.web.client.RestClient;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.personal.tickets.config.JwtDecoderProperties;
+import com.personal.tickets.config.SecurityConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwkSetCacheTests {
+
+	private final AtomicReference<String> servedKeys = new AtomicReference<>();
+	private final AtomicInteger keyFetches = new AtomicInteger();
+	private volatile CountDownLatch keyFetchGate = new CountDownLatch(0);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ExecutorService identityProviderThreads = Executors.newCachedThreadPool();
+	private HttpServer server;
+	private String issuer;
+	private JwkSetCache jwkSetCache;
+	private JwtDecoder jwtDecoder;
+
+	@BeforeEach
+	void startIdentityProvider() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		issuer = "http://127.0.0.1:" + server.getAddress().getPort() + "/realms/test";
+		server.createContext("/realms/test/.well-known/openid-configuration",
+				exchange -> respond(exchange, "{\"issuer\":\"" + issuer + "\",\"jwks_uri\":\"" + issuer + "/certs\"}"));
+		server.createContext("/realms/test/certs", exchange -> {
+			keyFetches.incrementAndGet();
+			try {
+				keyFetchGate.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			respond(exchange, servedKeys.get());
+		});
+		server.setExecutor(identityProviderThreads);
+		server.start();
+
+		OAuth2ResourceServerProperties resourceServerProperties = new OAuth2ResourceServerProperties();
+		resourceServerProperties.getJwt().setIssuerUri(issuer);
+		JwtDecoderProperties jwtDecoderProperties = new JwtDecoderProperties();
+		jwtDecoderProperties.setJwkMinRefreshInterval(Duration.ofHours(1));
+		jwkSetCache = new JwkSetCache(RestClient.builder(), resourceServerProperties, jwtDecoderProperties);
+		jwtDecoder = new SecurityConfig().jwtDecoder(jwkSetCache, resourceServerProperties, jwtDecoderProperties, meterRegistry);
+	}
+
+	@AfterEach
+	void stopIdentityProvider() {
+		server.stop(0);
+		identityProviderThreads.shutdownNow();
+	}
+
+	@Test
+	void keysAreFetchedOnceAtStartupAndRepeatTokensSkipVerification() throws Exception {
+		RSAKey key = rsaKey("key-1");
+		servedKeys.set(new JWKSet(key.toPublicJWK()).toString());
+		jwkSetCache.prefetch();
+		String token = sign(key, "alice");
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(jwtDecoder.decode(token).getSubject()).isEqualTo("alice");
+		}
+		assertThat(jwtDecoder.decode(sign(key, "bob")).getSubject()).isEqualTo("bob");
+
+		assertThat(keyFetches.get()).isEqualTo(1);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "verified-tokens").tag("result", "hit")
+				.functionCounter().count()).isEqualTo(9);
+		assertThatThrownBy(() -> jwtDecoder.decode(sign(rsaKey("key-1"), "mallory"))).isInstanceOf(JwtException.class);
+	}
+
+	@Test
+	void unknownKeyTriggersOneRateLimitedRefetch() throws Exception {
+		RSAKey oldKey = rsaKey("key-1");
+		RSAKey rotatedKey = rsaKey("key-2");
+		servedKeys.set(new JWKSet(oldKey.toPublicJWK()).toString());
+		jwkSetCache.prefetch();
+
+		servedKeys.set(new JWKSet(rotatedKey.toPublicJWK()).toString());
+		assertThat(jwtDecoder.decode(sign(rotatedKey, "alice")).getSubject()).isEqualTo("alice");
+		assertThat(keyFetches.get()).isEqualTo(2);
+
+		// Within the minimum refresh interval a forged kid cannot make us hammer the identity provider
+		assertThatThrownBy(() -> jwtDecoder.decode(sign(rsaKey("key-3"), "mallory"))).isInstanceOf(JwtException.class);
+		assertThat(keyFetches.get()).isEqualTo(2);
+	}
+
+	@Test
+	void concurrentLookupsOfARotatedKeyShareOneFetch() throws Exception {
+		RSAKey oldKey = rsaKey("key-1");
+		RSAKey rotatedKey = rsaKey("key-2");
+		servedKeys.set(new JWKSet(oldKey.toPublicJWK()).toString());
+		jwkSetCache.prefetch();
+
+		servedKeys.set(new JWKSet(rotatedKey.toPublicJWK()).toString());
+		keyFetchGate = new CountDownLatch(1);
+		List<Future<String>> decoded = new ArrayList<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < 20; i++) {
+				String token = sign(rotatedKey, "user-" + i);
+				decoded.add(executor.submit(() -> jwtDecoder.decode(token).getSubject()));
+			}
+			// Scheduled refreshes join the fetch in flight as well
+			Future<Boolean> scheduled = executor.submit(() -> jwkSetCache.refresh());
+			Thread.sleep(200);
+			keyFetchGate.countDown();
+			assertThat(scheduled.get(5, TimeUnit.SECONDS)).isTrue();
+			for (int i = 0; i < decoded.size(); i++) {
+				assertThat(decoded.get(i).get(5, TimeUnit.SECONDS)).isEqualTo("user-" + i);
+			}
+		}
+		assertThat(keyFetches.get()).isEqualTo(2);
+	}
+
+	private String sign(RSAKey key, String subject) throws JOSEException {
+		Instant now = Instant.now();
+		SignedJWT jwt = new SignedJWT(
+				new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+				new JWTClaimsSet.Builder()
+						.issuer(issuer)
+						.subject(subject)
+						.issueTime(Date.from(now))
+						.expirationTime(Date.from(now.plus(Duration.ofMinutes(5))))
+						.build());
+		jwt.sign(new RSASSASigner(key));
+		return jwt.serialize();
+	}
+
+	private static RSAKey rsaKey(String keyId) throws NoSuchAlgorithmException {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		KeyPair keyPair = generator.generateKeyPair();
+		return new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
+				.privateKey((RSAPrivateKey) keyPair.getPrivate())
+				.keyID(keyId)
+				.build();
+	}
+
+	private static void respond(HttpExchange exchange, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.personal.tickets.services.implementation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.personal.tickets.domain.Entities.User;
+import com.personal.tickets.domain.Enums.BulkItemStatus;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+import com.personal.tickets.domain.Requests.CreateEventRequest;
+import com.personal.tickets.domain.Requests.CreateTicketTypeRequest;
+import com.personal.tickets.domain.Results.EventCreationResult;
+import com.personal.tickets.metrics.QueryCounter;
+import com.personal.tickets.repositories.EventRepository;
+import com.personal.tickets.repositories.UserRepository;
+import com.personal.tickets.services.EventService;
+
+@SpringBootTest
+class EventServiceImplementationTests {
+
+	private static final int EVENTS = 120;
+	private static final int TICKET_TYPES_PER_EVENT = 3;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Test
+	void bulkCreateStoresEveryEventInBatchedChunks() {
+		User organizer = userRepository.save(User.builder().id(UUID.randomUUID()).name("promoter").email("promoter@example.com").build());
+		List<CreateEventRequest> requests = IntStream.range(0, EVENTS).mapToObj(i -> eventRequest("Season night " + i)).toList();
+
+		long before = QueryCounter.current();
+		List<EventCreationResult> results = eventService.createEvents(organizer.getId(), requests);
+		long statements = QueryCounter.current() - before;
+
+		assertThat(results).hasSize(EVENTS).allMatch(result -> result.status() == BulkItemStatus.CREATED && result.eventId() != null);
+		assertThat(results).extracting(EventCreationResult::index).containsExactlyElementsOf(IntStream.range(0, EVENTS).boxed().toList());
+		assertThat(eventRepository.countByOrganizerId(organizer.getId())).isEqualTo(EVENTS);
+		// 120 events, 360 ticket types and 120 outbox entries; batched, that is a handful of statements per chunk
+		assertThat(statements).isLessThan(40);
+	}
+
+	@Test
+	void failedEventIsReportedWithoutLosingTheRestOfItsChunk() {
+		User organizer = userRepository.save(User.builder().id(UUID.randomUUID()).name("importer").email("importer@example.com").build());
+		List<CreateEventRequest> requests = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			// Passes request validation but not the column length
+			requests.add(eventRequest(i == 2 ? "x".repeat(300) : "Import night " + i));
+		}
+
+		List<EventCreationResult> results = eventService.createEvents(organizer.getId(), requests);
+
+		assertThat(results).extracting(EventCreationResult::index).containsExactly(0, 1, 2, 3, 4);
+		assertThat(results).extracting(EventCreationResult::status).containsExactly(
+				BulkItemStatus.CREATED, BulkItemStatus.CREATED, BulkItemStatus.FAILED, BulkItemStatus.CREATED, BulkItemStatus.CREATED);
+		assertThat(results.get(2).error())
+				.isEqualTo("The event violates a data constraint, e.g. a value is too long")
+				.doesNotContainIgnoringCase("events");
+		assertThat(results.get(2).eventId()).isNull();
+		assertThat(eventRepository.countByOrganizerId(organizer.getId())).isEqualTo(4);
+	}
+
+	private CreateEventRequest eventRequest(String name) {
+		CreateEventRequest request = new CreateEventRequest();
+		request.setName(name);
+		request.setVenue("Stadium");
+		request.setStatus(EventStatusEnum.DRAFT);
+		for (int i = 0; i < TICKET_TYPES_PER_EVENT; i++) {
+			request.getTicketTypes().add(new CreateTicketTypeRequest("Tier " + i, 10.0 * (i + 1), null, 100));
+		}
+		return request;
+	}
+}
@@ -0,0 +1,123 @@
+package com.personal.tickets.services.implementation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Entities.EventCheckInStats;
+import com.personal.tickets.domain.Entities.Ticket;
+import com.personal.tickets.domain.Entities.TicketType;
+import com.personal.tickets.domain.Entities.User;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+import com.personal.tickets.domain.Enums.TicketValidationStatusEnum;
+import com.personal.tickets.domain.Enums.TicketValidationMethod;
+import com.personal.tickets.domain.Results.EventStats;
+import com.personal.tickets.exceptions.EventNotFoundException;
+import com.personal.tickets.metrics.QueryCounter;
+import com.personal.tickets.repositories.EventCheckInStatsRepository;
+import com.personal.tickets.repositories.EventRepository;
+import com.personal.tickets.repositories.UserRepository;
+import com.personal.tickets.services.EventStatsService;
+import com.personal.tickets.services.TicketTypeService;
+import com.personal.tickets.services.TicketValidationService;
+import com.personal.tickets.stats.CheckInCounters;
+
+@SpringBootTest
+class EventStatsServiceImplementationTests {
+
+	@Autowired
+	private EventStatsService eventStatsService;
+
+	@Autowired
+	private TicketTypeService ticketTypeService;
+
+	@Autowired
+	private TicketValidationService ticketValidationService;
+
+	@Autowired
+	private CheckInCounters checkInCounters;
+
+	@Autowired
+	private EventCheckInStatsRepository eventCheckInStatsRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Test
+	void statsFollowPurchasesHoldsAndScansWithoutAggregatingTickets() {
+		User organizer = userRepository.save(User.builder().id(UUID.randomUUID()).name("dashboard").email("dashboard@example.com").build());
+		Event event = publishedEvent(organizer);
+		UUID standing = event.getTicketTypes().get(0).getId();
+		UUID seated = event.getTicketTypes().get(1).getId();
+		Ticket first = ticketTypeService.purchaseTicket(organizer.getId(), event.getId(), standing);
+		Ticket second = ticketTypeService.purchaseTicket(organizer.getId(), event.getId(), standing);
+		ticketTypeService.purchaseTicket(organizer.getId(), event.getId(), standing);
+		ticketTypeService.purchaseTicket(organizer.getId(), event.getId(), seated);
+		ticketTypeService.holdTickets(organizer.getId(), event.getId(), seated, 2);
+		ticketValidationService.validateTicket(organizer.getId(), first.getId(), TicketValidationMethod.MANUAL_SCAN);
+		ticketValidationService.validateTicket(organizer.getId(), first.getId(), TicketValidationMethod.MANUAL_SCAN);
+		ticketValidationService.validateTicket(organizer.getId(), second.getId(), TicketValidationMethod.MANUAL_SCAN);
+
+		long before = QueryCounter.current();
+		EventStats stats = eventStatsService.getEventStatsForOrganizer(organizer.getId(), event.getId());
+		long statements = QueryCounter.current() - before;
+
+		assertThat(stats.ticketsSold()).isEqualTo(4);
+		assertThat(stats.ticketsHeld()).isEqualTo(2);
+		assertThat(stats.revenue()).isEqualTo(3 * 10.0 + 25.0);
+		assertThat(stats.ticketsCheckedIn()).isEqualTo(2);
+		assertThat(stats.scansRejected()).isEqualTo(1);
+		assertThat(stats.ticketTypes()).extracting(sales -> sales.totalSold()).containsExactly(3, 1);
+		// Ticket type counters and the check-in summary row
+		assertThat(statements).isLessThanOrEqualTo(2);
+
+		// Flushing moves the counts into the summary row without counting them twice
+		checkInCounters.flush();
+		EventCheckInStats row = eventCheckInStatsRepository.findById(event.getId()).orElseThrow();
+		assertThat(row.getTicketsCheckedIn()).isEqualTo(2);
+		assertThat(row.getScansRejected()).isEqualTo(1);
+		EventStats afterFlush = eventStatsService.getEventStatsForOrganizer(organizer.getId(), event.getId());
+		assertThat(afterFlush.ticketsCheckedIn()).isEqualTo(2);
+		assertThat(afterFlush.scansRejected()).isEqualTo(1);
+
+		// A flush with nothing new drops the event from memory; later scans start a fresh count
+		checkInCounters.flush();
+		assertThat(checkInCounters.checkIns(event.getId())).isEqualTo(new CheckInCounters.CheckIns(2, 1));
+		checkInCounters.scanned(event.getId(), TicketValidationStatusEnum.VALID);
+		assertThat(checkInCounters.checkIns(event.getId())).isEqualTo(new CheckInCounters.CheckIns(3, 1));
+		checkInCounters.flush();
+		assertThat(eventCheckInStatsRepository.findById(event.getId()).orElseThrow().getTicketsCheckedIn()).isEqualTo(3);
+
+		assertThatThrownBy(() -> eventStatsService.getEventStatsForOrganizer(UUID.randomUUID(), event.getId()))
+				.isInstanceOf(EventNotFoundException.class);
+	}
+
+	private Event publishedEvent(User organizer) {
+		Event event = new Event();
+		event.setName("Dashboard night");
+		event.setVenue("Arena");
+		event.setStatus(EventStatusEnum.PUBLISHED);
+		event.setOrganizer(organizer);
+		event.getTicketTypes().add(ticketType(event, "Standing", 10.0));
+		event.getTicketTypes().add(ticketType(event, "Seated", 25.0));
+		return eventRepository.save(event);
+	}
+
+	private TicketType ticketType(Event event, String name, double price) {
+		TicketType ticketType = new TicketType();
+		ticketType.setName(name);
+		ticketType.setPrice(price);
+		ticketType.setTotalAvailable(10);
+		ticketType.setEvent(event);
+		return ticketType;
+	}
+}
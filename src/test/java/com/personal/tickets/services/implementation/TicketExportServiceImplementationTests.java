@@ -0,0 +1,168 @@
+package com.personal.tickets.services.implementation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Entities.TicketType;
+import com.personal.tickets.domain.Entities.User;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+import com.personal.tickets.domain.Enums.TicketExportFormat;
+import com.personal.tickets.repositories.EventRepository;
+import com.personal.tickets.repositories.UserRepository;
+import com.personal.tickets.services.TicketExportService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TicketExportServiceImplementationTests {
+
+	private static final int TICKETS = 20_000;
+
+	@Autowired
+	private TicketExportService ticketExportService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void streamsEveryTicketWithItsLatestValidation() throws IOException {
+		User organizer = userRepository.save(User.builder().id(UUID.randomUUID()).name("Exporter, Inc").email("export@example.com").build());
+		Event event = eventWithTickets(organizer);
+		UUID scannedTicketId = jdbcTemplate.queryForObject(
+				"SELECT id FROM tickets WHERE ticket_type_id = ? ORDER BY id LIMIT 1", UUID.class, event.getTicketTypes().get(0).getId());
+		LocalDateTime doorsOpen = LocalDateTime.of(2026, 6, 1, 19, 0);
+		insertValidation(scannedTicketId, "VALID", doorsOpen);
+		insertValidation(scannedTicketId, "INVALID", doorsOpen.plusMinutes(1));
+
+		CountingOutputStream csv = new CountingOutputStream();
+		assertThat(ticketExportService.exportTickets(event.getId(), TicketExportFormat.CSV, csv)).isEqualTo(TICKETS);
+		assertThat(csv.lines).isEqualTo(TICKETS + 1);
+
+		ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+		ticketExportService.exportTickets(event.getId(), TicketExportFormat.NDJSON, ndjson);
+		List<JsonNode> scanned = new ArrayList<>();
+		for (String line : ndjson.toString(StandardCharsets.UTF_8).split("\n")) {
+			JsonNode row = objectMapper.readTree(line);
+			if (row.get("ticketId").asText().equals(scannedTicketId.toString())) {
+				scanned.add(row);
+			}
+		}
+		assertThat(scanned).hasSize(1);
+		assertThat(scanned.get(0).get("validationStatus").asText()).isEqualTo("INVALID");
+		assertThat(scanned.get(0).get("purchaserName").asText()).isEqualTo("Exporter, Inc");
+	}
+
+	@Test
+	void endpointGzipsForOrganizerAndHidesOtherEvents() throws Exception {
+		User organizer = userRepository.save(User.builder().id(UUID.randomUUID()).name("organizer").email("organizer@example.com").build());
+		Event event = eventWithTickets(organizer);
+
+		MvcResult pending = mockMvc.perform(get("/api/v1/events/{eventId}/tickets/export", event.getId())
+						.header("Accept-Encoding", "gzip")
+						.with(jwt().jwt(token -> token.subject(organizer.getId().toString()))))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		MvcResult result = mockMvc.perform(asyncDispatch(pending))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Encoding", "gzip"))
+				.andReturn();
+		String csv = new String(new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray())).readAllBytes(), StandardCharsets.UTF_8);
+		assertThat(csv.split("\n")).hasSize(TICKETS + 1);
+
+		// gzip is refused with q=0, so the export is sent as is
+		MvcResult refused = mockMvc.perform(get("/api/v1/events/{eventId}/tickets/export", event.getId())
+						.header("Accept-Encoding", "gzip;q=0, identity")
+						.with(jwt().jwt(token -> token.subject(organizer.getId().toString()))))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		MvcResult plain = mockMvc.perform(asyncDispatch(refused))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist("Content-Encoding"))
+				.andReturn();
+		assertThat(plain.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n")).hasSize(TICKETS + 1);
+
+		mockMvc.perform(get("/api/v1/events/{eventId}/tickets/export", event.getId())
+						.with(jwt().jwt(token -> token.subject(UUID.randomUUID().toString()))))
+				.andExpect(status().isNotFound());
+	}
+
+	private Event eventWithTickets(User organizer) {
+		Event event = new Event();
+		event.setName("Sold out stadium");
+		event.setVenue("Stadium");
+		event.setStatus(EventStatusEnum.PUBLISHED);
+		event.setOrganizer(organizer);
+		TicketType ticketType = new TicketType();
+		ticketType.setName("Standing");
+		ticketType.setPrice(25.0);
+		ticketType.setEvent(event);
+		event.getTicketTypes().add(ticketType);
+		event = eventRepository.save(event);
+
+		UUID ticketTypeId = event.getTicketTypes().get(0).getId();
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> tickets = new ArrayList<>(TICKETS);
+		for (int i = 0; i < TICKETS; i++) {
+			tickets.add(new Object[] {UUID.randomUUID(), "PURCHASED", ticketTypeId, organizer.getId(), now, now});
+		}
+		jdbcTemplate.batchUpdate(
+				"INSERT INTO tickets (id, status, ticket_type_id, purchaser_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", tickets);
+		return event;
+	}
+
+	private void insertValidation(UUID ticketId, String status, LocalDateTime at) {
+		jdbcTemplate.update(
+				"INSERT INTO ticket_validations (id, status, validation_method, ticket_id, created_at, updated_at) VALUES (?, ?, 'QR_SCAN', ?, ?, ?)",
+				UUID.randomUUID(), status, ticketId, Timestamp.valueOf(at), Timestamp.valueOf(at));
+	}
+
+	private static final class CountingOutputStream extends OutputStream {
+		private long lines;
+
+		@Override
+		public void write(int b) {
+			if (b == '\n') {
+				lines++;
+			}
+		}
+	}
+}
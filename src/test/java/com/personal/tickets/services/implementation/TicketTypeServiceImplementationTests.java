@@ -0,0 +1,193 @@
+package com.personal.tickets.services.implementation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Entities.Ticket;
+import com.personal.tickets.domain.Entities.TicketHold;
+import com.personal.tickets.domain.Entities.TicketType;
+import com.personal.tickets.domain.Entities.User;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+import com.personal.tickets.exceptions.TicketHoldNotFoundException;
+import com.personal.tickets.exceptions.TicketsSoldOutException;
+import com.personal.tickets.live.EventActivityHub;
+import com.personal.tickets.repositories.EventRepository;
+import com.personal.tickets.repositories.TicketHoldRepository;
+import com.personal.tickets.repositories.TicketRepository;
+import com.personal.tickets.repositories.TicketTypeRepository;
+import com.personal.tickets.repositories.UserRepository;
+import com.personal.tickets.services.TicketTypeService;
+
+@SpringBootTest
+class TicketTypeServiceImplementationTests {
+
+	private static final int CAPACITY = 100;
+	private static final int BUYERS = 600;
+
+	@Autowired
+	private TicketTypeService ticketTypeService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private TicketTypeRepository ticketTypeRepository;
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private TicketHoldRepository ticketHoldRepository;
+
+	@MockitoSpyBean
+	private EventActivityHub eventActivityHub;
+
+	@Test
+	void purchaseNeverOversellsUnderParallelBuyers() throws InterruptedException {
+		User buyer = userRepository.save(User.builder().id(UUID.randomUUID()).name("buyer").email("buyer@example.com").build());
+		Event event = new Event();
+		event.setName("On-sale spike");
+		event.setVenue("Arena");
+		event.setStatus(EventStatusEnum.PUBLISHED);
+		event.setOrganizer(buyer);
+		TicketType ticketType = new TicketType();
+		ticketType.setName("General admission");
+		ticketType.setPrice(10.0);
+		ticketType.setTotalAvailable(CAPACITY);
+		ticketType.setEvent(event);
+		event.getTicketTypes().add(ticketType);
+		event = eventRepository.save(event);
+		UUID eventId = event.getId();
+		UUID ticketTypeId = event.getTicketTypes().get(0).getId();
+		long ticketsBefore = ticketRepository.count();
+
+		AtomicInteger sold = new AtomicInteger();
+		AtomicInteger soldOut = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		try (ExecutorService buyers = Executors.newFixedThreadPool(64)) {
+			for (int i = 0; i < BUYERS; i++) {
+				buyers.submit(() -> {
+					start.await();
+					try {
+						ticketTypeService.purchaseTicket(buyer.getId(), eventId, ticketTypeId);
+						sold.incrementAndGet();
+					} catch (TicketsSoldOutException e) {
+						soldOut.incrementAndGet();
+					}
+					return null;
+				});
+			}
+			start.countDown();
+			buyers.shutdown();
+			assertThat(buyers.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+		}
+
+		assertThat(sold.get()).isEqualTo(CAPACITY);
+		assertThat(soldOut.get()).isEqualTo(BUYERS - CAPACITY);
+		assertThat(ticketRepository.count() - ticketsBefore).isEqualTo(CAPACITY);
+		assertThat(ticketTypeRepository.findById(ticketTypeId).orElseThrow().getTotalSold()).isEqualTo(CAPACITY);
+	}
+
+	@Test
+	void heldUnitsAreReservedUntilTheHoldIsPurchased() {
+		User buyer = userRepository.save(User.builder().id(UUID.randomUUID()).name("holder").email("holder@example.com").build());
+		Event event = publishedEvent(buyer, 3);
+		UUID ticketTypeId = event.getTicketTypes().get(0).getId();
+
+		TicketHold hold = ticketTypeService.holdTickets(buyer.getId(), event.getId(), ticketTypeId, 2);
+		ticketTypeService.purchaseTicket(buyer.getId(), event.getId(), ticketTypeId);
+
+		assertThatThrownBy(() -> ticketTypeService.purchaseTicket(buyer.getId(), event.getId(), ticketTypeId))
+				.isInstanceOf(TicketsSoldOutException.class);
+		assertThatThrownBy(() -> ticketTypeService.purchaseHeldTickets(UUID.randomUUID(), hold.getId()))
+				.isInstanceOf(TicketHoldNotFoundException.class);
+
+		clearInvocations(eventActivityHub);
+		List<Ticket> tickets = ticketTypeService.purchaseHeldTickets(buyer.getId(), hold.getId());
+
+		assertThat(tickets).hasSize(2);
+		verify(eventActivityHub).changed(event.getId());
+		TicketType ticketType = ticketTypeRepository.findById(ticketTypeId).orElseThrow();
+		assertThat(ticketType.getTotalSold()).isEqualTo(3);
+		assertThat(ticketType.getTotalHeld()).isZero();
+		assertThatThrownBy(() -> ticketTypeService.purchaseHeldTickets(buyer.getId(), hold.getId()))
+				.isInstanceOf(TicketHoldNotFoundException.class);
+	}
+
+	@Test
+	void releasedHoldReturnsItsUnitsAndUpdatesDashboards() {
+		User buyer = userRepository.save(User.builder().id(UUID.randomUUID()).name("undecided").email("undecided@example.com").build());
+		Event event = publishedEvent(buyer, 2);
+		UUID ticketTypeId = event.getTicketTypes().get(0).getId();
+		TicketHold hold = ticketTypeService.holdTickets(buyer.getId(), event.getId(), ticketTypeId, 2);
+
+		clearInvocations(eventActivityHub);
+		ticketTypeService.releaseHold(buyer.getId(), hold.getId());
+
+		verify(eventActivityHub).changed(event.getId());
+		assertThat(ticketTypeRepository.findById(ticketTypeId).orElseThrow().getTotalHeld()).isZero();
+		assertThatThrownBy(() -> ticketTypeService.releaseHold(buyer.getId(), hold.getId()))
+				.isInstanceOf(TicketHoldNotFoundException.class);
+	}
+
+	@Test
+	void expiredHoldReturnsItsUnitsWithinASecond() throws InterruptedException {
+		User buyer = userRepository.save(User.builder().id(UUID.randomUUID()).name("late").email("late@example.com").build());
+		Event event = publishedEvent(buyer, 1);
+		UUID ticketTypeId = event.getTicketTypes().get(0).getId();
+		TicketHold hold = ticketTypeService.holdTickets(buyer.getId(), event.getId(), ticketTypeId, 1);
+		assertThatThrownBy(() -> ticketTypeService.purchaseTicket(buyer.getId(), event.getId(), ticketTypeId))
+				.isInstanceOf(TicketsSoldOutException.class);
+
+		TicketHold expired = ticketHoldRepository.findById(hold.getId()).orElseThrow();
+		expired.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+		ticketHoldRepository.save(expired);
+
+		// Released by the scheduled sweeper, not by the test
+		long deadline = System.currentTimeMillis() + 1_000;
+		while (ticketTypeRepository.findById(ticketTypeId).orElseThrow().getTotalHeld() > 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(ticketTypeRepository.findById(ticketTypeId).orElseThrow().getTotalHeld()).isZero();
+		assertThat(ticketHoldRepository.findById(hold.getId())).isEmpty();
+		assertThatThrownBy(() -> ticketTypeService.purchaseHeldTickets(buyer.getId(), hold.getId()))
+				.isInstanceOf(TicketHoldNotFoundException.class);
+		ticketTypeService.purchaseTicket(buyer.getId(), event.getId(), ticketTypeId);
+	}
+
+	private Event publishedEvent(User organizer, int capacity) {
+		Event event = new Event();
+		event.setName("Checkout");
+		event.setVenue("Arena");
+		event.setStatus(EventStatusEnum.PUBLISHED);
+		event.setOrganizer(organizer);
+		TicketType ticketType = new TicketType();
+		ticketType.setName("General admission");
+		ticketType.setPrice(10.0);
+		ticketType.setTotalAvailable(capacity);
+		ticketType.setEvent(event);
+		event.getTicketTypes().add(ticketType);
+		return eventRepository.save(event);
+	}
+}
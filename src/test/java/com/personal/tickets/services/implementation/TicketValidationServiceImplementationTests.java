@@ -0,0 +1,187 @@
+package com.personal.tickets.services.implementation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.personal.tickets.domain.Entities.Event;
+import com.personal.tickets.domain.Entities.Ticket;
+import com.personal.tickets.domain.Entities.TicketType;
+import com.personal.tickets.domain.Entities.User;
+import com.personal.tickets.domain.Enums.EventStatusEnum;
+import com.personal.tickets.domain.Enums.TicketValidationMethod;
+import com.personal.tickets.domain.Enums.TicketValidationStatusEnum;
+import com.personal.tickets.domain.Requests.TicketScanRequest;
+import com.personal.tickets.domain.Results.TicketValidationResult;
+import com.personal.tickets.repositories.EventRepository;
+import com.personal.tickets.repositories.TicketRepository;
+import com.personal.tickets.repositories.TicketValidationRepository;
+import com.personal.tickets.repositories.UserRepository;
+import com.personal.tickets.services.TicketTypeService;
+import com.personal.tickets.services.TicketValidationService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TicketValidationServiceImplementationTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TicketValidationService ticketValidationService;
+
+	@Autowired
+	private TicketTypeService ticketTypeService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private TicketValidationRepository ticketValidationRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void firstScanWinsAndEveryScanIsRecorded() throws InterruptedException {
+		User attendee = userRepository.save(User.builder().id(UUID.randomUUID()).name("attendee").email("attendee@example.com").build());
+		Event event = publishedEvent(attendee);
+		UUID ticketTypeId = event.getTicketTypes().get(0).getId();
+		Ticket first = ticketTypeService.purchaseTicket(attendee.getId(), event.getId(), ticketTypeId);
+		Ticket second = ticketTypeService.purchaseTicket(attendee.getId(), event.getId(), ticketTypeId);
+		UUID firstQrValue = qrValueOf(first.getId());
+		double admittedBefore = scans(TicketValidationStatusEnum.VALID, TicketValidationMethod.QR_SCAN);
+		double rejectedBefore = scans(TicketValidationStatusEnum.INVALID, TicketValidationMethod.QR_SCAN);
+
+		TicketValidationResult firstScan = ticketValidationService.validateTicket(attendee.getId(), firstQrValue, TicketValidationMethod.QR_SCAN);
+		TicketValidationResult secondScan = ticketValidationService.validateTicket(attendee.getId(), firstQrValue, TicketValidationMethod.QR_SCAN);
+		TicketValidationResult manual = ticketValidationService.validateTicket(attendee.getId(), second.getId(), TicketValidationMethod.MANUAL_SCAN);
+		TicketValidationResult manualAgain = ticketValidationService.validateTicket(attendee.getId(), second.getId(), TicketValidationMethod.MANUAL_SCAN);
+		TicketValidationResult unknown = ticketValidationService.validateTicket(attendee.getId(), UUID.randomUUID(), TicketValidationMethod.QR_SCAN);
+
+		assertThat(firstScan).isEqualTo(new TicketValidationResult(first.getId(), TicketValidationStatusEnum.VALID));
+		assertThat(secondScan).isEqualTo(new TicketValidationResult(first.getId(), TicketValidationStatusEnum.INVALID));
+		assertThat(manual).isEqualTo(new TicketValidationResult(second.getId(), TicketValidationStatusEnum.VALID));
+		assertThat(manualAgain).isEqualTo(new TicketValidationResult(second.getId(), TicketValidationStatusEnum.INVALID));
+		assertThat(unknown.status()).isEqualTo(TicketValidationStatusEnum.INVALID);
+		assertThat(scans(TicketValidationStatusEnum.VALID, TicketValidationMethod.QR_SCAN)).isEqualTo(admittedBefore + 1);
+		assertThat(scans(TicketValidationStatusEnum.INVALID, TicketValidationMethod.QR_SCAN)).isEqualTo(rejectedBefore + 2);
+
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (ticketValidationRepository.findValidatedTicketIdsByEventId(event.getId()).size() < 2 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(ticketValidationRepository.findValidatedTicketIdsByEventId(event.getId()))
+				.containsExactlyInAnyOrder(first.getId(), second.getId());
+	}
+
+	@Test
+	void batchKeepsTheEarliestScanAndAnswersInRequestOrder() {
+		User attendee = userRepository.save(User.builder().id(UUID.randomUUID()).name("offline").email("offline@example.com").build());
+		Event event = publishedEvent(attendee);
+		UUID ticketTypeId = event.getTicketTypes().get(0).getId();
+		Ticket ticket = ticketTypeService.purchaseTicket(attendee.getId(), event.getId(), ticketTypeId);
+		UUID qrValue = qrValueOf(ticket.getId());
+		LocalDateTime doorsOpen = LocalDateTime.of(2026, 6, 1, 19, 0);
+
+		// The later scan is listed first; the earlier one must still be the valid one
+		List<TicketValidationResult> results = ticketValidationService.validateTickets(attendee.getId(), List.of(
+				new TicketScanRequest(ticket.getId(), TicketValidationMethod.MANUAL_SCAN, doorsOpen.plusMinutes(5)),
+				new TicketScanRequest(qrValue, TicketValidationMethod.QR_SCAN, doorsOpen),
+				new TicketScanRequest(UUID.randomUUID(), TicketValidationMethod.QR_SCAN, doorsOpen)));
+
+		assertThat(results).containsExactly(
+				new TicketValidationResult(ticket.getId(), TicketValidationStatusEnum.INVALID),
+				new TicketValidationResult(ticket.getId(), TicketValidationStatusEnum.VALID),
+				new TicketValidationResult(null, TicketValidationStatusEnum.INVALID));
+		// Written synchronously, so the rows are there as soon as the call returns
+		assertThat(ticketValidationRepository.findValidatedTicketIdsByEventId(event.getId())).containsExactly(ticket.getId());
+		assertThat(ticketValidationService.validateTicket(attendee.getId(), qrValue, TicketValidationMethod.QR_SCAN).status())
+				.isEqualTo(TicketValidationStatusEnum.INVALID);
+	}
+
+	@Test
+	void onlyTheOrganizerAndStaffMayScanAnEventsTickets() throws Exception {
+		User organizer = userRepository.save(User.builder().id(UUID.randomUUID()).name("organizer").email("organizer@example.com").build());
+		User stranger = userRepository.save(User.builder().id(UUID.randomUUID()).name("stranger").email("stranger@example.com").build());
+		Event event = publishedEvent(organizer);
+		User steward = userRepository.save(User.builder().id(UUID.randomUUID()).name("steward").email("steward@example.com")
+				.staffingEvents(List.of(event)).build());
+		Ticket ticket = ticketTypeService.purchaseTicket(stranger.getId(), event.getId(), event.getTicketTypes().get(0).getId());
+		String scan = "{\"id\":\"" + qrValueOf(ticket.getId()) + "\",\"method\":\"QR_SCAN\"}";
+
+		mockMvc.perform(post("/api/v1/ticket-validations")
+						.with(jwt().jwt(token -> token.subject(stranger.getId().toString())))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(scan))
+				.andExpect(status().isForbidden());
+		// A scan without a method is rejected as a bad request, not a server error
+		mockMvc.perform(post("/api/v1/ticket-validations/batch")
+						.with(jwt().jwt(token -> token.subject(stranger.getId().toString())))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"scans\":[" + scan + "]}"))
+				.andExpect(status().isForbidden());
+		// A scan without a method is rejected as a bad request, not a server error
+		mockMvc.perform(post("/api/v1/ticket-validations/batch")
+						.with(jwt().jwt(token -> token.subject(organizer.getId().toString())))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"scans\":[{\"id\":\"" + ticket.getId() + "\"}]}"))
+				.andExpect(status().isBadRequest());
+
+		// The rejected attempts did not use up the ticket
+		mockMvc.perform(post("/api/v1/ticket-validations")
+						.with(jwt().jwt(token -> token.subject(steward.getId().toString())))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(scan))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.status").value("VALID"));
+	}
+
+	private double scans(TicketValidationStatusEnum status, TicketValidationMethod method) {
+		return meterRegistry.get("tickets.scans").tag("status", status.name()).tag("method", method.name()).counter().count();
+	}
+
+	private UUID qrValueOf(UUID ticketId) {
+		return transactionTemplate.execute(status ->
+				UUID.fromString(ticketRepository.findById(ticketId).orElseThrow().getQrCodes().get(0).getValue()));
+	}
+
+	private Event publishedEvent(User organizer) {
+		Event event = new Event();
+		event.setName("Doors open");
+		event.setVenue("Arena");
+		event.setStatus(EventStatusEnum.PUBLISHED);
+		event.setOrganizer(organizer);
+		TicketType ticketType = new TicketType();
+		ticketType.setName("General admission");
+		ticketType.setPrice(10.0);
+		ticketType.setEvent(event);
+		event.getTicketTypes().add(ticketType);
+		return eventRepository.save(event);
+	}
+}
@@ -0,0 +1,94 @@
+package com.personal.tickets.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.personal.tickets.domain.Projections.ScanIndexEntry;
+
+class EventScanIndexTests {
+
+	@Test
+	void resolvesQrValuesAndTicketIdsToTheSameSlot() {
+		List<ScanIndexEntry> entries = entries(10_000);
+		EventScanIndex index = EventScanIndex.build(UUID.randomUUID(), entries, Set.of());
+
+		for (ScanIndexEntry entry : entries) {
+			int slot = index.slotForQrValue(UUID.fromString(entry.qrValue()));
+			assertThat(slot).isNotNegative().isEqualTo(index.slotForTicket(entry.ticketId()));
+			assertThat(index.ticketId(slot)).isEqualTo(entry.ticketId());
+		}
+		assertThat(index.slotForQrValue(UUID.randomUUID())).isEqualTo(-1);
+		assertThat(index.size()).isEqualTo(10_000);
+	}
+
+	@Test
+	void ticketsValidatedBeforeLoadingAreAlreadyUsed() {
+		List<ScanIndexEntry> entries = entries(3);
+		EventScanIndex index = EventScanIndex.build(UUID.randomUUID(), entries, Set.of(entries.get(1).ticketId()));
+
+		assertThat(index.markUsed(index.slotForTicket(entries.get(0).ticketId()))).isTrue();
+		assertThat(index.markUsed(index.slotForTicket(entries.get(1).ticketId()))).isFalse();
+	}
+
+	@Test
+	void exactlyOneOfManyConcurrentScansOfATicketWins() throws InterruptedException {
+		List<ScanIndexEntry> entries = entries(128);
+		EventScanIndex index = EventScanIndex.build(UUID.randomUUID(), entries, Set.of());
+		AtomicInteger wins = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+
+		try (ExecutorService scanners = Executors.newFixedThreadPool(16)) {
+			for (int i = 0; i < 16 * entries.size(); i++) {
+				UUID qrValue = UUID.fromString(entries.get(i % entries.size()).qrValue());
+				scanners.submit(() -> {
+					start.await();
+					if (index.markUsed(index.slotForQrValue(qrValue))) {
+						wins.incrementAndGet();
+					}
+					return null;
+				});
+			}
+			start.countDown();
+		}
+
+		assertThat(wins.get()).isEqualTo(entries.size());
+	}
+
+	@Test
+	void lookupResolvesEveryLoadedIndexInOneProbe() {
+		List<ScanIndexEntry> first = entries(5);
+		List<ScanIndexEntry> second = entries(7);
+		EventScanIndex[] indexes = {
+				EventScanIndex.build(UUID.randomUUID(), first, Set.of()),
+				EventScanIndex.build(UUID.randomUUID(), second, Set.of()) };
+		ScanLookup lookup = ScanLookup.build(indexes);
+
+		for (EventScanIndex index : indexes) {
+			for (ScanIndexEntry entry : index == indexes[0] ? first : second) {
+				int position = lookup.positionOfQrValue(UUID.fromString(entry.qrValue()));
+				assertThat(position).isEqualTo(lookup.positionOfTicket(entry.ticketId()));
+				assertThat(lookup.index(position)).isSameAs(index);
+				assertThat(lookup.slot(position)).isEqualTo(index.slotForTicket(entry.ticketId()));
+			}
+		}
+		assertThat(lookup.positionOfTicket(UUID.randomUUID())).isEqualTo(-1);
+	}
+
+	private static List<ScanIndexEntry> entries(int count) {
+		List<ScanIndexEntry> entries = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			entries.add(new ScanIndexEntry(UUID.randomUUID().toString(), UUID.randomUUID()));
+		}
+		return entries;
+	}
+}